@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.6"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -20,6 +21,15 @@ configurations {
 	}
 }
 
+// 부하 테스트 도구 (서버 코드와 분리, 서버에는 포함되지 않음)
+sourceSets {
+	create("loadtest")
+}
+
+val loadtestImplementation by configurations.getting {
+	extendsFrom(configurations.implementation.get())
+}
+
 repositories {
 	mavenCentral()
 }
@@ -29,6 +39,8 @@ dependencies {
 	implementation ("org.springframework.boot:spring-boot-starter-webflux")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-websocket")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	compileOnly("org.projectlombok:lombok")
 	developmentOnly("org.springframework.boot:spring-boot-devtools")
 	developmentOnly("org.springframework.boot:spring-boot-docker-compose")
@@ -41,3 +53,63 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 부하 테스트: 서버를 api.korean.base-url=http://localhost:18080/api 로 띄운 뒤 ./gradlew loadTest -Plt.max-rooms=300
+// lt.* / fake.* 프로퍼티는 그대로 시스템 프로퍼티로 넘어간다 (LoadGenerator / FakeStdictServer 문서 참고)
+fun JavaExec.forwardProperties(vararg prefixes: String) {
+	project.properties
+		.filterKeys { key -> prefixes.any { key.startsWith(it) } }
+		.forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
+
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Headless STOMP load generator (ramps rooms until latency/error limits break)"
+	classpath = sourceSets["loadtest"].runtimeClasspath
+	mainClass = "com.example.demo.loadtest.LoadGenerator"
+	workingDir = projectDir
+	forwardProperties("lt.", "fake.")
+}
+
+tasks.register<JavaExec>("fakeStdict") {
+	group = "verification"
+	description = "Local stand-in for the stdict /search.do endpoint"
+	classpath = sourceSets["loadtest"].runtimeClasspath
+	mainClass = "com.example.demo.loadtest.FakeStdictServer"
+	workingDir = projectDir
+	forwardProperties("fake.")
+}
+
+// 음절 승패표만 풀어서 저장하고 종료 (DB 사전 기준, 실행 중인 서버와 겹치지 않게 임의 포트 + 방 스냅샷 로그/게임 기록 끔)
+// 저장 위치: kkutu.solver.table-path (기본 ./data/syllable-values.bin)
+tasks.register<org.springframework.boot.gradle.tasks.run.BootRun>("solveSyllables") {
+	group = "application"
+	description = "Solves the syllable win/loss table for the current dictionary and exits"
+	classpath = sourceSets["main"].runtimeClasspath
+	mainClass = "com.example.demo.Toy1Application"
+	workingDir = projectDir
+	args("--server.port=0", "--kkutu.solver.exit-after-solve=true", "--kkutu.snapshot.path=", "--kkutu.journal.enabled=false")
+}
+
+// 사전 CSV 적재: ./gradlew importDictionary [-Pcsv=./korean_words.csv]
+tasks.register<org.springframework.boot.gradle.tasks.run.BootRun>("importDictionary") {
+	group = "application"
+	description = "Imports the dictionary CSV into kkutu_words and exits"
+	classpath = sourceSets["main"].runtimeClasspath
+	mainClass = "com.example.demo.Toy1Application"
+	workingDir = projectDir
+	args("--server.port=0", "--kkutu.import.exit-after-import=true", "--kkutu.snapshot.path=", "--kkutu.journal.enabled=false",
+		"--kkutu.import.csv-path=" + (project.findProperty("csv") ?: "./korean_words.csv"))
+}
+
+// 벤치마크: ./gradlew jmh  (결과: build/results/jmh/results.json)
+// 특정 벤치마크만: ./gradlew jmh -Pjmh.includes=RuleEngine
+jmh {
+	jmhVersion = "1.37"
+	profilers = listOf("gc")
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	(findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+}
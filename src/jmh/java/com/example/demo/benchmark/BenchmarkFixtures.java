@@ -0,0 +1,127 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.WordsRepo.WordRepository;
+import com.example.demo.dictionary.DeadEndDetector;
+import com.example.demo.dictionary.SyllableValueTable;
+import com.example.demo.dictionary.WordDictionary;
+import com.example.demo.journal.GameJournal;
+import com.example.demo.metrics.GameMetrics;
+import com.example.demo.persistence.RoomSnapshotService;
+import com.example.demo.service.GameRoomService;
+import com.example.demo.service.KoreanApiService;
+import com.example.demo.service.LocalRoomStore;
+import com.example.demo.service.RoomBroadcaster;
+import com.example.demo.service.RoomExecutor;
+import com.example.demo.service.WordValidationCache;
+import com.example.demo.timer.TimingWheel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import reactor.core.publisher.Mono;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 벤치마크용 서비스 조립 (Spring 컨텍스트 없이).
+ * - 국어원 API: 항상 유효한 결과를 즉시 돌려주는 stub
+ * - 방 mailbox: 호출 스레드에서 바로 실행 (Runnable::run)
+ * - 브로커: 메시지를 버리는 채널
+ * - 방 스냅샷: 경로 없음 (비활성, 로그 비용은 RoomSnapshotLogBenchmark 에서 따로 잰다)
+ * - 게임 기록 저널: DB 없음 (비활성)
+ * - 턴 타이머: 실제 TimingWheel (턴마다 등록/취소 비용 포함)
+ */
+final class BenchmarkFixtures {
+
+    // 휠 스레드는 데몬이라 fork 종료 시 같이 끝난다
+    private static final TimingWheel TIMING_WHEEL = new TimingWheel("bench-timing-wheel", 100, 512);
+
+    private BenchmarkFixtures() {
+    }
+
+    static GameMetrics metrics() {
+        return new GameMetrics(new SimpleMeterRegistry());
+    }
+
+    static GameRoomService gameRoomService(WordDictionary wordDictionary) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        GameMetrics metrics = metrics();
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> true);
+        RoomExecutor roomExecutor = new RoomExecutor(Runnable::run);
+        RoomBroadcaster broadcaster = new RoomBroadcaster(messagingTemplate, objectMapper, metrics, roomExecutor);
+        KoreanApiService dictionary = new StubKoreanApiService(objectMapper, metrics);
+        return new GameRoomService(event -> { }, broadcaster, dictionary, roomExecutor, metrics, wordDictionary,
+                new DeadEndDetector(new SyllableValueTable(wordDictionary)), new LocalRoomStore(), new RoomSnapshotService(null),
+                new GameJournal(null), TIMING_WHEEL);
+    }
+
+    /** words 를 적재한 사전 (DB 대신 findAllNameAndPart 만 구현한 저장소 프록시) */
+    static WordDictionary wordDictionary(Collection<String> words) {
+        List<Object[]> rows = new ArrayList<>();
+        for (String word : words) {
+            rows.add(new Object[]{word, WordDictionary.NOUN_PART});
+        }
+        WordRepository repository = (WordRepository) Proxy.newProxyInstance(
+                WordRepository.class.getClassLoader(), new Class<?>[]{WordRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAllNameAndPart")) return rows;
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        WordDictionary dictionary = new WordDictionary(repository, event -> { });
+        dictionary.reload();
+        return dictionary;
+    }
+
+    /** korean_words.csv 와 비슷한 2~4음절 한글 단어 count 개 (seed 가 같으면 같은 단어) */
+    static List<String> syntheticWords(int count, int seed) {
+        Set<String> words = new LinkedHashSet<>();
+        int x = seed;
+        while (words.size() < count) {
+            x = x * 1103515245 + 12345;
+            int length = 2 + Math.floorMod(x >>> 8, 3);
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                x = x * 1103515245 + 12345;
+                chars[i] = (char) (0xAC00 + Math.floorMod(x >>> 4, 11172));
+            }
+            words.add(new String(chars));
+        }
+        return new ArrayList<>(words);
+    }
+
+    /** 서비스가 System.out 에 남기는 로그는 측정 대상에서 제외 */
+    static void silenceStdout() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    static final class StubKoreanApiService extends KoreanApiService {
+
+        StubKoreanApiService(ObjectMapper objectMapper, GameMetrics metrics) {
+            super(null, objectMapper, new WordValidationCache(objectMapper), metrics, null);
+        }
+
+        @Override
+        public Map<String, Object> validateWord(String word) {
+            return validResult();
+        }
+
+        @Override
+        public Mono<Map<String, Object>> validateWordAsync(String word) {
+            return Mono.just(validResult());
+        }
+
+        private static Map<String, Object> validResult() {
+            Map<String, Object> result = new HashMap<>();
+            result.put("isValid", true);
+            result.put("definition", "벤치마크");
+            return result;
+        }
+    }
+}
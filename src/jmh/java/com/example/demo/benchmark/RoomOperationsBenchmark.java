@@ -0,0 +1,58 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DTO.GameRoom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameRoom 턴 순환 / 플레이어 조회 / 퇴장·재입장 벤치마크.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoomOperationsBenchmark {
+
+    @Param({"2", "4", "8"})
+    public int players;
+
+    private GameRoom room;
+    private String[] uids;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        room = new GameRoom("bench", "bench", players, 0);
+        uids = new String[players];
+        for (int i = 0; i < players; i++) {
+            uids[i] = "uid-" + i;
+            room.addPlayer(uids[i], "player" + i);
+        }
+    }
+
+    @Benchmark
+    public GameRoom.PlayerInfo nextPlayer() {
+        return room.getNextPlayer();
+    }
+
+    @Benchmark
+    public GameRoom.PlayerInfo playerByUid() {
+        return room.getPlayerByUid(uids[cursor++ % players]);
+    }
+
+    @Benchmark
+    public int removeAndRejoin() {
+        // 마지막 플레이어가 나갔다가 다시 들어오는 경우 (방 크기는 유지)
+        String uid = uids[players - 1];
+        room.removePlayer(uid);
+        room.addPlayer(uid, "rejoin");
+        return room.getCurrentTurnIndex();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DTO.GameRoom;
+import com.example.demo.persistence.RoomSnapshotLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 스냅샷 로그의 턴당 쓰기 비용 (STATE 1개 + WORD 1개).
+ * - none: 디스크 반영 없음 (매핑된 버퍼 복사 비용만)
+ * - batched: 별도 스레드가 200ms 마다 force (RoomSnapshotService 기본 설정)
+ * - every: 턴마다 force (턴 경로에서 fsync 하면 얼마나 느린지 비교용)
+ * 게임 하나는 200턴 후 끝나고 (REMOVED) 새 게임이 시작되므로 compaction 비용도 평균에 포함된다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomSnapshotLogBenchmark {
+
+    private static final int TURNS_PER_GAME = 200;
+
+    @Param({"none", "batched", "every"})
+    public String sync;
+
+    @Param({"4"})
+    public int players;
+
+    private Path directory;
+    private RoomSnapshotLog log;
+    private ScheduledExecutorService flusher;
+    private GameRoom room;
+    private int games;
+    private int turn;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("room-snapshot-bench");
+        log = RoomSnapshotLog.open(directory.resolve("rooms.log"), 1 << 20);
+        if (sync.equals("batched")) {
+            flusher = Executors.newSingleThreadScheduledExecutor();
+            flusher.scheduleAtFixedRate(log::force, 200, 200, TimeUnit.MILLISECONDS);
+        }
+        newGame();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (flusher != null) flusher.shutdownNow();
+        log.close();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private void newGame() {
+        room = new GameRoom("bench-" + games++, "bench", players, 0);
+        for (int i = 0; i < players; i++) {
+            room.addPlayer("uid-" + i, "player" + i);
+        }
+        turn = 0;
+    }
+
+    @Benchmark
+    public int turn() throws IOException {
+        if (turn == TURNS_PER_GAME) {
+            log.appendRemoved(room.getRoomId());
+            newGame();
+        }
+        String word = "단어" + (char) ('가' + turn);
+        room.setLastWord(word);
+        room.getNextPlayer();
+        log.appendWord(room.getRoomId(), word);
+        log.appendState(room);
+        if (sync.equals("every")) log.force();
+        return ++turn;
+    }
+}
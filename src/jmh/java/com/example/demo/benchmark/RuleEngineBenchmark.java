@@ -0,0 +1,94 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DTO.GameRoom;
+import com.example.demo.dictionary.HangulRules;
+import com.example.demo.service.GameRoomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 규칙 엔진 벤치마크.
+ * - getAlternativeStartChar: 완성형 한글 전체(11,172자)에 대한 두음법칙 변환 (문자열 호환 API)
+ * - HangulRules.alternativeOf / chainsFrom: 같은 변환/검사의 char 테이블 버전
+ * - validateWordSynchronously: 패턴 → 한방 단어 → 끝말/두음 → 중복 검사 전체 (국어원 API 는 stub)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RuleEngineBenchmark {
+
+    private static final String[] CHAIN_WORDS = {"과자", "자동차", "차량", "양말", "말벌"};
+
+    private GameRoomService gameRoomService;
+    private String roomId;
+    private String[] syllables;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.silenceStdout();
+        List<String> dictionaryWords = new ArrayList<>(BenchmarkFixtures.syntheticWords(50_000, 7));
+        dictionaryWords.addAll(List.of(CHAIN_WORDS));
+        gameRoomService = BenchmarkFixtures.gameRoomService(BenchmarkFixtures.wordDictionary(dictionaryWords));
+
+        GameRoom room = gameRoomService.createRoom("bench", 8, 0);
+        roomId = room.getRoomId();
+        room.setLastWord("사과");
+        // 게임 중반 정도의 사용 단어
+        for (String used : dictionaryWords.subList(0, 100)) {
+            room.getUsedWords().add(used);
+        }
+
+        syllables = new String[11172];
+        for (int i = 0; i < syllables.length; i++) {
+            syllables[i] = String.valueOf((char) (0xAC00 + i));
+        }
+    }
+
+    @Benchmark
+    public void alternativeStartCharAllSyllables(Blackhole bh) {
+        for (String syllable : syllables) {
+            bh.consume(gameRoomService.getAlternativeStartChar(syllable));
+        }
+    }
+
+    @Benchmark
+    public String alternativeStartCharRieul() {
+        return gameRoomService.getAlternativeStartChar("력");
+    }
+
+    @Benchmark
+    public void alternativeOfAllSyllables(Blackhole bh) {
+        for (int i = 0; i < HangulRules.SYLLABLE_COUNT; i++) {
+            bh.consume(HangulRules.alternativeOf((char) (HangulRules.SYLLABLE_BASE + i)));
+        }
+    }
+
+    @Benchmark
+    public boolean chainsFrom() {
+        return HangulRules.chainsFrom("능력", CHAIN_WORDS[cursor++ % CHAIN_WORDS.length]);
+    }
+
+    @Benchmark
+    public Map<String, Object> validateAcceptedWord() {
+        // lastWord 가 "사과" 로 고정이므로 "과자" 는 규칙을 모두 통과해서 stub API 까지 도달
+        return gameRoomService.validateWordSynchronously(roomId, CHAIN_WORDS[0], "player");
+    }
+
+    @Benchmark
+    public Map<String, Object> validateRuleMismatch() {
+        // 끝말 불일치 → API 호출 전 단계에서 실패
+        return gameRoomService.validateWordSynchronously(roomId, CHAIN_WORDS[1 + (cursor++ & 3)], "player");
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dictionary.SyllableSolver;
+import com.example.demo.dictionary.SyllableValues;
+import com.example.demo.dictionary.WordDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 음절 승패표 전체 풀이 시간 (사전 크기 × 병렬도). 사전 import 마다 다시 돌려도 되는지 확인용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SyllableSolverBenchmark {
+
+    @Param({"50000", "400000"})
+    public int words;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private WordDictionary.Snapshot snapshot;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.silenceStdout();
+        snapshot = BenchmarkFixtures.wordDictionary(BenchmarkFixtures.syntheticWords(words, 5)).snapshot();
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public SyllableValues solve() {
+        return SyllableSolver.solve(snapshot, SyllableValues.MAX_PLIES, 1, pool);
+    }
+}
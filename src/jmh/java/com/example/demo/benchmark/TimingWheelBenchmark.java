@@ -0,0 +1,55 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.timer.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 턴마다 일어나는 "이전 턴 타이머 취소 + 새 마감 등록" 비용.
+ * pending 개의 마감(방 수)이 걸려 있는 휠에서 잰다. 휠 스레드가 등록/취소를 칸에 반영하는 비용도 같이 돈다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimingWheelBenchmark {
+
+    private static final Runnable NOOP = () -> { };
+
+    @Param({"1000", "100000"})
+    public int pending;
+
+    private TimingWheel wheel;
+    private TimingWheel.Timeout[] timeouts;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        wheel = new TimingWheel("bench-timing-wheel", 100, 512);
+        timeouts = new TimingWheel.Timeout[pending];
+        for (int i = 0; i < pending; i++) {
+            timeouts[i] = wheel.schedule(NOOP, 30_000);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        wheel.stop();
+    }
+
+    @Benchmark
+    public TimingWheel.Timeout rescheduleTurn() {
+        int i = cursor++ % pending;
+        timeouts[i].cancel();
+        return timeouts[i] = wheel.schedule(NOOP, 30_000);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dictionary.UsedWordSet;
+import com.example.demo.dictionary.WordDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용 단어 조회 벤치마크 (게임 길이별).
+ * - strings: 기존 HashSet&lt;String&gt;
+ * - ids: 사전 id 기반 UsedWordSet (조회 시 단어 → id 해시 조회 포함)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UsedWordLookupBenchmark {
+
+    @Param({"20", "100", "500", "2000"})
+    public int gameLength;
+
+    @Param({"strings", "ids"})
+    public String impl;
+
+    private Set<String> stringSet;
+    private UsedWordSet idSet;
+    private String[] hits;
+    private String[] misses;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        List<String> words = BenchmarkFixtures.syntheticWords(50_000, 11);
+        WordDictionary.Snapshot snapshot = BenchmarkFixtures.wordDictionary(words).snapshot();
+
+        stringSet = new HashSet<>();
+        idSet = new UsedWordSet(snapshot);
+        hits = new String[gameLength];
+        misses = new String[gameLength];
+        for (int i = 0; i < gameLength; i++) {
+            hits[i] = words.get(i);
+            stringSet.add(new String(hits[i]));
+            idSet.add(hits[i]);
+            misses[i] = words.get(gameLength + i);
+        }
+    }
+
+    // 새 String 인스턴스로 조회해야 hashCode 캐시 없이 실제 입력(STOMP 페이로드)과 같은 조건이 된다
+    @Benchmark
+    public boolean containsHit() {
+        return contains(new String(hits[cursor++ % gameLength]));
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return contains(new String(misses[cursor++ % gameLength]));
+    }
+
+    private boolean contains(String word) {
+        return impl.equals("ids") ? idSet.contains(word) : stringSet.contains(word);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dictionary.UsedWordSet;
+import com.example.demo.dictionary.WordDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 1개의 사용 단어 집합 메모리 비교.
+ * 한 번의 op 가 "gameLength 단어짜리 게임 한 판" 이다.
+ *
+ * - gc.alloc.rate.norm: 한 판 동안 할당한 바이트 (입력 단어 String 복사본 + 집합 + 리사이즈 잔여물)
+ * - 게임이 끝났을 때 집합이 붙잡고 있는 추정 바이트는 setup 에서 한 번 계산해서 출력한다.
+ *   (ids: UsedWordSet.estimatedBytes / strings: 같은 추정식을 사전 없는 UsedWordSet 으로 계산)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UsedWordMemoryBenchmark {
+
+    @Param({"50", "200", "1000"})
+    public int gameLength;
+
+    @Param({"strings", "ids"})
+    public String impl;
+
+    // 사전 밖 단어 비율 (국어원 API 로만 확인되는 단어)
+    @Param({"0.0", "0.05"})
+    public double outsideDictionary;
+
+    private WordDictionary.Snapshot snapshot;
+    private String[] game;
+
+    @Setup
+    public void setup() {
+        List<String> words = BenchmarkFixtures.syntheticWords(50_000, 3);
+        snapshot = BenchmarkFixtures.wordDictionary(words).snapshot();
+        List<String> outside = BenchmarkFixtures.syntheticWords(gameLength, 999);
+
+        game = new String[gameLength];
+        int outsideEvery = outsideDictionary > 0 ? (int) Math.round(1 / outsideDictionary) : Integer.MAX_VALUE;
+        for (int i = 0; i < gameLength; i++) {
+            game[i] = (i % outsideEvery == outsideEvery - 1) ? outside.get(i) : words.get(i);
+        }
+
+        UsedWordSet retained = impl.equals("ids") ? new UsedWordSet(snapshot) : new UsedWordSet();
+        for (String word : game) {
+            retained.add(word);
+        }
+        System.out.println("[retained] impl=" + impl + " gameLength=" + gameLength +
+                " outsideDictionary=" + outsideDictionary + " bytesPerRoom=" + retained.estimatedBytes());
+    }
+
+    @Benchmark
+    public Object playGame() {
+        if (impl.equals("ids")) {
+            UsedWordSet used = new UsedWordSet(snapshot);
+            for (String word : game) {
+                used.add(new String(word)); // STOMP 페이로드로 들어온 새 문자열
+            }
+            return used;
+        }
+        Set<String> used = new HashSet<>();
+        for (String word : game) {
+            used.add(new String(word));
+        }
+        return used;
+    }
+}
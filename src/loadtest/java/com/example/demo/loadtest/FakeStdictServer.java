@@ -0,0 +1,149 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 국어원 /search.do 를 흉내 내는 로컬 서버 (부하 테스트 전용).
+ * korean_words.csv 에 있는 단어면 total=1 + 풀이, 없으면 total=0 을 돌려준다.
+ *
+ * 지연은 스레드를 재우지 않고 타이머로 응답을 미뤄서 만든다. (지연이 길어도 동시 요청 수가 스레드 수에 묶이지 않음)
+ *
+ * 시스템 프로퍼티:
+ *   fake.port (18080), fake.latency-ms (80), fake.jitter-ms (40), fake.error-rate (0.0), fake.words (korean_words.csv)
+ *
+ * 서버 실행: KOREAN_API=dummy ./gradlew bootRun --args='--api.korean.base-url=http://localhost:18080/api'
+ */
+public final class FakeStdictServer {
+
+    private final HttpServer server;
+    private final ScheduledExecutorService responder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoadTestWords words;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double errorRate;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    FakeStdictServer(LoadTestWords words, int port, long latencyMillis, long jitterMillis, double errorRate) throws IOException {
+        this.words = words;
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.errorRate = errorRate;
+        this.responder = Executors.newScheduledThreadPool(4, r -> {
+            Thread thread = new Thread(r, "fake-stdict");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.server.setExecutor(Executors.newFixedThreadPool(4));
+        this.server.createContext("/", this::handle);
+    }
+
+    public static void main(String[] args) throws IOException {
+        FakeStdictServer fake = fromSystemProperties(LoadTestWords.load(Path.of(System.getProperty("fake.words", "korean_words.csv"))));
+        fake.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(fake::stop));
+    }
+
+    static FakeStdictServer fromSystemProperties(LoadTestWords words) throws IOException {
+        return new FakeStdictServer(words,
+                Integer.getInteger("fake.port", 18080),
+                Long.getLong("fake.latency-ms", 80),
+                Long.getLong("fake.jitter-ms", 40),
+                Double.parseDouble(System.getProperty("fake.error-rate", "0.0")));
+    }
+
+    void start() {
+        server.start();
+        System.out.println("--- [FAKE STDICT] Listening on :" + server.getAddress().getPort() +
+                " (latency " + latencyMillis + "±" + jitterMillis + "ms, error rate " + errorRate + ")");
+    }
+
+    void stop() {
+        server.stop(0);
+        responder.shutdownNow();
+        System.out.println("--- [FAKE STDICT] Stopped. Requests: " + requests.sum() + ", injected errors: " + errors.sum());
+    }
+
+    long requestCount() {
+        return requests.sum();
+    }
+
+    private void handle(HttpExchange exchange) {
+        requests.increment();
+        if (!exchange.getRequestURI().getPath().endsWith("/search.do")) {
+            respond(exchange, 404, new byte[0]);
+            return;
+        }
+        long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        responder.schedule(() -> {
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errors.increment();
+                respond(exchange, 500, "{\"error\":\"injected\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            respond(exchange, 200, searchResult(queryParam(exchange, "q")));
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private byte[] searchResult(String word) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode channel = root.putObject("channel");
+        if (word != null && words.contains(word)) {
+            channel.put("total", 1);
+            ObjectNode item = channel.putArray("item").addObject();
+            item.put("word", word);
+            item.putObject("sense").put("definition", words.definitionOf(word));
+        } else {
+            channel.put("total", 0);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(root);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) return null;
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) {
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("!!! [FAKE STDICT] Failed to respond: " + e.getMessage());
+        }
+    }
+}
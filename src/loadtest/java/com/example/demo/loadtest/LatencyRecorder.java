@@ -0,0 +1,54 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 구간(step)별 지연 샘플 기록기. 구간이 끝나면 {@link #drain()} 으로 꺼내 백분위를 계산한다.
+ * 부하 생성기 전용이라 정밀한 히스토그램 대신 단순 배열 + 정렬을 쓴다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[4096];
+    private int count;
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    /** 지금까지의 샘플을 꺼내고 비운다 */
+    synchronized Snapshot drain() {
+        long[] drained = Arrays.copyOf(samples, count);
+        count = 0;
+        Arrays.sort(drained);
+        return new Snapshot(drained);
+    }
+
+    static final class Snapshot {
+        private final long[] sorted;
+
+        private Snapshot(long[] sorted) {
+            this.sorted = sorted;
+        }
+
+        int count() {
+            return sorted.length;
+        }
+
+        /** q (0~1) 백분위, 밀리초 */
+        double percentileMillis(double q) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(q * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+
+        String describe() {
+            if (sorted.length == 0) return "n=0";
+            return String.format("n=%d p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                    sorted.length, percentileMillis(0.50), percentileMillis(0.95), percentileMillis(0.99),
+                    sorted[sorted.length - 1] / 1_000_000.0);
+        }
+    }
+}
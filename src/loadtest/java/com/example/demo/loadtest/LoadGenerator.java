@@ -0,0 +1,267 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 헤드리스 부하 생성기.
+ *
+ * 방 수를 단계(step)별로 늘리면서 각 단계가 끝날 때 턴 왕복 시간 / 방송 도착 지연 / 오류율을 측정하고,
+ * 처음으로 기준(p99, 오류율)을 넘는 단계 직전의 방 수를 "최대 안정 방 수" 로 보고한다.
+ *
+ * - 턴 왕복: 단어 제출(/app/game/{roomId}/word) → 내 단어에 대한 WORD_ACCEPTED / WORD_REJECTED 수신
+ * - 방송 지연(fan-out): 단어 제출 → 방의 각 구독자에게 WORD_ACCEPTED 도착
+ * - 오류: 접속/입장 실패, 전송 오류, 일정 시간 이벤트가 없는 방(stall)
+ *
+ * 실행 순서:
+ *   1) KOREAN_API=dummy ./gradlew bootRun --args='--api.korean.base-url=http://localhost:18080/api'
+ *   2) ./gradlew loadTest -Plt.max-rooms=300
+ * 기본값(lt.fake-stdict=true)이면 생성기가 FakeStdictServer 를 같은 프로세스에서 띄운다. (fake.* 프로퍼티 적용)
+ * 서버와 생성기는 다른 머신/코어에서 돌려야 생성기 자체가 병목이 되지 않는다.
+ */
+public final class LoadGenerator {
+
+    private final String target;
+    private final int playersPerRoom;
+    private final int roomsPerStep;
+    private final int stepSeconds;
+    private final int maxRooms;
+    private final long thinkMillis;
+    private final double p99LimitMillis;
+    private final double maxErrorRate;
+    private final long stallNanos;
+
+    private final LoadTestWords words;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final WebSocketStompClient stompClient;
+    private final ScheduledExecutorService scheduler;
+
+    private final LatencyRecorder turnRoundTrip = new LatencyRecorder();
+    private final LatencyRecorder fanOut = new LatencyRecorder();
+    private final LongAdder acceptedTurns = new LongAdder();
+    private final LongAdder rejectedTurns = new LongAdder();
+    private final LongAdder forfeits = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder transportErrors = new LongAdder();
+
+    private final List<SimulatedRoom> rooms = new ArrayList<>();
+
+    private LoadGenerator(LoadTestWords words) {
+        this.words = words;
+        this.target = System.getProperty("lt.target", "http://localhost:8080");
+        this.playersPerRoom = Integer.getInteger("lt.players-per-room", 2);
+        this.roomsPerStep = Integer.getInteger("lt.rooms-per-step", 10);
+        this.stepSeconds = Integer.getInteger("lt.step-seconds", 30);
+        this.maxRooms = Integer.getInteger("lt.max-rooms", 500);
+        this.thinkMillis = Long.getLong("lt.think-ms", 300);
+        this.p99LimitMillis = Double.parseDouble(System.getProperty("lt.p99-limit-ms", "1000"));
+        this.maxErrorRate = Double.parseDouble(System.getProperty("lt.max-error-rate", "0.01"));
+        this.stallNanos = TimeUnit.SECONDS.toNanos(Long.getLong("lt.stall-seconds", 15));
+
+        this.scheduler = Executors.newScheduledThreadPool(Integer.getInteger("lt.threads", 8), r -> {
+            Thread thread = new Thread(r, "loadtest");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.stompClient = new WebSocketStompClient(new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        this.stompClient.setMessageConverter(new CompositeMessageConverter(List.of(
+                new StringMessageConverter(), new MappingJackson2MessageConverter())));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestWords words = LoadTestWords.load(Path.of(System.getProperty("lt.words", "korean_words.csv")));
+
+        FakeStdictServer fake = null;
+        if (Boolean.parseBoolean(System.getProperty("lt.fake-stdict", "true"))) {
+            fake = FakeStdictServer.fromSystemProperties(words);
+            fake.start();
+        }
+
+        LoadGenerator generator = new LoadGenerator(words);
+        try {
+            generator.run();
+        } finally {
+            generator.shutdown();
+            if (fake != null) fake.stop();
+        }
+    }
+
+    private void run() throws InterruptedException {
+        System.out.println("--- [LOADTEST] Target " + target + ", " + playersPerRoom + " players/room, +" + roomsPerStep +
+                " rooms every " + stepSeconds + "s (max " + maxRooms + "), think " + thinkMillis + "ms");
+        System.out.println("--- [LOADTEST] Stable = turn p99 <= " + p99LimitMillis + "ms and error rate <= " + maxErrorRate);
+
+        int maxStableRooms = 0;
+        String breakingStep = null;
+        while (rooms.size() < maxRooms) {
+            addRooms(Math.min(roomsPerStep, maxRooms - rooms.size()));
+            resetWindow(); // 이전 단계 샘플은 버린다
+            int stalls = 0;
+            for (int second = 0; second < stepSeconds; second++) {
+                Thread.sleep(1000);
+                for (SimulatedRoom room : rooms) {
+                    if (room.checkStalled(stallNanos)) stalls++;
+                }
+            }
+
+            StepResult step = collect(rooms.size(), stalls);
+            System.out.println(step.describe());
+            if (step.isStable(p99LimitMillis, maxErrorRate)) {
+                maxStableRooms = rooms.size();
+            } else {
+                breakingStep = step.describe();
+                break;
+            }
+        }
+
+        System.out.println("=== [LOADTEST] Max stable rooms: " + maxStableRooms +
+                " (" + (maxStableRooms * playersPerRoom) + " clients)");
+        System.out.println("=== [LOADTEST] " + (breakingStep != null ? "First unstable step: " + breakingStep
+                : "Reached lt.max-rooms without breaking the limits"));
+    }
+
+    private void addRooms(int count) {
+        for (int i = 0; i < count; i++) {
+            SimulatedRoom room = new SimulatedRoom(this, rooms.size());
+            rooms.add(room);
+            scheduler.execute(room::start);
+        }
+    }
+
+    private void resetWindow() {
+        turnRoundTrip.drain();
+        fanOut.drain();
+        acceptedTurns.reset();
+        rejectedTurns.reset();
+        forfeits.reset();
+        connectFailures.reset();
+        transportErrors.reset();
+    }
+
+    private StepResult collect(int roomCount, int stalls) {
+        return new StepResult(roomCount, turnRoundTrip.drain(), fanOut.drain(),
+                acceptedTurns.sumThenReset(), rejectedTurns.sumThenReset(), forfeits.sumThenReset(),
+                connectFailures.sumThenReset() + transportErrors.sumThenReset() + stalls);
+    }
+
+    private void shutdown() {
+        rooms.forEach(SimulatedRoom::stop);
+        scheduler.shutdownNow();
+        stompClient.stop();
+    }
+
+    // --- SimulatedRoom / SimulatedPlayer 에서 쓰는 것들 ---
+
+    /** @return 생성 응답 (roomId, 샤딩 모드면 ownerUrl) */
+    JsonNode createRoom(String roomName) throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("roomName", roomName, "maxPlayers", playersPerRoom, "botCount", 0));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(target + "/api/rooms"))
+                .timeout(Duration.ofSeconds(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    void scheduleRestart(SimulatedRoom room) {
+        // 끊긴 세션의 퇴장 처리가 서버에서 끝날 시간을 준다
+        scheduler.schedule(room::start, 500, TimeUnit.MILLISECONDS);
+    }
+
+    /** 방을 가진 노드의 WebSocket 주소 (ownerUrl 이 없으면 lt.target) */
+    String webSocketUrl(String ownerUrl) {
+        return (ownerUrl == null || ownerUrl.isEmpty() ? target : ownerUrl) + "/ws";
+    }
+
+    WebSocketStompClient stompClient() {
+        return stompClient;
+    }
+
+    ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    LoadTestWords words() {
+        return words;
+    }
+
+    int playersPerRoom() {
+        return playersPerRoom;
+    }
+
+    long thinkMillis() {
+        return thinkMillis;
+    }
+
+    LatencyRecorder turnRoundTrip() {
+        return turnRoundTrip;
+    }
+
+    LatencyRecorder fanOut() {
+        return fanOut;
+    }
+
+    void recordTurn(boolean accepted) {
+        (accepted ? acceptedTurns : rejectedTurns).increment();
+    }
+
+    void recordForfeit() {
+        forfeits.increment();
+    }
+
+    void recordConnectFailure(String reason) {
+        connectFailures.increment();
+        System.err.println("!!! [LOADTEST] " + reason);
+    }
+
+    void recordTransportError(String reason) {
+        transportErrors.increment();
+        System.err.println("!!! [LOADTEST] " + reason);
+    }
+
+    private record StepResult(int rooms, LatencyRecorder.Snapshot turns, LatencyRecorder.Snapshot fanOut,
+                              long accepted, long rejected, long forfeits, long errors) {
+
+        double errorRate() {
+            long total = accepted + rejected + errors;
+            return total == 0 ? 1.0 : (double) errors / total;
+        }
+
+        boolean isStable(double p99LimitMillis, double maxErrorRate) {
+            return turns.count() > 0 && turns.percentileMillis(0.99) <= p99LimitMillis && errorRate() <= maxErrorRate;
+        }
+
+        String describe() {
+            return String.format("--- [STEP] rooms=%d turns(accepted=%d rejected=%d forfeit=%d) errors=%d (%.2f%%)%n" +
+                            "           turn RTT: %s%n           fan-out:  %s",
+                    rooms, accepted, rejected, forfeits, errors, errorRate() * 100, turns.describe(), fanOut.describe());
+        }
+    }
+}
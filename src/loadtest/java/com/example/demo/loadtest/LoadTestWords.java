@@ -0,0 +1,76 @@
+package com.example.demo.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * korean_words.csv (순위,단어,품사,풀이,등급) 를 읽어서 첫 글자 기준으로 묶어둔 단어장.
+ * 가짜 국어원 서버와 부하 생성기가 같은 단어장을 쓰므로, 생성기가 낸 단어는 항상 "사전에 있는" 단어가 된다.
+ */
+final class LoadTestWords {
+
+    // 동음이의어 번호(가격03)와 기호(-, ^)를 제거
+    private static final Pattern NON_HANGUL = Pattern.compile("[^가-힣]");
+
+    private final Map<String, String> definitions;        // 단어 -> 풀이
+    private final Map<Character, List<String>> byFirstChar;
+    private final List<String> allWords;
+
+    private LoadTestWords(Map<String, String> definitions) {
+        this.definitions = definitions;
+        Map<Character, List<String>> index = new HashMap<>();
+        for (String word : definitions.keySet()) {
+            index.computeIfAbsent(word.charAt(0), c -> new ArrayList<>()).add(word);
+        }
+        index.replaceAll((c, words) -> Collections.unmodifiableList(words));
+        this.byFirstChar = index;
+        this.allWords = List.copyOf(definitions.keySet());
+    }
+
+    static LoadTestWords load(Path csv) throws IOException {
+        Map<String, String> definitions = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            String line = reader.readLine(); // 헤더
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split(",", -1);
+                if (columns.length < 2) continue;
+                String word = NON_HANGUL.matcher(columns[1]).replaceAll("");
+                if (word.length() < 2) continue; // 서버 규칙: 두 글자 이상
+                String definition = (columns.length > 3 && !columns[3].isBlank()) ? columns[3] : "부하 테스트용 단어";
+                definitions.putIfAbsent(word, definition);
+            }
+        }
+        System.out.println("--- [LOADTEST] Loaded " + definitions.size() + " words from " + csv);
+        return new LoadTestWords(definitions);
+    }
+
+    boolean contains(String word) {
+        return definitions.containsKey(word);
+    }
+
+    String definitionOf(String word) {
+        return definitions.get(word);
+    }
+
+    List<String> startingWith(char first) {
+        return byFirstChar.getOrDefault(first, List.of());
+    }
+
+    List<String> all() {
+        return allWords;
+    }
+
+    int size() {
+        return definitions.size();
+    }
+}
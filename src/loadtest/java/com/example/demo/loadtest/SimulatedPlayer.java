@@ -0,0 +1,203 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사람 클라이언트 1명 (SockJS/STOMP).
+ * game.js 와 같은 순서로 동작한다: /topic/game-room/{roomId} 구독 → /app/game/{roomId}/join → 내 차례면 단어 제출.
+ * 단어는 korean_words.csv 에서 끝말(마지막 글자)로 시작하는 것 중 아직 안 쓴 것을 고르고, 없으면 턴을 포기한다.
+ */
+final class SimulatedPlayer extends StompSessionHandlerAdapter {
+
+    private final LoadGenerator generator;
+    private final SimulatedRoom room;
+    private final String uid = "loadtest-" + UUID.randomUUID();
+    private final String nickname;
+
+    private volatile StompSession session;
+    private volatile String lastWord;
+
+    // 내 제출 (턴 왕복 시간 측정용)
+    private volatile String pendingWord;
+    private volatile long pendingSince;
+    private final Set<String> triedThisTurn = new HashSet<>();
+
+    SimulatedPlayer(LoadGenerator generator, SimulatedRoom room, String nickname) {
+        this.generator = generator;
+        this.room = room;
+        this.nickname = nickname;
+    }
+
+    void connect() {
+        generator.stompClient().connectAsync(generator.webSocketUrl(room.ownerUrl()), this).whenComplete((s, e) -> {
+            if (e != null) {
+                generator.recordConnectFailure("connect: " + e.getMessage());
+                room.recycle("connect failed");
+            }
+        });
+    }
+
+    void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            try {
+                current.disconnect();
+            } catch (Exception ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        this.session = session;
+        String roomId = room.roomId();
+        session.subscribe("/topic/game-room/" + roomId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                onGameEvent((JsonNode) payload);
+            }
+        });
+        session.subscribe("/user/queue/errors", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                generator.recordConnectFailure("join: " + payload);
+                room.recycle("join rejected");
+            }
+        });
+        // SUBSCRIBE 가 브로커에 반영된 뒤 입장해야 GAME_START 를 놓치지 않는다
+        generator.scheduler().schedule(() -> session.send("/app/game/" + roomId + "/join",
+                Map.of("uid", uid, "nickname", nickname)), 100, TimeUnit.MILLISECONDS);
+    }
+
+    private void onGameEvent(JsonNode event) {
+        if ("BATCH".equals(event.path("type").asText())) {
+            for (JsonNode inner : event.path("events")) onGameEvent(inner);
+            return;
+        }
+        room.touch();
+        String type = event.path("type").asText();
+        String player = event.path("player").asText(null);
+        String nextPlayer = event.path("nextPlayer").asText(null);
+
+        switch (type) {
+            case "GAME_START", "TURN_CHANGE" -> {
+                lastWord = null; // 아무 단어나 시작
+                if (nickname.equals(nextPlayer)) scheduleMove();
+            }
+            case "WORD_ACCEPTED" -> {
+                String word = event.path("word").asText();
+                lastWord = word;
+                room.markUsed(word);
+                Long submitted = room.submittedAt(word);
+                if (submitted != null) {
+                    generator.fanOut().record(System.nanoTime() - submitted);
+                }
+                if (nickname.equals(player)) {
+                    completeTurn(word, true);
+                }
+                if (nickname.equals(nextPlayer)) scheduleMove();
+            }
+            case "WORD_REJECTED" -> {
+                if (nickname.equals(player)) {
+                    completeTurn(event.path("word").asText(), false);
+                    if (event.path("failures").asInt() < event.path("maxFailures").asInt()) scheduleMove();
+                }
+            }
+            case "GAME_OVER", "ROOM_CLOSED" -> room.recycle("game over");
+            default -> {
+                // PLAYER_JOINED / TURN_PASSED / PLAYER_ELIMINATED / PLAYER_LEFT: 상태 변화 없음
+            }
+        }
+    }
+
+    private void completeTurn(String word, boolean accepted) {
+        if (!word.equals(pendingWord)) return;
+        generator.turnRoundTrip().record(System.nanoTime() - pendingSince);
+        generator.recordTurn(accepted);
+        pendingWord = null;
+        if (accepted) {
+            synchronized (triedThisTurn) {
+                triedThisTurn.clear();
+            }
+        }
+    }
+
+    private void scheduleMove() {
+        generator.scheduler().schedule(this::move, generator.thinkMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void move() {
+        StompSession current = session;
+        if (current == null || !current.isConnected() || room.isRecycling()) return;
+        String roomId = room.roomId();
+
+        String word = pickWord();
+        if (word == null) {
+            generator.recordForfeit();
+            current.send("/app/game/" + roomId + "/forfeit", Map.of("uid", uid));
+            return;
+        }
+        long now = System.nanoTime();
+        pendingWord = word;
+        pendingSince = now;
+        room.markSubmitted(word, now);
+        current.send("/app/game/" + roomId + "/word", Map.of("word", word, "uid", uid));
+    }
+
+    private String pickWord() {
+        String previous = lastWord;
+        List<String> candidates = (previous == null)
+                ? generator.words().all()
+                : generator.words().startingWith(previous.charAt(previous.length() - 1));
+        if (candidates.isEmpty()) return null;
+
+        int start = ThreadLocalRandom.current().nextInt(candidates.size());
+        synchronized (triedThisTurn) {
+            for (int i = 0; i < candidates.size(); i++) {
+                String candidate = candidates.get((start + i) % candidates.size());
+                if (!room.isUsed(candidate) && triedThisTurn.add(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+        generator.recordTransportError("frame: " + exception.getMessage());
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        if (!room.isRecycling()) {
+            generator.recordTransportError("transport: " + exception.getMessage());
+            room.recycle("transport error");
+        }
+    }
+}
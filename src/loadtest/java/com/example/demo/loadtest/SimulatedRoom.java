@@ -0,0 +1,120 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 생성기의 방 한 칸(slot).
+ * REST 로 방을 만들고 사람 클라이언트 N 명을 입장시킨다. 게임이 끝나거나 멈추면(stall) 같은 칸에 새 방을 다시 만든다.
+ * 그래서 한 단계(step) 동안 "동시에 진행 중인 방 수" 가 일정하게 유지된다.
+ */
+final class SimulatedRoom {
+
+    private final LoadGenerator generator;
+    private final int slot;
+    private int generation;
+
+    private volatile String roomId;
+    private volatile String ownerUrl;
+    private volatile List<SimulatedPlayer> players = List.of();
+    private volatile long lastEventNanos = System.nanoTime();
+    private volatile boolean recycling;
+
+    // 방 전체가 공유하는 상태 (모든 플레이어가 같은 이벤트를 받으므로 멱등하게 갱신)
+    private final Set<String> usedWords = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> submittedAt = new ConcurrentHashMap<>();
+
+    SimulatedRoom(LoadGenerator generator, int slot) {
+        this.generator = generator;
+        this.slot = slot;
+    }
+
+    /** 새 방을 만들고 플레이어를 접속시킨다 */
+    void start() {
+        generation++;
+        usedWords.clear();
+        submittedAt.clear();
+        lastEventNanos = System.nanoTime();
+        try {
+            JsonNode response = generator.createRoom("loadtest-" + slot + "-" + generation);
+            roomId = response.path("roomId").asText();
+            ownerUrl = response.path("ownerUrl").asText(null);
+        } catch (Exception e) {
+            generator.recordConnectFailure("create room: " + e.getMessage());
+            recycling = false;
+            generator.scheduleRestart(this);
+            return;
+        }
+
+        List<SimulatedPlayer> created = new ArrayList<>();
+        for (int i = 0; i < generator.playersPerRoom(); i++) {
+            created.add(new SimulatedPlayer(generator, this, "lt" + slot + "_" + generation + "_" + i));
+        }
+        players = created;
+        recycling = false;
+        created.forEach(SimulatedPlayer::connect);
+    }
+
+    /** 게임 종료 / 멈춤 → 접속을 끊고 같은 칸에 새 방 */
+    void recycle(String reason) {
+        synchronized (this) {
+            if (recycling) return;
+            recycling = true;
+        }
+        if (!"game over".equals(reason)) {
+            System.err.println("!!! [LOADTEST] Recycling room " + roomId + " (" + reason + ")");
+        }
+        players.forEach(SimulatedPlayer::disconnect);
+        generator.scheduleRestart(this);
+    }
+
+    void stop() {
+        recycling = true;
+        players.forEach(SimulatedPlayer::disconnect);
+    }
+
+    /** 일정 시간 이벤트가 없으면 멈춘 방으로 보고 다시 만든다 */
+    boolean checkStalled(long stallNanos) {
+        if (recycling || System.nanoTime() - lastEventNanos < stallNanos) return false;
+        recycle("stalled");
+        return true;
+    }
+
+    void touch() {
+        lastEventNanos = System.nanoTime();
+    }
+
+    void markSubmitted(String word, long nanos) {
+        submittedAt.put(word, nanos);
+    }
+
+    /** 제출 → 이 구독자에게 WORD_ACCEPTED 가 도착하기까지 (같은 JVM 이라 시계 공유) */
+    Long submittedAt(String word) {
+        return submittedAt.get(word);
+    }
+
+    void markUsed(String word) {
+        usedWords.add(word);
+    }
+
+    boolean isUsed(String word) {
+        return usedWords.contains(word);
+    }
+
+    String roomId() {
+        return roomId;
+    }
+
+    String ownerUrl() {
+        return ownerUrl;
+    }
+
+    boolean isRecycling() {
+        return recycling;
+    }
+}
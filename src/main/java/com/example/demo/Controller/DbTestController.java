@@ -1,30 +1,34 @@
 package com.example.demo.Controller;
-import com.example.demo.WordsRepo.WordEntity; // WordEntity 경로 확인
-import com.example.demo.WordsRepo.WordRepository; // WordRepository 경로 확인
+import com.example.demo.dictionary.WordDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/test/db")
 @RequiredArgsConstructor
 public class DbTestController {
 
-    private final WordRepository wordRepository;
+    private final WordDictionary wordDictionary;
 
     @GetMapping("/{startLetter}")
     public List<String> findWordsStartingWith(@PathVariable String startLetter) {
         System.out.println("--- [API TEST] Received request for letter: [" + startLetter + "] ---");
-        List<WordEntity> results = wordRepository.findTop5ByNameStartingWith(startLetter);
-        System.out.println("--- [API TEST] JPA Result Count: " + results.size() + " ---");
+        List<String> results = wordDictionary.findWordsStartingWith(startLetter, 5);
+        System.out.println("--- [API TEST] Dictionary Result Count: " + results.size() + " ---");
 
-        return results.stream()
-                .map(WordEntity::getName)
-                .collect(Collectors.toList());
+        return results;
     }
-}
\ No newline at end of file
+
+    // 사전 핫 리로드 훅 (DB 내용이 바뀐 뒤 재기동 없이 인메모리 인덱스 갱신)
+    @PostMapping("/reload")
+    public Map<String, Integer> reloadDictionary() {
+        return Map.of("words", wordDictionary.reload());
+    }
+}
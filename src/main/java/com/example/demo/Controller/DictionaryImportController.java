@@ -0,0 +1,41 @@
+package com.example.demo.Controller;
+
+import com.example.demo.dictionary.DictionaryImporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 운영 중 사전 교체: kkutu.import.csv-path 의 CSV 로 kkutu_words 교체 + 인메모리 사전 / 음절 승패표 갱신.
+ * 테이블을 통째로 바꾸므로 kkutu.import.http-enabled=true 일 때만 등록된다 (기본은 ./gradlew importDictionary 만 사용).
+ * 읽을 파일은 설정으로만 정한다 (요청으로 경로를 받지 않음).
+ */
+@RestController
+@RequestMapping("/api/test/db")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kkutu.import.http-enabled", havingValue = "true")
+public class DictionaryImportController {
+
+    private final DictionaryImporter dictionaryImporter;
+
+    @Value("${kkutu.import.csv-path:./korean_words.csv}")
+    private String csvPath;
+
+    @PostMapping("/import")
+    public ResponseEntity<Map<String, Object>> importDictionary() {
+        try {
+            return ResponseEntity.ok(dictionaryImporter.importCsv(Path.of(csvPath)));
+        } catch (Exception e) {
+            // 경로 / 예외 내용은 서버 로그에만 남긴다
+            System.err.println("!!! [DICTIONARY IMPORT] Failed (" + csvPath + "): " + e.getMessage());
+            return ResponseEntity.internalServerError().body(Map.of("error", "dictionary import failed"));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.Controller;
+
+import com.example.demo.journal.GameJournal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 기록 조회 (재생 / 분쟁 확인). 저널은 비동기로 쓰이므로 방금 일어난 이벤트는 flush-interval 뒤에 보인다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/games")
+public class GameJournalController {
+
+    private final GameJournal gameJournal;
+
+    /** 한 게임의 이벤트를 순서대로 */
+    @GetMapping("/{gameId}/events")
+    public List<Map<String, Object>> getGameEvents(@PathVariable String gameId) {
+        return gameJournal.eventsOf(gameId);
+    }
+
+    /** 방에서 있었던 게임 목록 (최근 순) */
+    @GetMapping
+    public List<Map<String, Object>> getGamesInRoom(@RequestParam String roomId,
+                                                    @RequestParam(defaultValue = "20") int limit) {
+        return gameJournal.gamesInRoom(roomId, Math.max(1, Math.min(limit, 100)));
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.Controller;
+import com.example.demo.listener.SessionRegistry;
 import com.example.demo.listener.WebSocketEventListener;
 import com.example.demo.service.GameRoomService;
+import com.example.demo.service.RoomStore;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -27,7 +29,9 @@ public class GameRoomController {
 
     private final GameRoomService gameRoomService;
     private final WebSocketEventListener webSocketEventListener;
+    private final SessionRegistry sessionRegistry;
     private final SimpMessagingTemplate messagingTemplate;
+    private final RoomStore roomStore;
 
     // --- TaskScheduler 주입 삭제 (일단 지금은 안씀)---
     // private final TaskScheduler taskScheduler;
@@ -49,30 +53,49 @@ public class GameRoomController {
         String uid = message.getUid();
         String nickname = message.getNickname();
 
-        String joinResult = gameRoomService.addPlayerToRoom(roomId, uid, nickname);
-
-        if (joinResult.equals("SUCCESS")) {
-            // 성공: 세션 등록
-            webSocketEventListener.registerSession(sessionId, uid, roomId);
-            System.out.println("--- [JOIN SUCCESS] Player " + nickname + " (UID: " + uid + ") joined room " + roomId);
-
-        } else {
-            // 실패: 에러 메시지 전송
-            String errorMessage = "알 수 없는 오류";
-            switch (joinResult) {
-                case "NICKNAME_DUPLICATE": errorMessage = "이미 사용 중인 닉네임입니다."; break;
-                case "UID_DUPLICATE": errorMessage = "이미 접속 중인 유저입니다. (다른 탭)"; break;
-                case "ROOM_FULL": errorMessage = "방이 꽉 찼습니다."; break;
-                case "ROOM_NOT_FOUND": errorMessage = "존재하지 않는 방입니다."; break;
+        // 샤딩 모드: 다른 노드 소유 방이면 여기서 입장시키지 않는다 (브라우저는 ownerUrl 로 다시 연결)
+        if (!roomStore.isOwnedHere(roomId)) {
+            System.err.println("--- [JOIN FAILED] Room " + roomId + " belongs to " + roomStore.ownerOf(roomId) + " ---");
+            sendToSession(sessionId, "/queue/errors", "다른 서버에 있는 방입니다. 방 목록을 새로고침 해주세요.");
+            return;
+        }
+
+        // 입장 처리는 방 mailbox 에서 실행되고, 결과는 콜백으로 받는다
+        // 성공하면 세션 등록도 같은 mailbox 작업 안에서 (RESUMED: 이미 앉아 있던 uid 가 새 연결로 돌아옴 → 유예 타이머 취소, 자리 유지)
+        gameRoomService.addPlayerToRoom(roomId, uid, nickname,
+                () -> webSocketEventListener.registerSession(sessionId, uid, roomId)).thenAccept(joinResult -> {
+            if (joinResult.equals("SUCCESS") || joinResult.equals("RESUMED")) {
+                System.out.println("--- [JOIN " + joinResult + "] Player " + nickname + " (UID: " + uid + ") room " + roomId);
+                // 본인에게 현재 방 상태 (재접속이면 끊긴 사이의 변화를 이걸로 맞춘다)
+                gameRoomService.roomState(roomId, uid).thenAccept(state -> {
+                    if (state != null) sendToSession(sessionId, "/queue/state", state);
+                });
+
+            } else {
+                // 실패: 에러 메시지 전송
+                String errorMessage = "알 수 없는 오류";
+                switch (joinResult) {
+                    case "NICKNAME_DUPLICATE": errorMessage = "이미 사용 중인 닉네임입니다."; break;
+                    case "UID_DUPLICATE": errorMessage = "이미 접속 중인 유저입니다. (다른 탭)"; break;
+                    case "ROOM_FULL": errorMessage = "방이 꽉 찼습니다."; break;
+                    case "ROOM_NOT_FOUND": errorMessage = "존재하지 않는 방입니다."; break;
+                }
+                System.err.println("--- [JOIN FAILED] Player " + nickname + " (" + joinResult + ") ---");
+
+                sendToSession(sessionId, "/queue/errors", errorMessage);
             }
-            System.err.println("--- [JOIN FAILED] Player " + nickname + " (" + joinResult + ") ---");
+        });
+    }
 
-            messagingTemplate.convertAndSend(
-                    "/user/queue/errors",
-                    errorMessage,
-                    createHeaders(sessionId)
-            );
-        }
+    // 나가기: 재접속 유예 없이 바로 퇴장 (그냥 끊기면 SessionRegistry 가 유예 후 퇴장 처리)
+    @MessageMapping("/game/{roomId}/leave")
+    public void leaveRoom(@DestinationVariable String roomId, @Header("simpSessionId") String sessionId) {
+        sessionRegistry.leave(sessionId);
+    }
+
+    // 세션 하나에만 전송 (클라이언트는 /user/queue/... 구독, 로그인 없는 세션이라 sessionId 를 user 로 사용)
+    private void sendToSession(String sessionId, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(sessionId, destination, payload, createHeaders(sessionId));
     }
 
     // --- `createHeaders` 헬퍼 ---
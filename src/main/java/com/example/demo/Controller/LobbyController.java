@@ -0,0 +1,24 @@
+package com.example.demo.Controller;
+
+import com.example.demo.DTO.LobbyUpdate;
+import com.example.demo.service.LobbyFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 로비 피드 구독.
+ * 클라이언트는 /topic/lobby (DIFF) 를 먼저 구독하고 /app/lobby 를 구독해 SNAPSHOT 을 한 번 받는다.
+ * (@SubscribeMapping 반환값은 브로커를 거치지 않고 구독한 세션에만 간다)
+ */
+@Controller
+@RequiredArgsConstructor
+public class LobbyController {
+
+    private final LobbyFeed lobbyFeed;
+
+    @SubscribeMapping("/lobby")
+    public LobbyUpdate subscribeLobby() {
+        return lobbyFeed.snapshotUpdate();
+    }
+}
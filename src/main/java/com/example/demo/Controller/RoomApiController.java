@@ -2,49 +2,53 @@ package com.example.demo.Controller;
 
 
 import com.example.demo.DTO.CreateRoomRequest;
-import com.example.demo.DTO.GameRoom;
 import com.example.demo.DTO.RoomInfoDTO;
-import com.example.demo.service.GameRoomService;
+import com.example.demo.cluster.RoomDirectory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/rooms") // API 경로는 /api/ 로 시작하는 것을 권장
 public class RoomApiController {
 
-    private final GameRoomService gameRoomService;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final RoomDirectory roomDirectory;
 
     @RequestMapping(method = RequestMethod.HEAD)
     public void healthCheck() {
     }
 
+    /**
+     * @param roomId 노드 간 전달용 (소유 노드에 생성 요청을 넘길 때만 사용)
+     * @return roomId, 샤딩 모드면 ownerUrl (브라우저가 WebSocket 을 연결할 노드)
+     */
     @PostMapping
-    public Map<String, String> createRoom(@RequestBody CreateRoomRequest request) {
-        GameRoom newRoom = gameRoomService.createRoom(
-                request.getRoomName(),
-                request.getMaxPlayers(),
-                request.getBotCount()
-        );
-
-        return Map.of("roomId", newRoom.getRoomId());
+    public Map<String, String> createRoom(@RequestBody CreateRoomRequest request,
+                                          @RequestParam(required = false) String roomId) {
+        return roomDirectory.createRoom(request, roomId);
     }
 
+    /**
+     * 방 목록 (실시간 갱신은 로비 피드 /app/lobby + /topic/lobby 사용)
+     * @param scope all: 모든 노드의 방 / local: 이 노드의 방만
+     * @param q 방 이름 검색
+     * @param joinable true 면 자리가 남은 방만
+     * @param size 페이지 크기 (0 이면 전체), 전체 개수는 X-Total-Count 헤더
+     */
     @GetMapping
-    public List<RoomInfoDTO> getActiveRooms() {
-        Map<String, GameRoom> activeRooms = gameRoomService.getActiveGameRooms();
-
-        return activeRooms.values().stream()
-                .map(room -> new RoomInfoDTO(
-                        room.getRoomId(),
-                        room.getRoomName(),
-                        room.getPlayers().size(), // 현재 플레이어 수 계산
-                        room.getMaxPlayers(),
-                        room.getBotCount()
-                ))
-                .collect(Collectors.toList());
+    public ResponseEntity<List<RoomInfoDTO>> getActiveRooms(@RequestParam(defaultValue = "all") String scope,
+                                                            @RequestParam(required = false) String q,
+                                                            @RequestParam(defaultValue = "false") boolean joinable,
+                                                            @RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "0") int size) {
+        List<RoomInfoDTO> rooms = RoomDirectory.filter(roomDirectory.listRooms(!"local".equals(scope)), q, joinable);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(rooms.size()))
+                .body(RoomDirectory.page(rooms, page, Math.min(size, MAX_PAGE_SIZE)));
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.example.demo.DTO;
 
+import com.example.demo.bots.BotDifficulty;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,5 +10,6 @@ public class CreateRoomRequest {
     private String roomName;
     private int maxPlayers;
     private int botCount;
+    private BotDifficulty botDifficulty; // EASY / NORMAL / HARD (없으면 NORMAL)
     // (향후 'password' 등도 추가 가능)
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.example.demo.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 방 토픽(/topic/game-room/{roomId})으로 나가는 게임 이벤트.
+ * type 으로 구분하고, 값이 없는 필드는 직렬화하지 않는다. (프레임 크기 최소화)
+ * text 는 채팅창 표시용 문장으로, 클라이언트가 파싱할 필요는 없다.
+ */
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameEvent {
+
+    public enum Type {
+        PLAYER_JOINED,
+        GAME_START,
+        TURN_CHANGE,
+        WORD_ACCEPTED,
+        WORD_REJECTED,
+        TURN_PASSED,
+        PLAYER_ELIMINATED,
+        PLAYER_LEFT,
+        GAME_OVER,
+        ROOM_CLOSED
+    }
+
+    private final Type type;
+    private String player;       // 이벤트 주체 닉네임
+    private String word;
+    private String previousWord;
+    private String definition;
+    private String nextPlayer;   // 다음 턴 닉네임
+    private String winner;
+    private String reason;
+    private Integer failures;
+    private Integer maxFailures;
+    private Boolean degraded;    // 국어원 장애로 로컬 사전에서 판정 (실패로 세지 않음)
+    private Integer playerCount; // 이벤트 후 남은/현재 인원
+    private Integer maxPlayers;
+    private String text;         // 사람이 읽는 문장 (선택)
+
+    private GameEvent(Type type) {
+        this.type = type;
+    }
+
+    public static GameEvent playerJoined(String player, int playerCount, int maxPlayers) {
+        GameEvent event = new GameEvent(Type.PLAYER_JOINED);
+        event.player = player;
+        event.playerCount = playerCount;
+        event.maxPlayers = maxPlayers;
+        event.text = "새로운 유저 입장: " + player + " (현재 인원: " + playerCount + "/" + maxPlayers + ")";
+        return event;
+    }
+
+    public static GameEvent gameStart(String firstPlayer) {
+        GameEvent event = new GameEvent(Type.GAME_START);
+        event.nextPlayer = firstPlayer;
+        event.text = "게임 시작! 첫 턴은 " + firstPlayer + "님입니다.";
+        return event;
+    }
+
+    /** 탈락/퇴장 후 새 단어로 다시 시작하는 턴 */
+    public static GameEvent restartTurn(String nextPlayer) {
+        GameEvent event = new GameEvent(Type.TURN_CHANGE);
+        event.nextPlayer = nextPlayer;
+        event.text = nextPlayer + "님부터 (아무 단어나) 다시 시작하세요.";
+        return event;
+    }
+
+    /** 단어 성공 + 다음 턴 (기존 성공 문자열과 TURN_CHANGE 를 한 프레임으로) */
+    public static GameEvent wordAccepted(String player, String previousWord, String word, String definition, String nextPlayer) {
+        GameEvent event = new GameEvent(Type.WORD_ACCEPTED);
+        event.player = player;
+        event.previousWord = previousWord;
+        event.word = word;
+        event.definition = definition;
+        event.nextPlayer = nextPlayer;
+        event.text = (previousWord != null ? previousWord + " -> " : "") +
+                word + " (성공! 뜻: " + (definition != null ? definition : "정보 없음") + ")";
+        return event;
+    }
+
+    public static GameEvent wordRejected(String player, String word, int failures, int maxFailures) {
+        GameEvent event = new GameEvent(Type.WORD_REJECTED);
+        event.player = player;
+        event.word = word;
+        event.failures = failures;
+        event.maxFailures = maxFailures;
+        event.text = "'" + word + "' (은)는 유효하지 않은 단어입니다. " + player + "님 다시 시도하세요. (실패: " + failures + "/" + maxFailures + ")";
+        return event;
+    }
+
+    /** 국어원 장애 중 로컬 사전에도 없어 거부 (실패 횟수는 그대로) */
+    public static GameEvent wordUnverified(String player, String word) {
+        GameEvent event = new GameEvent(Type.WORD_REJECTED);
+        event.player = player;
+        event.word = word;
+        event.degraded = true;
+        event.text = "'" + word + "' (은)는 지금 확인할 수 없는 단어입니다. (사전 서버 장애, 실패로 세지 않음) " + player + "님 다시 시도하세요.";
+        return event;
+    }
+
+    public static GameEvent turnPassed(String player) {
+        GameEvent event = new GameEvent(Type.TURN_PASSED);
+        event.player = player;
+        event.text = player + "님이 턴을 포기했습니다.";
+        return event;
+    }
+
+    public static GameEvent playerEliminated(String player, String reason, int playerCount) {
+        GameEvent event = new GameEvent(Type.PLAYER_ELIMINATED);
+        event.player = player;
+        event.reason = reason;
+        event.playerCount = playerCount;
+        event.text = player + "님이 탈락했습니다. (" + reason + ") 남은 인원: " + playerCount + "명";
+        return event;
+    }
+
+    public static GameEvent playerLeft(String player, int playerCount) {
+        GameEvent event = new GameEvent(Type.PLAYER_LEFT);
+        event.player = player;
+        event.playerCount = playerCount;
+        event.text = player + "님이 퇴장했습니다. 남은 인원: " + playerCount + "명";
+        return event;
+    }
+
+    public static GameEvent gameOver(String winner) {
+        GameEvent event = new GameEvent(Type.GAME_OVER);
+        event.winner = winner;
+        event.text = "게임 종료! 승자: " + winner;
+        return event;
+    }
+
+    public static GameEvent roomClosed() {
+        GameEvent event = new GameEvent(Type.ROOM_CLOSED);
+        event.text = "모든 플레이어가 나가서 게임이 종료됩니다.";
+        return event;
+    }
+}
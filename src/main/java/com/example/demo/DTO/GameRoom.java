@@ -1,5 +1,8 @@
 package com.example.demo.DTO;
 
+import com.example.demo.bots.BotDifficulty;
+import com.example.demo.dictionary.UsedWordSet;
+import com.example.demo.timer.TimingWheel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -38,14 +41,31 @@ public class GameRoom {
 
     private String roomId;
     private String roomName;
+    // 게임 기록(GameJournal) 식별자. 방 생성 시 발급 (roomId 는 짧아서 기록 보관 기간 동안 겹칠 수 있음)
+    private String gameId;
+    // 게임 기록 순번 (mailbox 안에서만 증가)
+    private int journalSeq;
+    // 큐가 가득 차 기록하지 못한 이벤트 수 (다음에 기록할 때 EVENTS_DROPPED 로 남기고 0으로, mailbox 안에서만)
+    private int journalDropped;
     private int currentTurnIndex;
     private String lastWord;
 
+    // players / usedWords / failureCounts 는 동기화되지 않은 컬렉션이므로
+    // 반드시 방 mailbox(RoomExecutor) 작업 안에서만 변경한다.
     private List<PlayerInfo> players = new ArrayList<>();
-    private Set<String> usedWords = new HashSet<>();
+    // 사전 단어는 id 로 저장 (GameRoomService.createRoom 에서 현재 사전 스냅샷에 묶어서 교체)
+    private UsedWordSet usedWords = new UsedWordSet();
     private int maxPlayers;
     private int botCount;
+    private BotDifficulty botDifficulty = BotDifficulty.NORMAL;
     private Map<String, Integer> failureCounts = new HashMap<>();
+    // 스냅샷에서 복구된 방: 아직 다시 들어오지 않은 플레이어 uid (저장하지 않음, mailbox 안에서만 변경)
+    private Set<String> awaitingRejoin = new HashSet<>();
+    // 턴 시간 제한: 턴이 바뀔 때마다 증가하는 번호 + 현재 턴의 타이머 (GameRoomService.startTurn)
+    private int turnSeq;
+    private TimingWheel.Timeout turnTimeout;
+    // 마지막 활동 시각 (방치된 방 정리용, epoch millis)
+    private long lastActivityAt = System.currentTimeMillis();
 
     public GameRoom(String roomId, String roomName, int maxPlayers, int botCount) {
         this.roomId = roomId;
@@ -97,6 +117,10 @@ public class GameRoom {
         }
     }
 
+    public int nextJournalSeq() {
+        return journalSeq++;
+    }
+
     public int incrementFailureCount(String uid) {
         int count = failureCounts.getOrDefault(uid, 0) + 1;
         failureCounts.put(uid, count);
@@ -0,0 +1,42 @@
+package com.example.demo.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 로비 피드 프레임.
+ * - SNAPSHOT: 구독 직후 한 번 (/app/lobby 구독 응답), 이 노드의 전체 방 목록
+ * - DIFF: /topic/lobby 로 coalesce 주기마다 바뀐 방만 (rooms = 생성/변경, removed = 삭제된 roomId)
+ * version 은 DIFF 마다 1씩 증가한다. 클라이언트는 snapshot.version 이하의 DIFF 는 버리고, 번호가 건너뛰면 다시 구독한다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LobbyUpdate {
+
+    public enum Type {
+        SNAPSHOT,
+        DIFF
+    }
+
+    private final Type type;
+    private final long version;
+    private final List<RoomInfoDTO> rooms;
+    private final List<String> removed;
+
+    private LobbyUpdate(Type type, long version, List<RoomInfoDTO> rooms, List<String> removed) {
+        this.type = type;
+        this.version = version;
+        this.rooms = rooms;
+        this.removed = removed;
+    }
+
+    public static LobbyUpdate snapshot(long version, List<RoomInfoDTO> rooms) {
+        return new LobbyUpdate(Type.SNAPSHOT, version, rooms, null);
+    }
+
+    public static LobbyUpdate diff(long version, List<RoomInfoDTO> changed, List<String> removed) {
+        return new LobbyUpdate(Type.DIFF, version, changed.isEmpty() ? null : changed, removed.isEmpty() ? null : removed);
+    }
+}
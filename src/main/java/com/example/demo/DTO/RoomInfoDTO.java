@@ -1,22 +1,33 @@
 package com.example.demo.DTO; // 패키지 확인
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor // 다른 노드의 목록 응답을 역직렬화할 때 필요
 public class RoomInfoDTO {
     private String roomId;
     private String roomName;
     private int currentPlayerCount; // 현재 인원수
     private int maxPlayers;
     private int botCount;
+    private String ownerUrl; // 방이 있는 노드 주소 (샤딩 모드), 단일 노드면 null
+    private String gameId; // 게임 기록 조회용
 
     public RoomInfoDTO(String roomId, String roomName, int currentPlayerCount, int maxPlayers, int botCount) {
+        this(roomId, roomName, currentPlayerCount, maxPlayers, botCount, null, null);
+    }
+
+    public RoomInfoDTO(String roomId, String roomName, int currentPlayerCount, int maxPlayers, int botCount,
+                       String ownerUrl, String gameId) {
         this.roomId = roomId;
         this.roomName = roomName;
         this.currentPlayerCount = currentPlayerCount;
         this.maxPlayers = maxPlayers;
         this.botCount = botCount;
+        this.ownerUrl = ownerUrl;
+        this.gameId = gameId;
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.demo.Event;
+
+import com.example.demo.dictionary.WordDictionary;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/** WordDictionary 가 새 스냅샷으로 교체된 뒤 발행된다. (기동 시 첫 적재 포함) */
+@Getter
+public class DictionaryReloadedEvent extends ApplicationEvent {
+    private final WordDictionary.Snapshot snapshot;
+
+    public DictionaryReloadedEvent(Object source, WordDictionary.Snapshot snapshot) {
+        super(source);
+        this.snapshot = snapshot;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.Event;
+
+import com.example.demo.DTO.RoomInfoDTO;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 로비에 보이는 방 정보가 바뀜 (생성 / 인원 변화 / 삭제). GameRoomService 가 방 mailbox 안에서 발행한다.
+ * room 은 mailbox 안에서 만든 사본이라 다른 스레드에서 읽어도 안전하다.
+ */
+@Getter
+public class LobbyRoomEvent extends ApplicationEvent {
+    private final String roomId;
+    private final RoomInfoDTO room; // null 이면 방 삭제
+
+    public LobbyRoomEvent(Object source, String roomId, RoomInfoDTO room) {
+        super(source);
+        this.roomId = roomId;
+        this.room = room;
+    }
+
+    public boolean isRemoved() {
+        return room == null;
+    }
+}
@@ -16,11 +16,20 @@ public class WordEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "name", columnDefinition = "TEXT") // SQL 파일 정의에 맞춰 TEXT 타입 명시 (VARCHAR 대신)
-    private String name; // 단어
+    @Column(name = "name", length = 100, nullable = false) // 테이블은 DictionaryImporter 가 만든다
+    private String name; // 단어 (동형어 번호 제거됨: 가격03 → 가격)
 
     // 품사 정보를 저장할 필드 추가
-    @Column(name = "part", columnDefinition = "TEXT")
+    @Column(name = "part", length = 20)
     private String part; // 품사 (예: "명사", "동사")
 
+    @Column(name = "word_rank")
+    private Integer wordRank; // 빈도 순위 (CSV 순위)
+
+    @Column(name = "grade", length = 8)
+    private String grade; // 등급 (A/B/C)
+
+    @Column(name = "definition", columnDefinition = "TEXT")
+    private String definition; // 풀이 (한자 등)
+
 }
\ No newline at end of file
@@ -18,6 +18,11 @@ public interface WordRepository extends JpaRepository<WordEntity, Long> {
     Optional<WordEntity> findByName(String name);
 
     List<WordEntity> findTop10ByNameStartingWith(String startingLetter);
+
+    // 인메모리 사전(WordDictionary) 적재용: 엔티티 생성 없이 (name, part) 만 조회
+    @Query("SELECT w.name, w.part FROM WordEntity w")
+    List<Object[]> findAllNameAndPart();
+
     @Query("SELECT w FROM WordEntity w WHERE w.name LIKE :prefix% AND LENGTH(w.name) >= 2 AND w.part = :part ORDER BY RAND() LIMIT 10")
     List<WordEntity> findValidWords(@Param("prefix") String prefix, @Param("part") String part);
 }
\ No newline at end of file
@@ -1,28 +1,43 @@
 package com.example.demo.bots;
 
 import com.example.demo.Event.TurnSuccessEvent;
-import com.example.demo.WordsRepo.WordEntity;
-import com.example.demo.WordsRepo.WordRepository;
 import com.example.demo.service.GameRoomService;
+import com.example.demo.service.KoreanApiService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 // @Transactional 제거 (필요 시 부분 적용)
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
 @RequiredArgsConstructor
 public class AiPlayerService {
 
-    private final WordRepository wordRepository;
+    // 한 수에 넘기는 후보 수 (방 mailbox 에서 규칙을 통과한 첫 단어를 고름)
+    private static final int CANDIDATE_LIMIT = 10;
+    private static final String DEFAULT_DEFINITION = "AI가 선택한 단어입니다."; // 기본 뜻
+
+    private final BotStrategyEngine botStrategyEngine;
     private final GameRoomService gameRoomService;
+    private final BotTurnScheduler botTurnScheduler;
+    private final KoreanApiService koreanApiService;
+
+    // 봇 수 계산 횟수 / 그 동안의 국어원 API 호출 수 (수당 최대 1회)
+    private final LongAdder botMoves = new LongAdder();
+    private final LongAdder botRemoteCalls = new LongAdder();
+
+    @Value("${kkutu.bot.fetch-definition:true}")
+    private boolean fetchDefinition;
+
+    // 뜻 조회를 기다리는 최대 시간. 넘으면 기본 뜻으로 제출 (턴이 국어원 장애에 묶이지 않도록)
+    @Value("${kkutu.bot.definition-timeout-ms:1000}")
+    private long definitionTimeoutMillis = 1000;
 
-    @Async
     @EventListener
     // @Transactional 제거: 긴 대기 시간과 외부 API 호출이 포함되므로 제거하는 것이 좋습니다.
     public void onTurnSuccess(TurnSuccessEvent event) {
@@ -30,80 +45,87 @@ public class AiPlayerService {
 
         // 봇의 차례인지 확인
         if (nextPlayerUid != null && nextPlayerUid.startsWith("AI_BOT_")) {
-            try {
-                // 생각하는 척 대기 (DB 점유 없이 대기)
-                Thread.sleep(1500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
-            String lastWord = event.getLastword();
-            String startingLetter;
+            // 생각하는 척 대기는 타이머로 (스레드 점유 없음), 수 계산만 워커 스레드에서 실행
+            botTurnScheduler.schedule(() -> playTurn(event, nextPlayerUid));
+        }
+    }
 
-            if (lastWord == null) {
-                startingLetter = "가"; // 첫 턴 등
-            } else {
-                startingLetter = lastWord.substring(lastWord.length() - 1);
+    // BotTurnScheduler 의 워커 스레드(async-bot-)에서 실행됨
+    private void playTurn(TurnSuccessEvent event, String nextPlayerUid) {
+        try {
+            // 1. 방 mailbox 에서 현재 국면(마지막 단어, 사용 단어, 난이도)을 복사해 온다
+            BotPosition position = gameRoomService.botPosition(event.getRoomId(), nextPlayerUid).join();
+            if (position == null) {
+                System.out.println("--- AI BOT(" + nextPlayerUid + ") Not our turn anymore. Skipping.");
+                return;
             }
-
-            System.out.println(">>> AI BOT(" + nextPlayerUid + ") Searching for words starting with: " + startingLetter);
-
-            try {
-                // 1. DB에서 후보 단어 조회
-                List<WordEntity> potentialWords = new ArrayList<>(wordRepository.findValidWords(startingLetter, "명사"));
-
-                // 두음법칙 적용
-                String alternativeLetter = gameRoomService.getAlternativeStartChar(startingLetter);
-                if (alternativeLetter != null) {
-                    potentialWords.addAll(wordRepository.findValidWords(alternativeLetter, "명사"));
+            System.out.println(">>> AI BOT(" + nextPlayerUid + ") Thinking after: " + position.getLastWord()
+                    + " (" + BotDifficulty.orDefault(position.getDifficulty()) + ")");
+
+            // 2. 난이도에 맞게 후보를 좋은 순서로 (시간 예산 안에서 탐색, EASY 는 무작위)
+            List<String> potentialWords = botStrategyEngine.chooseCandidates(position, CANDIDATE_LIMIT);
+
+            // 3. 방 규칙만 메모리에서 검사해서 첫 번째로 통과한 단어 선택 (후보별 국어원 API 호출 없음)
+            String chosenWord = gameRoomService.pickBotWord(event.getRoomId(), nextPlayerUid, potentialWords).join();
+            int remoteCalls = 0;
+            String cachedDefinition = null;
+
+            // 뜻은 캐시에 있으면 그대로 쓰고, 없으면 고른 단어 1개에 대해서만 비동기로 조회 (사전 출처 단어라 유효성은 신뢰)
+            // 워커 스레드는 응답을 기다리지 않는다: 국어원이 느려도 봇 풀은 수 계산만 한다
+            boolean lookup = false;
+            if (chosenWord != null && fetchDefinition) {
+                Map<String, Object> cached = koreanApiService.getCachedValidation(chosenWord);
+                if (cached != null) {
+                    cachedDefinition = (String) cached.get("definition");
+                } else {
+                    remoteCalls++;
+                    lookup = true;
                 }
+            }
 
-                // 2. 셔플 (랜덤 선택을 위해)
-                Collections.shuffle(potentialWords);
-
-                String chosenWord = null;
-                String chosenDefinition = "AI가 선택한 단어입니다."; // 기본 뜻
+            botMoves.increment();
+            botRemoteCalls.add(remoteCalls);
+            System.out.println("--- AI BOT(" + nextPlayerUid + ") Move computed. Candidates: " + potentialWords.size()
+                    + ", Remote calls this move: " + remoteCalls);
 
-                // 3. [최적화] 모든 단어를 검증하지 않고, 유효한 첫 번째 단어를 찾으면 즉시 종료
-                for (WordEntity entity : potentialWords) {
-                    String wordCandidate = entity.getName();
+            // 4. 결과 제출
+            if (chosenWord == null) {
+                System.out.println("!!! AI BOT(" + nextPlayerUid + ") No valid words found. Passing turn.");
+                gameRoomService.passTurn(event.getRoomId(), nextPlayerUid);
+            } else if (lookup) {
+                // 응답(또는 타임아웃/오류 시 기본 뜻)이 오면 그 스레드에서 제출 (방 mailbox 에 넣기만 함)
+                koreanApiService.validateWordAsync(chosenWord)
+                        .map(result -> definitionOrDefault((String) result.get("definition")))
+                        .timeout(Duration.ofMillis(definitionTimeoutMillis))
+                        .onErrorReturn(DEFAULT_DEFINITION)
+                        .defaultIfEmpty(DEFAULT_DEFINITION)
+                        .subscribe(definition -> submit(event, nextPlayerUid, chosenWord, definition));
+            } else {
+                submit(event, nextPlayerUid, chosenWord, definitionOrDefault(cachedDefinition));
+            }
 
-                    // [중요] 외부 API(국어원) 호출 없이, 게임 룸 규칙(중복 등)만 검증하고 싶다면 별도 메서드가 필요하지만,
-                    // 현재 구조상 validateWordSynchronously를 호출해야 한다면 'break'가 필수입니다.
+        } catch (Exception e) {
+            System.err.println("Error in AI Bot: " + e.getMessage());
+            e.printStackTrace();
+            // 에러 발생 시 턴 넘김으로 게임 멈춤 방지
+            gameRoomService.passTurn(event.getRoomId(), nextPlayerUid);
+        }
+    }
 
-                    // 여기서는 단순히 'validateWordSynchronously' 결과가 유효하면 바로 선택하고 반복문을 탈출합니다.
-                    // 이렇게 하면 API 호출을 1회(성공 시)로 줄일 수 있습니다.
-                    Map<String, Object> validationResult = gameRoomService.validateWordSynchronously(
-                            event.getRoomId(), wordCandidate, nextPlayerUid);
+    private void submit(TurnSuccessEvent event, String nextPlayerUid, String chosenWord, String definition) {
+        System.out.println("<<< AI BOT(" + nextPlayerUid + ") Submitting: [" + chosenWord + "]");
+        gameRoomService.handleWordSubmission(event.getRoomId(), chosenWord, nextPlayerUid, definition);
+    }
 
-                    boolean isValid = (Boolean) validationResult.getOrDefault("isValid", false);
-                    if (isValid) {
-                        chosenWord = wordCandidate;
-                        chosenDefinition = (String) validationResult.get("definition");
-                        break; // [핵심] 유효한 단어를 찾았으면 더 이상 검사하지 않음!
-                    }
-                }
+    private static String definitionOrDefault(String definition) {
+        return definition != null ? definition : DEFAULT_DEFINITION;
+    }
 
-                // 4. 결과 제출
-                if (chosenWord != null) {
-                    System.out.println("<<< AI BOT(" + nextPlayerUid + ") Submitting: [" + chosenWord + "]");
-                    gameRoomService.handleWordSubmission(
-                            event.getRoomId(),
-                            chosenWord,
-                            nextPlayerUid,
-                            chosenDefinition
-                    );
-                } else {
-                    System.out.println("!!! AI BOT(" + nextPlayerUid + ") No valid words found. Passing turn.");
-                    gameRoomService.passTurn(event.getRoomId(), nextPlayerUid);
-                }
+    public long getBotMoveCount() {
+        return botMoves.sum();
+    }
 
-            } catch (Exception e) {
-                System.err.println("Error in AI Bot: " + e.getMessage());
-                e.printStackTrace();
-                // 에러 발생 시 턴 넘김으로 게임 멈춤 방지
-                gameRoomService.passTurn(event.getRoomId(), nextPlayerUid);
-            }
-        }
+    public long getBotRemoteCallCount() {
+        return botRemoteCalls.sum();
     }
-}
\ No newline at end of file
+}
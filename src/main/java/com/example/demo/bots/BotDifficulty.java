@@ -0,0 +1,35 @@
+package com.example.demo.bots;
+
+/**
+ * 봇 난이도. 방 생성 시(CreateRoomRequest.botDifficulty) 고르고, 방의 모든 봇에 적용된다.
+ * - EASY: 탐색 없이 무작위 단어 (기존 동작)
+ * - NORMAL: 2수 앞까지 탐색
+ * - HARD: 시간 예산 안에서 최대 10수까지 반복 심화 탐색
+ */
+public enum BotDifficulty {
+    EASY(0, 0),
+    NORMAL(2, 10),
+    HARD(10, 40);
+
+    private final int maxDepth;
+    private final long budgetMillis;
+
+    BotDifficulty(int maxDepth, long budgetMillis) {
+        this.maxDepth = maxDepth;
+        this.budgetMillis = budgetMillis;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /** 한 수당 탐색 시간 예산 (kkutu.bot.search-budget-ms 로 상한을 더 낮출 수 있다) */
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    /** null / 알 수 없는 값이면 NORMAL */
+    public static BotDifficulty orDefault(BotDifficulty difficulty) {
+        return difficulty != null ? difficulty : NORMAL;
+    }
+}
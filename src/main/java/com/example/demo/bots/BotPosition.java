@@ -0,0 +1,20 @@
+package com.example.demo.bots;
+
+import com.example.demo.dictionary.UsedWordSet;
+import lombok.Getter;
+
+/**
+ * 봇이 수를 계산할 국면. 방 mailbox 에서 복사해서 만들므로 봇 워커 스레드가 락 없이 읽는다.
+ */
+@Getter
+public class BotPosition {
+    private final String lastWord;          // 직전 단어 (첫 턴이면 null)
+    private final UsedWordSet usedWords;    // 방의 사용 단어 복사본
+    private final BotDifficulty difficulty;
+
+    public BotPosition(String lastWord, UsedWordSet usedWords, BotDifficulty difficulty) {
+        this.lastWord = lastWord;
+        this.usedWords = usedWords;
+        this.difficulty = difficulty;
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.demo.bots;
+
+import com.example.demo.dictionary.DeadEndDetector;
+import com.example.demo.dictionary.HangulRules;
+import com.example.demo.dictionary.IntIntMap;
+import com.example.demo.dictionary.SyllableValueTable;
+import com.example.demo.dictionary.SyllableValues;
+import com.example.demo.dictionary.UsedWordSet;
+import com.example.demo.dictionary.WordDictionary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 봇 수 선택 엔진.
+ *
+ * 음절 전이 그래프({@link SyllableGraph}) 위에서 negamax + alpha-beta 로 몇 수 앞을 읽고,
+ * 상대에게 받아칠 단어가 적게 남는 (또는 받아칠 수 없는) 수를 우선한다.
+ * 반복 심화(depth 1, 2, ...)로 탐색하고 한 수당 시간 예산을 넘으면 즉시 중단해서 마지막으로 끝난 깊이의 결과를 쓴다.
+ * → 봇 워커 풀(taskExecutor)을 여러 방이 같이 쓰므로, 깊은 탐색 하나가 다른 방 봇을 굶기지 않는다.
+ *
+ * 규칙은 서버와 같다: 받아칠 단어가 dead-end-threshold 미만으로 남는 수는 둘 수 없다. (DeadEndDetector)
+ * 그래프는 봇 어휘(2글자 이상 명사)만 세므로 상대(사람) 쪽 선택지는 보수적으로 추정된다.
+ *
+ * 음절 승패표({@link SyllableValues})가 있으면 첫 수 정렬과 말단 평가에 쓴다. (사전 전체 기준의 정적 값이라 탐색 결과가 우선)
+ */
+@Component
+public class BotStrategyEngine {
+
+    private static final int WIN = 1_000_000;
+    // 정적 평가: 남은 받아칠 단어 수 (이 이상은 같은 값으로 본다)
+    private static final int MOBILITY_CAP = 1_000;
+    // 승패표로 아는 승패: 탐색으로 확정한 승패(WIN)보다는 낮고 이동성 평가보다는 높게
+    private static final int TABLE_WIN = WIN / 2;
+
+    private final WordDictionary wordDictionary;
+    private final DeadEndDetector deadEndDetector;
+    private final SyllableValueTable syllableValueTable;
+
+    // 난이도별 예산의 전역 상한 (ms)
+    @Value("${kkutu.bot.search-budget-ms:50}")
+    private long budgetCapMillis = 50;
+
+    // 스냅샷별 그래프 (리로드 후 예전 스냅샷을 쓰는 방이 끝나면 GC 됨 - SyllableGraph 는 스냅샷을 참조하지 않아야 한다)
+    private final Map<WordDictionary.Snapshot, SyllableGraph> graphs = new WeakHashMap<>();
+
+    public BotStrategyEngine(WordDictionary wordDictionary, DeadEndDetector deadEndDetector,
+                             SyllableValueTable syllableValueTable) {
+        this.wordDictionary = wordDictionary;
+        this.deadEndDetector = deadEndDetector;
+        this.syllableValueTable = syllableValueTable;
+    }
+
+    /**
+     * 둘 수 있는 후보 단어를 좋은 순서대로 최대 limit 개 반환한다. (방 규칙 최종 확인은 호출자가 mailbox 에서)
+     */
+    public List<String> chooseCandidates(BotPosition position, int limit) {
+        String lastWord = position.getLastWord();
+        // 첫 턴 등 이전 단어가 없으면 '가'
+        char start = (lastWord == null || lastWord.isEmpty()) ? '가' : HangulRules.lastCharOf(lastWord);
+        BotDifficulty difficulty = BotDifficulty.orDefault(position.getDifficulty());
+        UsedWordSet used = position.getUsedWords();
+
+        if (difficulty == BotDifficulty.EASY || used.snapshot().size() == 0 || HangulRules.indexOf(start) < 0) {
+            return randomCandidates(start, limit);
+        }
+
+        SyllableGraph graph = graphFor(used.snapshot());
+        long budgetNanos = Math.min(difficulty.getBudgetMillis(), budgetCapMillis) * 1_000_000L;
+        Search search = new Search(graph, used, deadEndDetector.getThreshold(), deadEndDetector.getForcedLossPlies(),
+                syllableValueTable.valuesFor(used.snapshot()), System.nanoTime() + budgetNanos);
+        int[] rankedEdges = search.rankMoves(HangulRules.indexOf(start), difficulty.getMaxDepth());
+
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < rankedEdges.length && candidates.size() < limit; i++) {
+            String word = pickUnusedWord(graph, rankedEdges[i], used);
+            if (word != null) candidates.add(word);
+        }
+        System.out.println("--- [BOT SEARCH] " + difficulty + " from '" + start + "': depth " + search.completedDepth
+                + ", nodes " + search.nodes + ", moves " + rankedEdges.length + (search.aborted ? " (budget hit)" : ""));
+        return candidates;
+    }
+
+    /** EASY / 사전 없음: 기존처럼 시작 글자(와 두음법칙 대체 글자)의 명사를 무작위로 */
+    private List<String> randomCandidates(char start, int limit) {
+        List<String> candidates = new ArrayList<>(wordDictionary.randomNounsStartingWith(start, limit));
+        char alternative = HangulRules.alternativeOf(start);
+        if (alternative != HangulRules.NONE) {
+            candidates.addAll(wordDictionary.randomNounsStartingWith(alternative, limit));
+        }
+        Collections.shuffle(candidates);
+        return candidates;
+    }
+
+    SyllableGraph graphFor(WordDictionary.Snapshot snapshot) {
+        synchronized (graphs) {
+            SyllableGraph graph = graphs.get(snapshot);
+            if (graph == null) {
+                long startNanos = System.nanoTime();
+                graph = SyllableGraph.build(snapshot);
+                graphs.put(snapshot, graph);
+                System.out.println("--- [BOT SEARCH] Syllable graph built: " + graph.edgeCount() + " edges, took "
+                        + (System.nanoTime() - startNanos) / 1_000_000 + "ms");
+            }
+            return graph;
+        }
+    }
+
+    private static String pickUnusedWord(SyllableGraph graph, int edge, UsedWordSet used) {
+        int count = graph.weight(edge);
+        int offset = ThreadLocalRandom.current().nextInt(count);
+        for (int i = 0; i < count; i++) {
+            int id = graph.wordAt(edge, (offset + i) % count);
+            if (!used.containsId(id)) return used.snapshot().wordAt(id);
+        }
+        return null;
+    }
+
+    /** 한 수 계산용 탐색 상태 (스레드 하나에서만 사용) */
+    private static final class Search {
+
+        private static final RuntimeException OUT_OF_TIME = new RuntimeException("bot search budget exceeded", null, false, false) {
+        };
+
+        private final SyllableGraph graph;
+        private final boolean fixedRules;
+        private final int minReplies;
+        private final int forcedLossPlies;
+        private final SyllableValues values; // 없으면 null
+        private final long deadline;
+
+        // 사용된 간선/첫 음절 수: 방의 사용 단어 + 현재 탐색 경로
+        private final IntIntMap usedEdges = new IntIntMap(64);
+        private final IntIntMap usedFrom = new IntIntMap(64);
+
+        long nodes;
+        int completedDepth;
+        boolean aborted;
+
+        Search(SyllableGraph graph, UsedWordSet used, int threshold, int forcedLossPlies, SyllableValues values, long deadline) {
+            this.graph = graph;
+            this.fixedRules = threshold <= 0;
+            this.minReplies = Math.max(1, threshold);
+            this.forcedLossPlies = values == null ? 0 : forcedLossPlies;
+            this.values = values;
+            this.deadline = deadline;
+
+            WordDictionary.Snapshot snapshot = used.snapshot(); // graph 를 만든 스냅샷
+            used.forEachId(id -> {
+                if (!snapshot.isNoun(id) || !snapshot.isPlayable(id)) return; // 그래프에 없는 단어
+                int source = HangulRules.indexOf(snapshot.firstCharOf(id));
+                usedEdges.increment(SyllableGraph.edgeKey(source, HangulRules.indexOf(snapshot.lastCharOf(id))));
+                usedFrom.increment(source);
+            });
+        }
+
+        /**
+         * start 음절에서 둘 수 있는 간선들을 반복 심화로 평가해 좋은 순서로 돌려준다.
+         * 예산 안에 끝난 가장 깊은 단계의 순위를 쓴다. (depth 1 도 못 끝내면 승패표 → 받아칠 수가 적은 순)
+         */
+        int[] rankMoves(int start, int maxDepth) {
+            int[] moves = rootMoves(start);
+            int[] scores = new int[moves.length];
+            // 같은 점수끼리는 무작위 순서가 되도록 섞어서 시작
+            shuffle(moves);
+            for (int i = 0; i < moves.length; i++) {
+                int target = graph.target(moves[i]);
+                int known = tableScore(target, 1);
+                scores[i] = known != 0 ? -known : -replies(target);
+            }
+            sortByScore(moves, scores);
+
+            int[] iteration = new int[moves.length];
+            try {
+                for (int depth = 1; depth <= maxDepth; depth++) {
+                    int alpha = -WIN - 1;
+                    for (int i = 0; i < moves.length; i++) {
+                        iteration[i] = scoreRootMove(start, moves[i], depth, alpha);
+                        alpha = Math.max(alpha, iteration[i]);
+                    }
+                    System.arraycopy(iteration, 0, scores, 0, moves.length);
+                    sortByScore(moves, scores);
+                    completedDepth = depth;
+                    if (scores.length > 0 && Math.abs(scores[0]) >= WIN - maxDepth) break; // 승패 확정
+                }
+            } catch (RuntimeException e) {
+                if (e != OUT_OF_TIME) throw e;
+                aborted = true;
+            }
+            return moves;
+        }
+
+        private int scoreRootMove(int start, int edge, int depth, int alpha) {
+            int source = sourceOf(start, edge);
+            int target = graph.target(edge);
+            int key = SyllableGraph.edgeKey(source, target);
+            apply(source, key, 1);
+            try {
+                return -negamax(target, depth - 1, -WIN - 1, -alpha, 1);
+            } finally {
+                apply(source, key, -1);
+            }
+        }
+
+        private int negamax(int syllable, int depth, int alpha, int beta, int ply) {
+            if ((++nodes & 1023) == 0 && System.nanoTime() > deadline) {
+                throw OUT_OF_TIME;
+            }
+            if (depth == 0) {
+                int replies = replies(syllable);
+                if (replies == 0) return -(WIN - ply);
+                int known = tableScore(syllable, ply);
+                return known != 0 ? known : Math.min(replies, MOBILITY_CAP);
+            }
+
+            boolean anyMove = false;
+            int best = -WIN - 1;
+            int alternative = alternativeIndex(syllable);
+            for (int pass = 0; pass < 2; pass++) {
+                int source = (pass == 0) ? syllable : alternative;
+                if (source < 0) continue;
+                for (int edge = graph.firstEdge(source); edge < graph.endEdge(source); edge++) {
+                    int target = graph.target(edge);
+                    int key = SyllableGraph.edgeKey(source, target);
+                    if (graph.weight(edge) - usedEdges.get(key) <= 0) continue;
+
+                    apply(source, key, 1);
+                    try {
+                        if (!isLegalTarget(target)) continue;
+                        anyMove = true;
+                        int score = -negamax(target, depth - 1, -beta, -alpha, ply + 1);
+                        if (score > best) {
+                            best = score;
+                            if (best > alpha) alpha = best;
+                            if (alpha >= beta) return best;
+                        }
+                    } finally {
+                        apply(source, key, -1);
+                    }
+                }
+            }
+            return anyMove ? best : -(WIN - ply); // 둘 수 있는 수가 없으면 패배 (빨리 지는 쪽이 더 나쁨)
+        }
+
+        private int[] rootMoves(int start) {
+            List<Integer> moves = new ArrayList<>();
+            int alternative = alternativeIndex(start);
+            for (int pass = 0; pass < 2; pass++) {
+                int source = (pass == 0) ? start : alternative;
+                if (source < 0) continue;
+                for (int edge = graph.firstEdge(source); edge < graph.endEdge(source); edge++) {
+                    int target = graph.target(edge);
+                    int key = SyllableGraph.edgeKey(source, target);
+                    if (graph.weight(edge) - usedEdges.get(key) <= 0) continue;
+                    apply(source, key, 1);
+                    boolean legal = isLegalTarget(target);
+                    apply(source, key, -1);
+                    if (legal) moves.add(edge);
+                }
+            }
+            return moves.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // 간선이 start 에서 나온 것인지, 두음법칙 대체 글자에서 나온 것인지
+        private int sourceOf(int start, int edge) {
+            return (edge >= graph.firstEdge(start) && edge < graph.endEdge(start)) ? start : alternativeIndex(start);
+        }
+
+        /** target 으로 끝나는 단어를 둘 수 있는지 (서버의 한방 단어 규칙과 동일한 기준) */
+        private boolean isLegalTarget(int target) {
+            if (fixedRules) {
+                return !HangulRules.DEFAULT_FINISHING.contains((char) (HangulRules.SYLLABLE_BASE + target));
+            }
+            if (replies(target) < minReplies) return false;
+            if (forcedLossPlies > 0) {
+                int value = values.valueAt(target);
+                return !(value < 0 && SyllableValues.pliesOf(value) <= forcedLossPlies);
+            }
+            return true;
+        }
+
+        /** 승패표 기준, syllable 로 이어 내야 하는 쪽의 점수 (빨리 이길수록 높고 빨리 질수록 낮음). 모르면 0 */
+        private int tableScore(int syllable, int ply) {
+            if (values == null) return 0;
+            int value = values.valueAt(syllable);
+            if (value == SyllableValues.UNKNOWN) return 0;
+            int plies = SyllableValues.pliesOf(value);
+            return value > 0 ? TABLE_WIN - ply - plies : -(TABLE_WIN - ply - plies);
+        }
+
+        /** syllable 뒤에 받아칠 수 있는 남은 단어 수 (두음법칙 포함) */
+        private int replies(int syllable) {
+            int count = graph.wordsFrom(syllable) - usedFrom.get(syllable);
+            int alternative = alternativeIndex(syllable);
+            if (alternative >= 0) {
+                count += graph.wordsFrom(alternative) - usedFrom.get(alternative);
+            }
+            return count;
+        }
+
+        private void apply(int source, int key, int delta) {
+            usedEdges.add(key, delta);
+            usedFrom.add(source, delta);
+        }
+
+        private static int alternativeIndex(int syllable) {
+            char alternative = HangulRules.alternativeOf((char) (HangulRules.SYLLABLE_BASE + syllable));
+            return alternative == HangulRules.NONE ? -1 : HangulRules.indexOf(alternative);
+        }
+
+        private static void shuffle(int[] values) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = values.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = values[i];
+                values[i] = values[j];
+                values[j] = tmp;
+            }
+        }
+
+        // 점수 내림차순 안정 정렬 (후보 수가 적으므로 삽입 정렬)
+        private static void sortByScore(int[] moves, int[] scores) {
+            for (int i = 1; i < moves.length; i++) {
+                int move = moves[i];
+                int score = scores[i];
+                int j = i - 1;
+                while (j >= 0 && scores[j] < score) {
+                    moves[j + 1] = moves[j];
+                    scores[j + 1] = scores[j];
+                    j--;
+                }
+                moves[j + 1] = move;
+                scores[j + 1] = score;
+            }
+        }
+    }
+}
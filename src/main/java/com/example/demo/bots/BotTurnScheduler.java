@@ -0,0 +1,66 @@
+package com.example.demo.bots;
+
+import com.example.demo.metrics.GameMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 봇 턴 스케줄러.
+ * "생각하는 척" 대기는 타이머(TaskScheduler)로만 처리하고, 대기가 끝난 뒤의 수 계산만 워커(taskExecutor)에서 실행한다.
+ * 대기 중인 봇은 스레드를 점유하지 않으므로, 동시에 생각 중인 봇 수가 워커 풀 크기에 묶이지 않는다.
+ */
+@Component
+public class BotTurnScheduler {
+
+    // 워커 큐가 가득 찼을 때 재시도 간격
+    private static final long RETRY_DELAY_MILLIS = 200;
+
+    private final TaskScheduler taskScheduler;
+    private final Executor taskExecutor;
+    private final GameMetrics gameMetrics;
+
+    @Value("${kkutu.bot.think-delay-ms:1500}")
+    private long thinkDelayMillis;
+
+    public BotTurnScheduler(@Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                            @Qualifier("taskExecutor") Executor taskExecutor,
+                            GameMetrics gameMetrics) {
+        this.taskScheduler = taskScheduler;
+        this.taskExecutor = taskExecutor;
+        this.gameMetrics = gameMetrics;
+    }
+
+    /** think-delay 뒤에 move 를 워커 스레드에서 실행하도록 예약 */
+    public void schedule(Runnable move) {
+        long scheduledAt = System.nanoTime();
+        Runnable timedMove = () -> {
+            long startedAt = System.nanoTime();
+            gameMetrics.recordBotThink(startedAt - scheduledAt);
+            try {
+                move.run();
+            } finally {
+                gameMetrics.recordBotCompute(System.nanoTime() - startedAt);
+            }
+        };
+        scheduleAfter(timedMove, thinkDelayMillis);
+    }
+
+    private void scheduleAfter(Runnable move, long delayMillis) {
+        taskScheduler.schedule(() -> dispatch(move), Instant.now().plusMillis(delayMillis));
+    }
+
+    private void dispatch(Runnable move) {
+        try {
+            taskExecutor.execute(move);
+        } catch (RejectedExecutionException e) {
+            System.err.println("!!! [BOT SCHEDULER] Worker queue full, retrying in " + RETRY_DELAY_MILLIS + "ms");
+            scheduleAfter(move, RETRY_DELAY_MILLIS);
+        }
+    }
+}
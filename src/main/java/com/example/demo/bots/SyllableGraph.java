@@ -0,0 +1,109 @@
+package com.example.demo.bots;
+
+import com.example.demo.dictionary.HangulRules;
+import com.example.demo.dictionary.WordDictionary;
+
+import java.util.Arrays;
+
+/**
+ * 봇이 쓸 수 있는 단어(2글자 이상 명사)로 만든 음절 → 음절 전이 그래프. 사전 스냅샷 하나당 한 번 만든다.
+ *
+ * 단어 w 는 간선 (첫 음절 → 끝 음절) 이고, 같은 간선의 단어들은 하나로 묶어서 개수만 센다.
+ * 전부 CSR 형태의 int 배열이라 객체가 거의 없다.
+ * - edgeStart[s] ~ edgeStart[s+1]: 첫 음절 s 의 간선들
+ * - edgeTarget[e] / edgeWordStart[e] ~ edgeWordStart[e+1]: 간선 e 의 끝 음절 / 단어 id 들 (edgeWords)
+ * - wordsFrom[s]: 첫 음절 s 로 시작하는 단어 수
+ * 스냅샷을 참조하지 않는다 (스냅샷을 키로 하는 약한 참조 캐시에 값으로 들어가므로). 단어 id 는 만든 스냅샷 기준.
+ */
+public final class SyllableGraph {
+
+    private static final int SYLLABLES = HangulRules.SYLLABLE_COUNT;
+
+    private final int[] edgeStart;
+    private final int[] edgeTarget;
+    private final int[] edgeWordStart;
+    private final int[] edgeWords;
+    private final int[] wordsFrom;
+
+    private SyllableGraph(int[] edgeStart, int[] edgeTarget, int[] edgeWordStart, int[] edgeWords, int[] wordsFrom) {
+        this.edgeStart = edgeStart;
+        this.edgeTarget = edgeTarget;
+        this.edgeWordStart = edgeWordStart;
+        this.edgeWords = edgeWords;
+        this.wordsFrom = wordsFrom;
+    }
+
+    public static SyllableGraph build(WordDictionary.Snapshot snapshot) {
+        // (첫 음절, 끝 음절, id) 를 long 하나에 담아 정렬 → 간선별로 묶임
+        long[] keyed = new long[snapshot.size()];
+        int count = 0;
+        for (int id = 0; id < snapshot.size(); id++) {
+            if (!snapshot.isNoun(id) || !snapshot.isPlayable(id)) continue;
+            long edgeKey = (long) HangulRules.indexOf(snapshot.firstCharOf(id)) * SYLLABLES
+                    + HangulRules.indexOf(snapshot.lastCharOf(id));
+            keyed[count++] = (edgeKey << 32) | id;
+        }
+        Arrays.sort(keyed, 0, count);
+
+        int[] edgeStart = new int[SYLLABLES + 1];
+        int[] edgeTarget = new int[count];
+        int[] edgeWordStart = new int[count + 1];
+        int[] edgeWords = new int[count];
+        int[] wordsFrom = new int[SYLLABLES];
+        int edges = 0;
+        long previousKey = -1;
+        for (int i = 0; i < count; i++) {
+            long edgeKey = keyed[i] >>> 32;
+            int source = (int) (edgeKey / SYLLABLES);
+            if (edgeKey != previousKey) {
+                edgeTarget[edges] = (int) (edgeKey % SYLLABLES);
+                edgeWordStart[edges] = i;
+                edgeStart[source + 1]++;
+                edges++;
+                previousKey = edgeKey;
+            }
+            edgeWords[i] = (int) keyed[i];
+            wordsFrom[source]++;
+        }
+        edgeWordStart[edges] = count;
+        for (int s = 0; s < SYLLABLES; s++) {
+            edgeStart[s + 1] += edgeStart[s];
+        }
+        return new SyllableGraph(edgeStart, Arrays.copyOf(edgeTarget, edges),
+                Arrays.copyOf(edgeWordStart, edges + 1), edgeWords, wordsFrom);
+    }
+
+    public int edgeCount() {
+        return edgeTarget.length;
+    }
+
+    int firstEdge(int source) {
+        return edgeStart[source];
+    }
+
+    int endEdge(int source) {
+        return edgeStart[source + 1];
+    }
+
+    int target(int edge) {
+        return edgeTarget[edge];
+    }
+
+    /** 간선 e 의 단어 수 */
+    int weight(int edge) {
+        return edgeWordStart[edge + 1] - edgeWordStart[edge];
+    }
+
+    int wordAt(int edge, int i) {
+        return edgeWords[edgeWordStart[edge] + i];
+    }
+
+    int wordsFrom(int source) {
+        return wordsFrom[source];
+    }
+
+    /** 간선 키 (첫 음절 × 11172 + 끝 음절): 사용 수 카운터의 키 */
+    static int edgeKey(int source, int target) {
+        return source * SYLLABLES + target;
+    }
+}
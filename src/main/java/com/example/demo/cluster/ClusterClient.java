@@ -0,0 +1,46 @@
+package com.example.demo.cluster;
+
+import com.example.demo.DTO.CreateRoomRequest;
+import com.example.demo.DTO.RoomInfoDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/** 다른 노드의 /api/rooms 호출 (샤딩 모드에서만 쓰임) */
+@Component
+public class ClusterClient {
+
+    private static final ParameterizedTypeReference<Map<String, String>> CREATE_RESPONSE = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient webClient = WebClient.builder().build();
+
+    @Value("${kkutu.cluster.peer-timeout-ms:2000}")
+    private long timeoutMillis = 2000;
+
+    /** nodeUrl 노드가 가진 방 목록 (그 노드는 다시 다른 노드에 묻지 않는다) */
+    public Mono<List<RoomInfoDTO>> localRoomsOf(String nodeUrl) {
+        return webClient.get()
+                .uri(nodeUrl + "/api/rooms?scope=local")
+                .retrieve()
+                .bodyToFlux(RoomInfoDTO.class)
+                .collectList()
+                .timeout(Duration.ofMillis(timeoutMillis));
+    }
+
+    /** roomId 의 소유 노드에 방 생성을 넘긴다 */
+    public Mono<Map<String, String>> createRoomOn(String nodeUrl, String roomId, CreateRoomRequest request) {
+        return webClient.post()
+                .uri(nodeUrl + "/api/rooms?roomId={roomId}", roomId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(CREATE_RESPONSE)
+                .timeout(Duration.ofMillis(timeoutMillis));
+    }
+}
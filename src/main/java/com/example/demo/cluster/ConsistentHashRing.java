@@ -0,0 +1,80 @@
+package com.example.demo.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * consistent hashing 링. 노드마다 가상 노드 virtualNodes 개를 링 위에 뿌리고,
+ * 키는 해시값 이상인 첫 가상 노드의 주인에게 간다. (노드가 하나 빠지면 그 노드의 키만 옮겨감)
+ *
+ * 해시는 JVM 과 무관하게 결정적(FNV-1a 64 + murmur3 finalizer)이어야 모든 노드가 같은 소유자를 계산한다.
+ * 불변 객체이고, 링은 정렬된 long 배열 + 이진 탐색이다.
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final String[] owners;
+    private final List<String> nodes;
+
+    public ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) throw new IllegalArgumentException("Cluster needs at least one node");
+        if (virtualNodes <= 0) throw new IllegalArgumentException("virtualNodes must be positive: " + virtualNodes);
+        this.nodes = List.copyOf(nodes);
+
+        int size = nodes.size() * virtualNodes;
+        long[] keyed = new long[size];
+        String[] byIndex = new String[size];
+        long[] hashes = new long[size];
+        int i = 0;
+        for (String node : nodes) {
+            for (int v = 0; v < virtualNodes; v++) {
+                hashes[i] = hash(node + "#" + v);
+                byIndex[i] = node;
+                i++;
+            }
+        }
+        // (해시, 원래 위치) 로 정렬
+        Integer[] order = new Integer[size];
+        for (int k = 0; k < size; k++) order[k] = k;
+        Arrays.sort(order, (a, b) -> Long.compareUnsigned(hashes[a], hashes[b]));
+        this.points = new long[size];
+        this.owners = new String[size];
+        for (int k = 0; k < size; k++) {
+            points[k] = hashes[order[k]];
+            owners[k] = byIndex[order[k]];
+        }
+    }
+
+    /** key 를 소유한 노드 */
+    public String ownerOf(String key) {
+        long h = hash(key);
+        // unsigned 순서에서 h 이상인 첫 지점 (없으면 0번으로 한 바퀴)
+        int lo = 0;
+        int hi = points.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Long.compareUnsigned(points[mid], h) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return owners[lo == points.length ? 0 : lo];
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        // 짧은 키(8자리 roomId)도 링 전체에 고르게 퍼지도록
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
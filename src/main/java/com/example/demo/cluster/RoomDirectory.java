@@ -0,0 +1,178 @@
+package com.example.demo.cluster;
+
+import com.example.demo.DTO.CreateRoomRequest;
+import com.example.demo.DTO.GameRoom;
+import com.example.demo.DTO.RoomInfoDTO;
+import com.example.demo.service.GameRoomService;
+import com.example.demo.service.LobbyFeed;
+import com.example.demo.service.RoomStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방 생성/목록의 노드 간 라우팅.
+ *
+ * - 생성: 받은 노드가 roomId 를 뽑고, 소유 노드가 다른 곳이면 그 노드에 생성 요청을 넘긴다.
+ *   소유 노드에 요청이 닿지 않은 게 확실하면 (연결 실패 / 4xx) 이 노드가 소유하는 roomId 를 다시 뽑아 여기 만든다. (가용성 우선)
+ *   닿았는지 모르면 (응답 타임아웃 / 5xx) 같은 roomId 로 한 번 더 요청한다. 소유 노드는 이미 만든 방이면 그 방을 돌려준다 (멱등).
+ *   그래도 실패하면 503. (여기 따로 만들면 소유 노드에 생겼을지 모르는 방과 중복 - 그 방은 빈 방이라 idle 정리로 닫힌다)
+ * - 목록: 이 노드의 방 + 다른 노드들의 scope=local 목록을 병렬로 모은다. 응답 없는 노드는 빼고 보여준다.
+ *   이 노드의 방은 LobbyFeed 가 들고 있는 불변 목록을 그대로 쓴다. (요청마다 방을 훑지 않음)
+ * - 입장/제출: 브라우저가 응답의 ownerUrl 로 직접 WebSocket 을 연결하므로 서버 간 중계는 없다.
+ *
+ * 단일 노드 모드에서는 ownerUrl 이 null 이고 다른 노드 호출도 없다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoomDirectory {
+
+    // 소유 노드 장애 시 이 노드 소유 roomId 를 찾기 위한 최대 시도 수 (노드 N 개면 평균 N 번)
+    private static final int LOCAL_ID_ATTEMPTS = 256;
+
+    private final GameRoomService gameRoomService;
+    private final RoomStore roomStore;
+    private final ClusterClient clusterClient;
+    private final LobbyFeed lobbyFeed;
+
+    /**
+     * @param requestedRoomId 다른 노드가 넘긴 생성 요청이면 그 노드가 뽑은 roomId, 브라우저 요청이면 null
+     */
+    public Map<String, String> createRoom(CreateRoomRequest request, String requestedRoomId) {
+        if (requestedRoomId != null) {
+            // 노드 간 요청: 링이 같다면 항상 이 노드 소유여야 한다 (다시 넘기지 않음 → 순환 없음)
+            if (!roomStore.isOwnedHere(requestedRoomId)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Room " + requestedRoomId + " belongs to " + roomStore.ownerOf(requestedRoomId) + " (cluster node lists differ?)");
+            }
+            // 같은 roomId 의 재시도 (앞 요청의 응답이 요청 노드에서 타임아웃) 와 겹쳐도 방은 하나만
+            synchronized (this) {
+                GameRoom existing = roomStore.get(requestedRoomId);
+                if (existing != null) {
+                    System.out.println("--- [CLUSTER] Room " + requestedRoomId + " already created (retried request)");
+                    return responseOf(existing);
+                }
+                return createHere(requestedRoomId, request);
+            }
+        }
+
+        String roomId = GameRoomService.newRoomId();
+        if (roomStore.isOwnedHere(roomId)) {
+            return createHere(roomId, request);
+        }
+
+        String owner = roomStore.ownerOf(roomId);
+        try {
+            return createOnOwner(owner, roomId, request);
+        } catch (Exception e) {
+            if (notDelivered(e)) {
+                System.err.println("!!! [CLUSTER] Owner " + owner + " unavailable for new room (" + e.getMessage() + "), placing locally");
+                return createHere(localRoomId(), request);
+            }
+        }
+        // 소유 노드가 만들었는지 모름: 같은 roomId 로 다시 (소유 노드에서 멱등)
+        try {
+            return createOnOwner(owner, roomId, request);
+        } catch (Exception e) {
+            System.err.println("!!! [CLUSTER] Owner " + owner + " did not confirm room " + roomId + " (" + e.getMessage() + ")");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Room owner node did not respond, try again");
+        }
+    }
+
+    private Map<String, String> createOnOwner(String owner, String roomId, CreateRoomRequest request) {
+        Map<String, String> created = clusterClient.createRoomOn(owner, roomId, request).block();
+        System.out.println("--- [CLUSTER] Room " + roomId + " created on owner " + owner);
+        return created;
+    }
+
+    /** 요청이 소유 노드에서 처리되지 않은 게 확실한 실패 (연결 실패, 방을 만들지 않고 돌려준 4xx) */
+    private static boolean notDelivered(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException) return true;
+            if (cause instanceof WebClientResponseException response) return response.getStatusCode().is4xxClientError();
+        }
+        return false;
+    }
+
+    /** @param includePeers false 면 이 노드의 방만 (다른 노드가 모을 때 쓰는 scope=local) */
+    public List<RoomInfoDTO> listRooms(boolean includePeers) {
+        List<RoomInfoDTO> local = lobbyFeed.snapshot().rooms();
+        if (!includePeers || roomStore.peerUrls().isEmpty()) {
+            return local;
+        }
+        List<RoomInfoDTO> rooms = new ArrayList<>(local);
+
+        List<List<RoomInfoDTO>> remote = Flux.fromIterable(roomStore.peerUrls())
+                .flatMap(peer -> clusterClient.localRoomsOf(peer).onErrorResume(e -> {
+                    System.err.println("!!! [CLUSTER] Room list from " + peer + " failed: " + e.getMessage());
+                    return Mono.just(List.of());
+                }))
+                .collectList()
+                .block();
+        if (remote != null) {
+            remote.forEach(rooms::addAll);
+        }
+        return rooms;
+    }
+
+    private Map<String, String> createHere(String roomId, CreateRoomRequest request) {
+        GameRoom room = gameRoomService.createRoom(roomId, request.getRoomName(), request.getMaxPlayers(),
+                request.getBotCount(), request.getBotDifficulty());
+        return responseOf(room);
+    }
+
+    private Map<String, String> responseOf(GameRoom room) {
+        Map<String, String> response = new LinkedHashMap<>();
+        response.put("roomId", room.getRoomId());
+        response.put("gameId", room.getGameId()); // 게임 기록 조회용 (/api/games/{gameId}/events)
+        if (roomStore.selfUrl() != null) {
+            response.put("ownerUrl", roomStore.selfUrl());
+        }
+        return response;
+    }
+
+    /**
+     * 목록 필터링 (원본 목록은 불변이므로 새 목록을 만든다)
+     * @param query 방 이름에 포함될 문자열 (null/빈 값이면 전체)
+     * @param joinableOnly true 면 자리가 남은 방만
+     */
+    public static List<RoomInfoDTO> filter(List<RoomInfoDTO> rooms, String query, boolean joinableOnly) {
+        boolean hasQuery = query != null && !query.isBlank();
+        if (!hasQuery && !joinableOnly) return rooms;
+        String needle = hasQuery ? query.trim() : null;
+        List<RoomInfoDTO> filtered = new ArrayList<>();
+        for (RoomInfoDTO room : rooms) {
+            if (joinableOnly && room.getCurrentPlayerCount() >= room.getMaxPlayers()) continue;
+            if (needle != null && (room.getRoomName() == null || !room.getRoomName().contains(needle))) continue;
+            filtered.add(room);
+        }
+        return filtered;
+    }
+
+    /** page (0부터) 번째 size 개. size 가 0 이하면 전체 */
+    public static List<RoomInfoDTO> page(List<RoomInfoDTO> rooms, int page, int size) {
+        if (size <= 0) return rooms;
+        long from = (long) Math.max(page, 0) * size;
+        if (from >= rooms.size()) return List.of();
+        return rooms.subList((int) from, (int) Math.min(rooms.size(), from + size));
+    }
+
+    private String localRoomId() {
+        for (int i = 0; i < LOCAL_ID_ATTEMPTS; i++) {
+            String roomId = GameRoomService.newRoomId();
+            if (roomStore.isOwnedHere(roomId)) return roomId;
+        }
+        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "No room id owned by this node");
+    }
+}
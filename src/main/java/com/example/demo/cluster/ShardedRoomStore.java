@@ -0,0 +1,103 @@
+package com.example.demo.cluster;
+
+import com.example.demo.DTO.GameRoom;
+import com.example.demo.service.RoomStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 노드 모드: roomId 를 consistent hash 링에 올려 소유 노드를 정한다.
+ * 이 노드는 자기 소유 방만 메모리에 들고, 나머지는 {@link #ownerOf(String)} 로 어디 있는지만 안다.
+ *
+ * 모든 노드가 같은 kkutu.cluster.nodes 목록(순서 무관)을 가져야 같은 소유자를 계산한다.
+ * 노드 주소는 브라우저와 다른 노드가 접근할 수 있는 기본 URL 이다. (예: http://localhost:8081)
+ */
+@Component
+@ConditionalOnProperty(name = "kkutu.cluster.mode", havingValue = "sharded")
+public class ShardedRoomStore implements RoomStore {
+
+    private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
+    private final ConsistentHashRing ring;
+    private final String self;
+    private final List<String> peers;
+
+    public ShardedRoomStore(@Value("${kkutu.cluster.nodes}") String nodes,
+                            @Value("${kkutu.cluster.self}") String self,
+                            @Value("${kkutu.cluster.virtual-nodes:128}") int virtualNodes) {
+        List<String> nodeList = Arrays.stream(nodes.split(","))
+                .map(ShardedRoomStore::normalize)
+                .filter(node -> !node.isEmpty())
+                .distinct()
+                .toList();
+        this.self = normalize(self);
+        if (!nodeList.contains(this.self)) {
+            throw new IllegalStateException("kkutu.cluster.self (" + self + ") is not in kkutu.cluster.nodes " + nodeList);
+        }
+        this.ring = new ConsistentHashRing(nodeList, virtualNodes);
+        this.peers = nodeList.stream().filter(node -> !node.equals(this.self)).toList();
+        System.out.println("--- [CLUSTER] Sharded room store: self " + this.self + ", peers " + peers
+                + ", virtual nodes " + virtualNodes + " ---");
+    }
+
+    @Override
+    public GameRoom get(String roomId) {
+        return roomId == null ? null : rooms.get(roomId);
+    }
+
+    @Override
+    public void put(GameRoom room) {
+        if (!isOwnedHere(room.getRoomId())) {
+            throw new IllegalStateException("Room " + room.getRoomId() + " belongs to " + ownerOf(room.getRoomId()));
+        }
+        rooms.put(room.getRoomId(), room);
+    }
+
+    @Override
+    public void remove(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    @Override
+    public Collection<GameRoom> rooms() {
+        return Collections.unmodifiableCollection(rooms.values());
+    }
+
+    @Override
+    public int size() {
+        return rooms.size();
+    }
+
+    @Override
+    public boolean isOwnedHere(String roomId) {
+        return self.equals(ownerOf(roomId));
+    }
+
+    @Override
+    public String ownerOf(String roomId) {
+        return ring.ownerOf(roomId);
+    }
+
+    @Override
+    public String selfUrl() {
+        return self;
+    }
+
+    @Override
+    public List<String> peerUrls() {
+        return peers;
+    }
+
+    // 끝의 '/' 차이로 다른 노드로 취급되지 않도록
+    private static String normalize(String url) {
+        String trimmed = url == null ? "" : url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -1,15 +1,19 @@
 package com.example.demo.config;
 
+import com.example.demo.metrics.GameMetrics;
+import com.example.demo.timer.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @Configuration
 public class AsyncConfig {
 
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(GameMetrics gameMetrics) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // 봇이 API를 호출할 때 사용할 기본 스레드 수
@@ -20,6 +24,33 @@ public class AsyncConfig {
         executor.setQueueCapacity(100);
         // 스레드 이름 접두사 (로그 볼 때 편함)
         executor.setThreadNamePrefix("async-bot-");
+        // 큐가 가득 차서 거부될 때 지표에 남기고 기존처럼 예외를 던진다
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            gameMetrics.recordExecutorRejection("taskExecutor");
+            throw new RejectedExecutionException("taskExecutor queue full (" + pool.getQueue().size() + ")");
+        });
+
+        executor.initialize();
+        return executor;
+    }
+
+    // 턴 시간 제한 / 방치된 방 정리용 타이머 (스레드 1개로 모든 방의 마감 관리)
+    @Bean(name = "timingWheel", destroyMethod = "stop")
+    public TimingWheel timingWheel(@Value("${kkutu.timer.tick-ms:100}") long tickMillis,
+                                   @Value("${kkutu.timer.wheel-size:512}") int wheelSize) {
+        return new TimingWheel("timing-wheel", tickMillis, wheelSize);
+    }
+
+    // 방 mailbox(RoomExecutor) 를 실행하는 워커 풀: 코어 수만큼 방을 병렬 처리
+    @Bean(name = "roomWorkerPool")
+    public Executor roomWorkerPool() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        // 방 하나당 큐에 최대 1개만 올라가므로 (mailbox 단위 스케줄) 대기열은 방 수를 넘지 않음
+        executor.setThreadNamePrefix("room-");
 
         executor.initialize();
         return executor;
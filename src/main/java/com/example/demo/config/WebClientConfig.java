@@ -3,6 +3,7 @@ package com.example.demo.config;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -15,17 +16,28 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class WebClientConfig {
 
+    // 부하 테스트 때는 로컬 가짜 서버(FakeStdictServer)로 바꿔서 실제 API 를 호출하지 않는다
+    @Value("${api.korean.base-url:https://stdict.korean.go.kr/api}")
+    private String baseUrl;
+
+    // 호출 전체 상한은 KoreanApiService 의 kkutu.stdict.timeout-ms. 여기는 소켓 단계별 상한
+    @Value("${kkutu.stdict.connect-timeout-ms:2000}")
+    private int connectTimeoutMillis;
+
+    @Value("${kkutu.stdict.timeout-ms:2000}")
+    private long timeoutMillis;
+
     @Bean
     public WebClient koreanApiWebClient() {
         HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000) // 연결 타임아웃 5초
-                .responseTimeout(Duration.ofMillis(5000)) // 응답 타임아웃 5초
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis) // 연결 타임아웃
+                .responseTimeout(Duration.ofMillis(timeoutMillis)) // 응답 타임아웃
                 .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(5000, TimeUnit.MILLISECONDS))
-                                .addHandlerLast(new WriteTimeoutHandler(5000, TimeUnit.MILLISECONDS)));
+                        conn.addHandlerLast(new ReadTimeoutHandler(timeoutMillis, TimeUnit.MILLISECONDS))
+                                .addHandlerLast(new WriteTimeoutHandler(timeoutMillis, TimeUnit.MILLISECONDS)));
 
         return WebClient.builder()
-                .baseUrl("https://stdict.korean.go.kr/api") // 국립국어원 API 기본 URL
+                .baseUrl(baseUrl) // 국립국어원 API 기본 URL
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
@@ -16,7 +16,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 1. 메시지 브로커가 /topic 으로 시작하는 주제(topic)를 구독한 클라이언트들에게 메시지 전파
-        registry.enableSimpleBroker("/topic");
+        //    /queue 는 세션 한 곳에만 보내는 메시지 (/user/queue/state, /user/queue/errors)
+        registry.enableSimpleBroker("/topic", "/queue");
         // 2. 클라이언트가 서버로 메시지를 보낼 때 사용할 접두사(prefix)
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
@@ -0,0 +1,73 @@
+package com.example.demo.dictionary;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한방 단어 판정기.
+ *
+ * 끝 글자 s 뒤에 남은 단어 수 = 사전에서 s(또는 두음법칙 대체 글자)로 시작하는 단어 수 − 이 방에서 이미 쓴 수.
+ * 앞의 값은 사전 스냅샷이, 뒤의 값은 방의 {@link UsedWordSet} 이 들고 있으므로 판정은 배열/카운터 조회 몇 번이다.
+ * 남은 수가 0 이거나 threshold 미만이면 그 글자로 끝나는 단어를 한방 단어로 보고 거부한다.
+ *
+ * 사전이 비어 있거나 (DB 적재 실패 등) threshold 가 0 이하면 기존 고정 목록 {@link HangulRules#DEFAULT_FINISHING} 으로 판정한다.
+ *
+ * forced-loss-plies 가 1 이상이면 음절 승패표({@link SyllableValueTable})도 본다:
+ * 끝 글자에서 상대가 그 수 안에 반드시 지는 단어(받아칠 수는 있어도 결국 막히는 단어)도 한방 단어로 거부한다.
+ */
+@Component
+public class DeadEndDetector {
+
+    private final SyllableValueTable syllableValueTable;
+
+    // 남은 단어 수가 이 값보다 작으면 한방 단어 (1 이면 "남은 단어가 0개" 일 때만, 0 이하면 고정 목록 사용)
+    @Value("${kkutu.rules.dead-end-threshold:1}")
+    private int threshold = 1;
+
+    // 0 이면 승패표 규칙 사용 안 함 (예: 2 = 상대가 받아쳐도 다음 수에 막히는 단어까지 거부)
+    @Value("${kkutu.rules.forced-loss-plies:0}")
+    private int forcedLossPlies = 0;
+
+    public DeadEndDetector(SyllableValueTable syllableValueTable) {
+        this.syllableValueTable = syllableValueTable;
+    }
+
+    /** word 를 내고 나면 상대가 이어 낼 단어가 없는지 */
+    public boolean isDeadEnd(UsedWordSet used, String word) {
+        WordDictionary.Snapshot snapshot = used.snapshot();
+        if (snapshot.size() == 0 || threshold <= 0) {
+            return HangulRules.endsWithAny(word, HangulRules.DEFAULT_FINISHING);
+        }
+        int remaining = remainingAfter(used, word);
+        if (remaining <= 0 || remaining < threshold) return true;
+        return isForcedLoss(snapshot, HangulRules.lastCharOf(word));
+    }
+
+    /** 승패표 기준으로 last 로 이어 내야 하는 쪽이 forced-loss-plies 수 안에 지는지 (표가 없거나 규칙이 꺼져 있으면 false) */
+    public boolean isForcedLoss(WordDictionary.Snapshot snapshot, char last) {
+        if (forcedLossPlies <= 0) return false;
+        SyllableValues values = syllableValueTable.valuesFor(snapshot);
+        return values != null && values.isLossWithin(last, forcedLossPlies);
+    }
+
+    /** word 를 낸 뒤 그 끝 글자로 이어 낼 수 있는 남은 사전 단어 수 (word 자신이 이어지는 단어면 그것도 뺀다) */
+    public int remainingAfter(UsedWordSet used, String word) {
+        WordDictionary.Snapshot snapshot = used.snapshot();
+        char last = HangulRules.lastCharOf(word);
+        int remaining = snapshot.countFollowing(last) - used.countUsedFollowing(last);
+
+        int id = snapshot.idOf(word);
+        if (id >= 0 && snapshot.isPlayable(id) && !used.containsId(id) && HangulRules.canFollow(last, snapshot.firstCharOf(id))) {
+            remaining--;
+        }
+        return remaining;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public int getForcedLossPlies() {
+        return forcedLossPlies;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.dictionary;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 배치 모드: kkutu.import.csv-path 의 CSV 로 사전 테이블을 교체한 뒤 종료한다. (./gradlew importDictionary)
+ * kkutu.import.exit-after-import=true 일 때만 등록된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kkutu.import.exit-after-import", havingValue = "true")
+public class DictionaryImportJob implements ApplicationRunner {
+
+    private final DictionaryImporter dictionaryImporter;
+    private final ApplicationContext applicationContext;
+
+    @Value("${kkutu.import.csv-path:./korean_words.csv}")
+    private String csvPath;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            dictionaryImporter.importCsv(Path.of(csvPath));
+        } catch (Exception e) {
+            System.err.println("!!! [DICTIONARY IMPORT] Failed: " + e.getMessage());
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+}
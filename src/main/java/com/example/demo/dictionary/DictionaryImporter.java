@@ -0,0 +1,305 @@
+package com.example.demo.dictionary;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사전 CSV (순위,단어,품사,풀이,등급) → kkutu_words 적재기. (기존 convert_to_sql.py 대체)
+ *
+ * 한 번의 스트리밍 읽기에서
+ * - 동형어 번호(가격03 → 가격)와 괄호 별칭(도쿄(동경) → 도쿄)을 떼고, 품사 약어를 풀어 쓴다 (명 → 명사)
+ * - (단어, 품사) 로 중복을 없애고 (순위가 가장 높은 행을 남김)
+ * - 인메모리 인덱스({@link WordDictionary.Snapshot})도 같이 만든다 → 적재 후 DB 를 다시 읽지 않는다.
+ * 적재는 staging 테이블에 JDBC batch INSERT 한 뒤 인덱스를 한 번에 만들고 RENAME TABLE 로 원자적으로 교체한다.
+ * 교체가 끝나기 전까지 게임은 기존 테이블 / 기존 인덱스를 그대로 쓴다.
+ *
+ * MySQL 에서 batch 가 여러 행 INSERT 한 번으로 나가려면 JDBC URL 에 rewriteBatchedStatements=true 가 필요하다.
+ */
+@Component
+public class DictionaryImporter {
+
+    static final String TABLE = "kkutu_words";
+    private static final String STAGING_TABLE = "kkutu_words_staging";
+    private static final String OLD_TABLE = "kkutu_words_old";
+
+    private static final String CREATE_STAGING_SQL = "CREATE TABLE " + STAGING_TABLE + " ("
+            + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "name VARCHAR(100) NOT NULL, "
+            + "part VARCHAR(20), "
+            + "word_rank INT, "
+            + "grade VARCHAR(8), "
+            + "definition TEXT"
+            + ") CHARACTER SET utf8mb4 COLLATE utf8mb4_bin";
+
+    private static final String INSERT_SQL = "INSERT INTO " + STAGING_TABLE
+            + " (name, part, word_rank, grade, definition) VALUES (?, ?, ?, ?, ?)";
+
+    // 적재 후 한 번에 만든다 (행마다 인덱스를 갱신하는 것보다 빠름)
+    private static final String INDEX_SQL = "ALTER TABLE " + STAGING_TABLE
+            + " ADD UNIQUE INDEX uk_kkutu_words_name_part (name, part)";
+
+    // 국립국어원 어휘 목록의 품사 약어
+    private static final Map<String, String> PARTS = Map.ofEntries(
+            Map.entry("명", WordDictionary.NOUN_PART),
+            Map.entry("동", "동사"),
+            Map.entry("형", "형용사"),
+            Map.entry("부", "부사"),
+            Map.entry("의", "의존명사"),
+            Map.entry("관", "관형사"),
+            Map.entry("고", "고유명사"),
+            Map.entry("수", "수사"),
+            Map.entry("대", "대명사"),
+            Map.entry("감", "감탄사"),
+            Map.entry("보", "보조용언"),
+            Map.entry("불", "분석불능"));
+
+    private static final int MAX_WORD_LENGTH = 100;
+
+    /** CSV 한 행 (정규화 후) */
+    static final class Entry {
+        final String name;
+        final String part;
+        final Integer rank;
+        final String grade;
+        final String definition;
+
+        Entry(String name, String part, Integer rank, String grade, String definition) {
+            this.name = name;
+            this.part = part;
+            this.rank = rank;
+            this.grade = grade;
+            this.definition = definition;
+        }
+
+        /** 순위가 있고 더 높으면(숫자가 작으면) true */
+        boolean ranksAbove(Entry other) {
+            return rank != null && (other.rank == null || rank < other.rank);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WordDictionary wordDictionary;
+
+    @Value("${kkutu.import.batch-size:5000}")
+    private int batchSize = 5000;
+
+    public DictionaryImporter(JdbcTemplate jdbcTemplate, WordDictionary wordDictionary) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.wordDictionary = wordDictionary;
+    }
+
+    /**
+     * csv 를 읽어 kkutu_words 를 통째로 교체하고 인메모리 사전을 바꾼다.
+     * 동시에 두 번 돌지 않도록 synchronized. 실패하면 예외를 던지고 기존 테이블 / 인덱스는 그대로다.
+     *
+     * @return 처리 결과 (행 수, 중복 수, 단계별 시간, rows/sec)
+     */
+    public synchronized Map<String, Object> importCsv(Path csv) throws IOException {
+        long startNanos = System.nanoTime();
+        System.out.println("--- [DICTIONARY IMPORT] Reading " + csv.toAbsolutePath() + " ---");
+
+        ParseResult parsed = parse(csv);
+        long parsedNanos = System.nanoTime();
+
+        WordDictionary.Snapshot.Builder builder = new WordDictionary.Snapshot.Builder(parsed.entries.size());
+        for (Entry entry : parsed.entries.values()) {
+            builder.add(entry.name, WordDictionary.NOUN_PART.equals(entry.part));
+        }
+        WordDictionary.Snapshot snapshot = builder.build();
+        if (snapshot.size() == 0) {
+            throw new IllegalArgumentException("No words found in " + csv);
+        }
+
+        load(new ArrayList<>(parsed.entries.values()));
+        long loadedNanos = System.nanoTime();
+
+        wordDictionary.replace(snapshot, "import " + csv.getFileName());
+        long tookNanos = System.nanoTime() - startNanos;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("file", csv.toString());
+        result.put("rowsRead", parsed.rowsRead);
+        result.put("skipped", parsed.skipped);
+        result.put("duplicates", parsed.duplicates);
+        result.put("inserted", parsed.entries.size());
+        result.put("words", snapshot.size());
+        result.put("parseMs", (parsedNanos - startNanos) / 1_000_000);
+        result.put("loadMs", (loadedNanos - parsedNanos) / 1_000_000);
+        result.put("tookMs", tookNanos / 1_000_000);
+        result.put("rowsPerSec", tookNanos > 0 ? Math.round(parsed.rowsRead * 1e9 / tookNanos) : 0);
+        System.out.println("--- [DICTIONARY IMPORT] Done: " + result + " ---");
+        return result;
+    }
+
+    static final class ParseResult {
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+        long rowsRead;
+        long skipped;
+        long duplicates;
+    }
+
+    /** CSV 를 한 줄씩 읽어 정규화 + 중복 제거. key 는 "단어\t품사" */
+    static ParseResult parse(Path csv) throws IOException {
+        ParseResult result = new ParseResult();
+        List<String> fields = new ArrayList<>(5);
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) return result;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // 따옴표 안의 줄바꿈: 따옴표가 닫힐 때까지 다음 줄을 붙인다
+                while (!splitCsvLine(line, fields)) {
+                    String next = reader.readLine();
+                    if (next == null) break;
+                    line = line + "\n" + next;
+                }
+                if (line.isBlank()) continue;
+                result.rowsRead++;
+
+                Entry entry = toEntry(fields);
+                if (entry == null) {
+                    result.skipped++;
+                    continue;
+                }
+                String key = entry.name + '\t' + entry.part;
+                Entry existing = result.entries.get(key);
+                if (existing == null) {
+                    result.entries.put(key, entry);
+                } else {
+                    result.duplicates++;
+                    if (entry.ranksAbove(existing)) result.entries.put(key, entry);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Entry toEntry(List<String> fields) {
+        if (fields.size() < 3) return null;
+        String name = normalizeWord(fields.get(1));
+        if (name.isEmpty() || name.length() > MAX_WORD_LENGTH) return null;
+        String part = normalizePart(fields.get(2));
+        Integer rank = parseRank(fields.get(0));
+        String definition = fields.size() > 3 ? emptyToNull(fields.get(3).trim()) : null;
+        String grade = fields.size() > 4 ? emptyToNull(fields.get(4).trim()) : null;
+        return new Entry(name, part, rank, grade, definition);
+    }
+
+    /** "가격03" → "가격", "도쿄(동경)" → "도쿄", 표제어 기호(- ^) 제거 */
+    static String normalizeWord(String raw) {
+        String word = raw.trim();
+        int paren = word.indexOf('(');
+        if (paren > 0) word = word.substring(0, paren);
+        int end = word.length();
+        while (end > 0 && Character.isDigit(word.charAt(end - 1))) end--;
+        StringBuilder sb = new StringBuilder(end);
+        for (int i = 0; i < end; i++) {
+            char c = word.charAt(i);
+            if (c != '-' && c != '^') sb.append(c);
+        }
+        return sb.toString().trim();
+    }
+
+    static String normalizePart(String raw) {
+        String part = raw.trim();
+        return PARTS.getOrDefault(part, part);
+    }
+
+    private static Integer parseRank(String raw) {
+        try {
+            return Integer.valueOf(raw.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 한 줄을 fields 에 나눠 담는다 (RFC 4180: "..." 안의 쉼표, "" 이스케이프).
+     * 첫 필드 앞의 BOM 은 버린다.
+     *
+     * @return 따옴표가 닫히지 않았으면 false (다음 줄을 이어 붙여 다시 호출)
+     */
+    static boolean splitCsvLine(String line, List<String> fields) {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int start = (!line.isEmpty() && line.charAt(0) == '\uFEFF') ? 1 : 0;
+        for (int i = start; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return !quoted;
+    }
+
+    /** staging 에 batch INSERT → 인덱스 → RENAME 으로 교체 */
+    private void load(List<Entry> entries) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + STAGING_TABLE);
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, entries, batchSize, DictionaryImporter::bind);
+            jdbcTemplate.execute(INDEX_SQL);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " LIKE " + STAGING_TABLE);
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + OLD_TABLE);
+            // 두 이름 변경이 한 문장이라 원자적: 읽는 쪽은 항상 둘 중 하나의 완전한 테이블을 본다
+            jdbcTemplate.execute("RENAME TABLE " + TABLE + " TO " + OLD_TABLE + ", " + STAGING_TABLE + " TO " + TABLE);
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + OLD_TABLE);
+        } catch (RuntimeException e) {
+            try {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + STAGING_TABLE);
+            } catch (RuntimeException ignored) {
+                // 원래 예외를 던진다
+            }
+            throw e;
+        }
+    }
+
+    private static void bind(PreparedStatement ps, Entry entry) throws SQLException {
+        ps.setString(1, entry.name);
+        ps.setString(2, entry.part);
+        if (entry.rank == null) {
+            ps.setNull(3, Types.INTEGER);
+        } else {
+            ps.setInt(3, entry.rank);
+        }
+        ps.setString(4, entry.grade);
+        ps.setString(5, entry.definition);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.dictionary;
+
+/**
+ * 끝말잇기 글자 규칙 (두음법칙, 한방 음절) 을 미리 계산해둔 정적 테이블.
+ *
+ * 완성형 한글 11,172자 각각의 두음법칙 대체 첫 글자를 기동 시 한 번 계산해서 char[] 로 들고 있으므로,
+ * 규칙 검사는 배열 조회와 char 비교뿐이고 문자열을 만들지 않는다. (GameRoomService 와 봇이 같이 사용)
+ */
+public final class HangulRules {
+
+    public static final int SYLLABLE_BASE = 0xAC00;
+    public static final int SYLLABLE_COUNT = 11172;
+
+    /** 대체 글자가 없음 */
+    public static final char NONE = '\0';
+
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int CHOSEONG_NIEUN = 2;  // ㄴ
+    private static final int CHOSEONG_RIEUL = 5;  // ㄹ
+    private static final int CHOSEONG_IEUNG = 11; // ㅇ
+
+    // 초성이 ㄹ 일 때 ㅇ 으로 바뀌는 중성 (ㅣ ㅑ ㅕ ㅖ ㅛ ㅠ ㅟ), 나머지는 ㄴ 으로
+    private static final String RIEUL_TO_IEUNG_VOWELS = "ㅣㅑㅕㅖㅛㅠㅟ";
+    // 초성이 ㄴ 일 때 ㅇ 으로 바뀌는 중성 (ㅣ ㅑ ㅕ ㅖ ㅛ ㅠ)
+    private static final String NIEUN_TO_IEUNG_VOWELS = "ㅣㅑㅕㅖㅛㅠ";
+    private static final char[] JUNGSEONG_LIST = { 'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ' };
+
+    /** 기본 한방 음절 (이 글자로 끝나는 단어는 받아칠 수 없어서 금지) */
+    public static final SyllableSet DEFAULT_FINISHING = SyllableSet.of("늄", "륨", "뮴", "쁨", "슭", "걀", "녁");
+
+    // 음절 index → 두음법칙 대체 글자 (없으면 NONE)
+    private static final char[] ALTERNATIVE_INITIAL = buildAlternativeInitials();
+
+    private HangulRules() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c < SYLLABLE_BASE + SYLLABLE_COUNT;
+    }
+
+    /** 음절 → 0 ~ 11171, 완성형 한글이 아니면 -1 */
+    public static int indexOf(char c) {
+        int index = c - SYLLABLE_BASE;
+        return (index >= 0 && index < SYLLABLE_COUNT) ? index : -1;
+    }
+
+    /** 두음법칙 대체 첫 글자 (예: 력 → 역, 라 → 나). 없으면 {@link #NONE} */
+    public static char alternativeOf(char c) {
+        int index = indexOf(c);
+        return index < 0 ? NONE : ALTERNATIVE_INITIAL[index];
+    }
+
+    public static char lastCharOf(CharSequence word) {
+        return word.charAt(word.length() - 1);
+    }
+
+    /** previousWord 의 끝 글자(또는 두음법칙 대체 글자)로 word 가 시작하는지. previousWord 가 없으면 항상 true */
+    public static boolean chainsFrom(CharSequence previousWord, CharSequence word) {
+        if (previousWord == null || previousWord.length() == 0) return true;
+        if (word == null || word.length() == 0) return false;
+        return canFollow(lastCharOf(previousWord), word.charAt(0));
+    }
+
+    /** 끝 글자 last 뒤에 first 로 시작하는 단어를 낼 수 있는지 */
+    public static boolean canFollow(char last, char first) {
+        if (first == last) return true;
+        char alternative = alternativeOf(last);
+        return alternative != NONE && first == alternative;
+    }
+
+    /** word 가 finishing 에 속한 음절로 끝나는지 (한방 단어) */
+    public static boolean endsWithAny(CharSequence word, SyllableSet finishing) {
+        return word != null && word.length() > 0 && finishing.contains(lastCharOf(word));
+    }
+
+    private static char[] buildAlternativeInitials() {
+        char[] table = new char[SYLLABLE_COUNT];
+        for (int index = 0; index < SYLLABLE_COUNT; index++) {
+            int choseong = index / (JUNGSEONG_COUNT * JONGSEONG_COUNT);
+            int jungseong = (index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT;
+            int jongseong = index % JONGSEONG_COUNT;
+            char vowel = JUNGSEONG_LIST[jungseong];
+
+            int replacement = -1;
+            if (choseong == CHOSEONG_RIEUL) {
+                replacement = RIEUL_TO_IEUNG_VOWELS.indexOf(vowel) >= 0 ? CHOSEONG_IEUNG : CHOSEONG_NIEUN;
+            } else if (choseong == CHOSEONG_NIEUN && NIEUN_TO_IEUNG_VOWELS.indexOf(vowel) >= 0) {
+                replacement = CHOSEONG_IEUNG;
+            }
+            table[index] = replacement < 0 ? NONE
+                    : (char) (SYLLABLE_BASE + (replacement * JUNGSEONG_COUNT + jungseong) * JONGSEONG_COUNT + jongseong);
+        }
+        return table;
+    }
+}
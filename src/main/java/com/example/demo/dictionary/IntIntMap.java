@@ -0,0 +1,86 @@
+package com.example.demo.dictionary;
+
+import java.util.Arrays;
+
+/**
+ * int → int 카운터 맵 (open addressing, 박싱 없음). 키는 0 이상이어야 한다.
+ * 방별 "첫 음절별 사용 단어 수", 봇 탐색 중 간선 사용 수처럼 작고 자주 갱신되는 카운터용.
+ * 동기화되지 않으므로 소유자(방 mailbox) 스레드에서만 변경한다.
+ */
+public final class IntIntMap {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    public IntIntMap(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(4, initialCapacity) * 2 - 1);
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public int get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); ; slot = (slot + 1) & mask) {
+            int current = keys[slot];
+            if (current == key) return values[slot];
+            if (current == EMPTY) return 0;
+        }
+    }
+
+    /** @return 증가 후 값 */
+    public int increment(int key) {
+        return add(key, 1);
+    }
+
+    /** @return 더한 후 값 (0 이 되어도 키는 남겨둔다) */
+    public int add(int key, int delta) {
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return values[slot] += delta;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return delta;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 배열 두 개의 힙 크기 (객체 헤더 포함) */
+    long estimatedBytes() {
+        return 24 + 2 * ((16 + 4L * keys.length + 7) & ~7L);
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+            int slot = slotOf(oldKeys[i], mask);
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private static int slotOf(int key, int mask) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
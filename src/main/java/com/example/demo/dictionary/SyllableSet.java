@@ -0,0 +1,59 @@
+package com.example.demo.dictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 완성형 한글 음절(가~힣, 11,172자) 집합. 음절 하나당 1비트 (long[175], 약 1.4KB).
+ * 불변 객체라 여러 스레드에서 락 없이 공유한다.
+ */
+public final class SyllableSet {
+
+    private final long[] bits;
+
+    private SyllableSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    /** 각 문자열의 첫 글자(음절)로 집합을 만든다. 완성형 한글이 아니면 무시 */
+    public static SyllableSet of(String... syllables) {
+        long[] bits = new long[(HangulRules.SYLLABLE_COUNT + 63) >>> 6];
+        for (String syllable : syllables) {
+            if (syllable == null || syllable.isEmpty()) continue;
+            int index = HangulRules.indexOf(syllable.charAt(0));
+            if (index >= 0) bits[index >>> 6] |= 1L << index;
+        }
+        return new SyllableSet(bits);
+    }
+
+    public boolean contains(char c) {
+        int index = HangulRules.indexOf(c);
+        return index >= 0 && (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public int size() {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public List<String> toList() {
+        List<String> syllables = new ArrayList<>();
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                int index = (i << 6) + Long.numberOfTrailingZeros(word);
+                syllables.add(String.valueOf((char) (HangulRules.SYLLABLE_BASE + index)));
+                word &= word - 1;
+            }
+        }
+        return syllables;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
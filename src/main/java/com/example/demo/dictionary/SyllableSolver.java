@@ -0,0 +1,167 @@
+package com.example.demo.dictionary;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 사전 전체의 음절 전이 그래프를 후퇴 분석(retrograde analysis)해서 음절별 승패({@link SyllableValues})를 구한다.
+ *
+ * 상태 = "이 음절로 이어 내야 하는 차례". 수 = 그 음절(또는 두음법칙 대체 글자)로 시작하는 낼 수 있는 단어 → 끝 음절.
+ * 한방 단어 규칙(DeadEndDetector 의 threshold)으로 못 내는 수는 처음부터 뺀다.
+ * - 0수: 둘 수 있는 수가 없으면 패배
+ * - 홀수 n: 상대 패배(n-1 수 이내) 음절로 가는 수가 하나라도 있으면 승리
+ * - 짝수 n: 모든 수가 상대 승리 음절로 가면 패배
+ * 를 maxPlies 까지 한 겹씩 반복한다. (새로 정해지는 음절이 없으면 일찍 끝남)
+ *
+ * 각 겹은 이전 겹의 값만 읽고 자기 구간에만 쓰므로, 음절 범위를 나눠 fork/join 으로 병렬 처리한다.
+ * 단어 재사용 금지는 무시한다. (음절 그래프만 보므로 사전 import 때마다 다시 돌려도 1초 안쪽)
+ */
+public final class SyllableSolver {
+
+    private static final int SYLLABLES = HangulRules.SYLLABLE_COUNT;
+    // fork/join 작업 하나가 맡는 음절 수
+    private static final int CHUNK = 512;
+
+    private SyllableSolver() {
+    }
+
+    public static SyllableValues solve(WordDictionary.Snapshot snapshot, int maxPlies, int threshold, ForkJoinPool pool) {
+        long startNanos = System.nanoTime();
+        int plies = Math.max(0, Math.min(maxPlies, SyllableValues.MAX_PLIES));
+        Moves moves = Moves.build(snapshot, threshold);
+
+        byte[] values = new byte[SYLLABLES];
+        int quietLayers = 0;
+        int lastPly = 0;
+        for (int ply = 0; ply <= plies && quietLayers < 2; ply++) {
+            byte[] next = values.clone();
+            int changed = pool.invoke(new Layer(moves, values, next, ply, 0, SYLLABLES));
+            values = next;
+            quietLayers = changed == 0 ? quietLayers + 1 : 0;
+            lastPly = ply;
+        }
+
+        SyllableValues result = new SyllableValues(values, plies, threshold, snapshot.size(), snapshot.fingerprint());
+        System.out.println("--- [SYLLABLE SOLVER] Words: " + snapshot.size() + ", Moves: " + moves.target.length
+                + ", Plies: " + lastPly + "/" + plies + ", Wins: " + result.countWins() + ", Losses: " + result.countLosses()
+                + ", Parallelism: " + pool.getParallelism() + ", Took: " + (System.nanoTime() - startNanos) / 1_000_000 + "ms ---");
+        return result;
+    }
+
+    /** 음절별 둘 수 있는 수 (끝 음절, 중복 제거) CSR: start[s] ~ start[s+1] */
+    private static final class Moves {
+        final int[] start;
+        final int[] target;
+
+        private Moves(int[] start, int[] target) {
+            this.start = start;
+            this.target = target;
+        }
+
+        static Moves build(WordDictionary.Snapshot snapshot, int threshold) {
+            // 1. (첫 음절, 끝 음절) 간선을 정렬 + 중복 제거
+            int[] keys = new int[snapshot.size()];
+            int count = 0;
+            for (int id = 0; id < snapshot.size(); id++) {
+                if (!snapshot.isPlayable(id)) continue;
+                keys[count++] = HangulRules.indexOf(snapshot.firstCharOf(id)) * SYLLABLES
+                        + HangulRules.indexOf(snapshot.lastCharOf(id));
+            }
+            Arrays.sort(keys, 0, count);
+            int[] edgeStart = new int[SYLLABLES + 1];
+            int[] edgeTarget = new int[count];
+            int edges = 0;
+            for (int i = 0; i < count; i++) {
+                if (i > 0 && keys[i] == keys[i - 1]) continue;
+                edgeTarget[edges++] = keys[i] % SYLLABLES;
+                edgeStart[keys[i] / SYLLABLES + 1]++;
+            }
+            for (int s = 0; s < SYLLABLES; s++) {
+                edgeStart[s + 1] += edgeStart[s];
+            }
+
+            // 2. 한방 단어 규칙으로 낼 수 없는 끝 음절
+            boolean[] legal = new boolean[SYLLABLES];
+            int minReplies = Math.max(1, threshold);
+            for (int t = 0; t < SYLLABLES; t++) {
+                char c = (char) (HangulRules.SYLLABLE_BASE + t);
+                legal[t] = threshold <= 0 ? !HangulRules.DEFAULT_FINISHING.contains(c) : snapshot.countFollowing(c) >= minReplies;
+            }
+
+            // 3. 음절 s 의 수 = s 의 간선 + 두음법칙 대체 글자의 간선 중 낼 수 있는 것
+            int[] start = new int[SYLLABLES + 1];
+            int[] target = new int[edges * 2];
+            int size = 0;
+            for (int s = 0; s < SYLLABLES; s++) {
+                start[s] = size;
+                char alternative = HangulRules.alternativeOf((char) (HangulRules.SYLLABLE_BASE + s));
+                int alt = alternative == HangulRules.NONE ? -1 : HangulRules.indexOf(alternative);
+                for (int pass = 0; pass < 2; pass++) {
+                    int source = pass == 0 ? s : alt;
+                    if (source < 0) continue;
+                    for (int e = edgeStart[source]; e < edgeStart[source + 1]; e++) {
+                        if (legal[edgeTarget[e]]) target[size++] = edgeTarget[e];
+                    }
+                }
+            }
+            start[SYLLABLES] = size;
+            return new Moves(start, Arrays.copyOf(target, size));
+        }
+    }
+
+    /** 한 겹(ply)을 음절 구간 [from, to) 에 대해 계산. 새로 정해진 음절 수를 돌려준다 */
+    private static final class Layer extends RecursiveTask<Integer> {
+        private final Moves moves;
+        private final byte[] current;
+        private final byte[] next;
+        private final int ply;
+        private final int from;
+        private final int to;
+
+        Layer(Moves moves, byte[] current, byte[] next, int ply, int from, int to) {
+            this.moves = moves;
+            this.current = current;
+            this.next = next;
+            this.ply = ply;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from > CHUNK) {
+                int mid = (from + to) >>> 1;
+                Layer left = new Layer(moves, current, next, ply, from, mid);
+                left.fork();
+                int right = new Layer(moves, current, next, ply, mid, to).compute();
+                return left.join() + right;
+            }
+            int changed = 0;
+            boolean winLayer = (ply & 1) == 1;
+            for (int s = from; s < to; s++) {
+                if (current[s] != SyllableValues.UNKNOWN) continue;
+                if (winLayer ? anyMoveToLoss(s) : allMovesToWin(s)) {
+                    next[s] = winLayer ? SyllableValues.win(ply) : SyllableValues.loss(ply);
+                    changed++;
+                }
+            }
+            return changed;
+        }
+
+        private boolean anyMoveToLoss(int s) {
+            for (int m = moves.start[s]; m < moves.start[s + 1]; m++) {
+                if (current[moves.target[m]] < 0) return true;
+            }
+            return false;
+        }
+
+        // 수가 없으면 (0수 패배) 자명하게 참
+        private boolean allMovesToWin(int s) {
+            for (int m = moves.start[s]; m < moves.start[s + 1]; m++) {
+                if (current[moves.target[m]] <= 0) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.dictionary;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 모드: 사전을 적재하고 음절 승패표를 풀어 저장한 뒤 종료한다. (./gradlew solveSyllables)
+ * kkutu.solver.exit-after-solve=true 일 때만 등록된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kkutu.solver.exit-after-solve", havingValue = "true")
+public class SyllableSolverJob implements ApplicationRunner {
+
+    private final WordDictionary wordDictionary;
+    private final SyllableValueTable syllableValueTable;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        WordDictionary.Snapshot snapshot = wordDictionary.snapshot();
+        int exitCode = 0;
+        if (snapshot.size() == 0) {
+            System.err.println("!!! [SYLLABLE SOLVER] Dictionary is empty, nothing to solve");
+            exitCode = 1;
+        } else {
+            System.out.println("--- [SYLLABLE SOLVER] Done: " + syllableValueTable.solveAndSave(snapshot));
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+}
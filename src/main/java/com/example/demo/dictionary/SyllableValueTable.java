@@ -0,0 +1,120 @@
+package com.example.demo.dictionary;
+
+import com.example.demo.Event.DictionaryReloadedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 현재 사전의 음절 승패표({@link SyllableValues})를 들고 있는 컴포넌트.
+ *
+ * 기동 시 table-path 의 파일이 현재 사전(fingerprint)과 threshold 에 맞으면 그대로 읽고,
+ * 아니면 (solve-on-startup 일 때) {@link SyllableSolver} 로 다시 풀어서 파일을 덮어쓴다.
+ * 사전이 리로드되면 (solve-on-reload 일 때) 백그라운드에서 다시 푼다. 그 사이 조회는 null (= 표 없음) 이다.
+ *
+ * 조회는 전부 배열 1회 접근이라 방 mailbox 의 규칙 검사(DeadEndDetector)와 봇 탐색에서 그대로 쓴다.
+ */
+@Component
+public class SyllableValueTable {
+
+    private final WordDictionary wordDictionary;
+
+    // 비워두면 파일로 저장/적재하지 않음 (예: ./data/syllable-values.bin)
+    @Value("${kkutu.solver.table-path:}")
+    private String tablePath;
+
+    @Value("${kkutu.solver.max-plies:32}")
+    private int maxPlies = 32;
+
+    @Value("${kkutu.solver.solve-on-startup:true}")
+    private boolean solveOnStartup = true;
+
+    @Value("${kkutu.solver.solve-on-reload:true}")
+    private boolean solveOnReload = true;
+
+    // 표는 한방 단어 규칙에 따라 달라지므로 DeadEndDetector 와 같은 값을 쓴다
+    @Value("${kkutu.rules.dead-end-threshold:1}")
+    private int threshold = 1;
+
+    private volatile SyllableValues values;
+
+    public SyllableValueTable(WordDictionary wordDictionary) {
+        this.wordDictionary = wordDictionary;
+    }
+
+    @PostConstruct
+    public void init() {
+        WordDictionary.Snapshot snapshot = wordDictionary.snapshot();
+        if (snapshot.size() == 0) return;
+        SyllableValues loaded = load(snapshot);
+        if (loaded != null) {
+            values = loaded;
+        } else if (solveOnStartup) {
+            solveAndSave(snapshot);
+        }
+    }
+
+    @EventListener
+    public void onDictionaryReloaded(DictionaryReloadedEvent event) {
+        WordDictionary.Snapshot snapshot = event.getSnapshot();
+        SyllableValues current = values;
+        if (!solveOnReload || snapshot.size() == 0 || (current != null && current.matches(snapshot, threshold))) return;
+        CompletableFuture.runAsync(() -> solveAndSave(snapshot))
+                .exceptionally(e -> {
+                    System.err.println("!!! [SYLLABLE SOLVER] Re-solve failed: " + e.getMessage());
+                    return null;
+                });
+    }
+
+    /** snapshot 사전용 표. 아직 없거나 다른 사전용이면 null */
+    public SyllableValues valuesFor(WordDictionary.Snapshot snapshot) {
+        SyllableValues current = values;
+        return (current != null && current.matches(snapshot, threshold)) ? current : null;
+    }
+
+    /** snapshot 을 풀어서 현재 표로 쓰고, table-path 가 있으면 파일로 저장한다 */
+    public synchronized SyllableValues solveAndSave(WordDictionary.Snapshot snapshot) {
+        SyllableValues current = values;
+        if (current != null && current.matches(snapshot, threshold)) return current;
+
+        SyllableValues solved = SyllableSolver.solve(snapshot, maxPlies, threshold, ForkJoinPool.commonPool());
+        // 풀던 사이에 더 새 사전이 들어왔으면 교체하지 않는다
+        if (wordDictionary.snapshot() == snapshot) {
+            values = solved;
+        }
+        if (tablePath != null && !tablePath.isBlank()) {
+            Path path = Path.of(tablePath);
+            try {
+                solved.write(path);
+                System.out.println("--- [SYLLABLE SOLVER] Table saved: " + path.toAbsolutePath());
+            } catch (Exception e) {
+                System.err.println("!!! [SYLLABLE SOLVER] Failed to save table: " + e.getMessage());
+            }
+        }
+        return solved;
+    }
+
+    private SyllableValues load(WordDictionary.Snapshot snapshot) {
+        if (tablePath == null || tablePath.isBlank()) return null;
+        Path path = Path.of(tablePath);
+        if (!Files.exists(path)) return null;
+        try {
+            SyllableValues loaded = SyllableValues.read(path);
+            if (!loaded.matches(snapshot, threshold)) {
+                System.out.println("--- [SYLLABLE SOLVER] Table is stale (dictionary or threshold changed): " + path);
+                return null;
+            }
+            System.out.println("--- [SYLLABLE SOLVER] Table loaded: " + loaded);
+            return loaded;
+        } catch (Exception e) {
+            System.err.println("!!! [SYLLABLE SOLVER] Failed to load table, ignoring: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.demo.dictionary;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 음절별 승패표 ({@link SyllableSolver} 의 결과). 음절 1개당 1바이트, 전부 합쳐 약 11KB.
+ *
+ * 값은 "이 음절로 이어 내야 하는 쪽(차례인 사람)" 기준이다.
+ * - 0: maxPlies 안에서 승패가 갈리지 않음
+ * - 양수 n: n 수(ply) 안에 이김 (n 은 홀수)
+ * - 음수 -(n+1): n 수 안에 짐 (n 은 짝수, -1 = 둘 수 있는 단어가 없음)
+ *
+ * 단어 재사용 금지는 반영하지 않은 "처음 상태의 사전" 기준 값이므로, 방 진행 중에는 근사치다.
+ *
+ * 파일 형식 (big endian):
+ * "KKSV" | version(int) | 음절 수(int) | maxPlies(int) | threshold(int) | 단어 수(int) | 사전 fingerprint(long) | 값[음절 수]
+ */
+public final class SyllableValues {
+
+    static final int MAGIC = 0x4B4B5356; // "KKSV"
+    static final int VERSION = 1;
+
+    /** 바이트 하나에 담을 수 있는 최대 수(ply) */
+    public static final int MAX_PLIES = 126;
+
+    public static final byte UNKNOWN = 0;
+
+    private final byte[] values;
+    private final int maxPlies;
+    private final int threshold;
+    private final int wordCount;
+    private final long fingerprint;
+
+    SyllableValues(byte[] values, int maxPlies, int threshold, int wordCount, long fingerprint) {
+        if (values.length != HangulRules.SYLLABLE_COUNT) {
+            throw new IllegalArgumentException("Expected " + HangulRules.SYLLABLE_COUNT + " values, got " + values.length);
+        }
+        this.values = values;
+        this.maxPlies = maxPlies;
+        this.threshold = threshold;
+        this.wordCount = wordCount;
+        this.fingerprint = fingerprint;
+    }
+
+    static byte win(int plies) {
+        return (byte) plies;
+    }
+
+    static byte loss(int plies) {
+        return (byte) -(plies + 1);
+    }
+
+    /** 이 표가 snapshot 사전 + threshold 규칙으로 만든 것인지 */
+    public boolean matches(WordDictionary.Snapshot snapshot, int threshold) {
+        return snapshot.size() == wordCount && snapshot.fingerprint() == fingerprint && this.threshold == threshold;
+    }
+
+    /** 음절 index(0 ~ 11171)의 원시 값. 범위 밖이면 UNKNOWN */
+    public int valueAt(int syllableIndex) {
+        return (syllableIndex < 0 || syllableIndex >= values.length) ? UNKNOWN : values[syllableIndex];
+    }
+
+    public int valueOf(char syllable) {
+        return valueAt(HangulRules.indexOf(syllable));
+    }
+
+    /** syllable 로 이어 내야 하는 쪽이 plies 수 안에 지는지 */
+    public boolean isLossWithin(char syllable, int plies) {
+        int value = valueOf(syllable);
+        return value < 0 && -value - 1 <= plies;
+    }
+
+    /** syllable 로 이어 내야 하는 쪽이 plies 수 안에 이기는지 */
+    public boolean isWinWithin(char syllable, int plies) {
+        int value = valueOf(syllable);
+        return value > 0 && value <= plies;
+    }
+
+    /** 원시 값 → 승패가 날 때까지의 수. UNKNOWN 이면 -1 */
+    public static int pliesOf(int value) {
+        if (value > 0) return value;
+        if (value < 0) return -value - 1;
+        return -1;
+    }
+
+    public int countWins() {
+        int count = 0;
+        for (byte value : values) if (value > 0) count++;
+        return count;
+    }
+
+    public int countLosses() {
+        int count = 0;
+        for (byte value : values) if (value < 0) count++;
+        return count;
+    }
+
+    public int getMaxPlies() {
+        return maxPlies;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /** 임시 파일에 쓴 뒤 교체 (읽는 쪽이 반쯤 쓴 파일을 보지 않도록) */
+    public void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(values.length);
+            out.writeInt(maxPlies);
+            out.writeInt(threshold);
+            out.writeInt(wordCount);
+            out.writeLong(fingerprint);
+            out.write(values);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static SyllableValues read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a syllable value table: " + path);
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("Unsupported syllable value table version " + version);
+            int syllables = in.readInt();
+            if (syllables != HangulRules.SYLLABLE_COUNT) throw new IOException("Unexpected syllable count " + syllables);
+            int maxPlies = in.readInt();
+            int threshold = in.readInt();
+            int wordCount = in.readInt();
+            long fingerprint = in.readLong();
+            byte[] values = new byte[syllables];
+            in.readFully(values);
+            return new SyllableValues(values, maxPlies, threshold, wordCount, fingerprint);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SyllableValues{words=" + wordCount + ", maxPlies=" + maxPlies + ", threshold=" + threshold
+                + ", wins=" + countWins() + ", losses=" + countLosses() + "}";
+    }
+}
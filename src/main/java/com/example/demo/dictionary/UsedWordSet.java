@@ -0,0 +1,194 @@
+package com.example.demo.dictionary;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * 방별 사용 단어 집합.
+ *
+ * 사전({@link WordDictionary.Snapshot})에 있는 단어는 문자열 대신 int id 로만 저장한다. (primitive open addressing 테이블)
+ * 사전에 없는 단어(국어원 API 로만 확인된 단어)만 문자열 HashSet 으로 따로 보관한다.
+ * → 단어 1개당 String + HashMap.Node 대신 int 슬롯 약 2개(부하율 0.5)만 쓴다.
+ *
+ * 사전 단어가 추가될 때마다 첫 음절별 사용 수를 같이 세므로, "이 끝 글자 뒤에 남은 단어 수" 를 O(1) 로 구할 수 있다.
+ * ({@link DeadEndDetector} 참고)
+ *
+ * 방 생성 시점의 스냅샷에 묶이므로, 게임 도중 사전이 리로드되어도 id 공간이 바뀌지 않는다.
+ * 동기화되지 않으므로 방 mailbox(RoomExecutor) 작업 안에서만 사용한다.
+ */
+public final class UsedWordSet {
+
+    private static final int INITIAL_CAPACITY = 16; // 2의 거듭제곱
+
+    private final WordDictionary.Snapshot snapshot;
+
+    // 0 = 빈 슬롯, 나머지는 id + 1
+    private int[] table = new int[INITIAL_CAPACITY];
+    private int idCount;
+
+    // 첫 음절 index → 사용된 (낼 수 있는) 사전 단어 수
+    private final IntIntMap usedByFirst = new IntIntMap(16);
+
+    // 사전에 없는 단어 (대부분의 게임에서는 비어 있으므로 필요할 때 생성)
+    private Set<String> fallback;
+    private long fallbackChars; // estimatedBytes 용 (집합을 순회하지 않도록 누적)
+
+    /** 사전 없이 쓰는 경우 (모든 단어가 문자열로 저장됨) */
+    public UsedWordSet() {
+        this(WordDictionary.Snapshot.EMPTY);
+    }
+
+    public UsedWordSet(WordDictionary.Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /** @return 새로 추가되었으면 true */
+    public boolean add(String word) {
+        if (word == null) return false;
+        int id = snapshot.idOf(word);
+        if (id >= 0) {
+            return addId(id);
+        }
+        if (fallback == null) {
+            fallback = new HashSet<>();
+        }
+        if (!fallback.add(word)) return false;
+        fallbackChars += word.length();
+        return true;
+    }
+
+    public boolean contains(String word) {
+        if (word == null) return false;
+        int id = snapshot.idOf(word);
+        if (id >= 0) {
+            return containsId(id);
+        }
+        return fallback != null && fallback.contains(word);
+    }
+
+    /** 이 집합이 묶인 스냅샷의 id 로 직접 조회 */
+    public boolean containsId(int id) {
+        int mask = table.length - 1;
+        int entry = id + 1;
+        for (int slot = slotOf(id, mask); ; slot = (slot + 1) & mask) {
+            int current = table[slot];
+            if (current == 0) return false;
+            if (current == entry) return true;
+        }
+    }
+
+    public boolean addId(int id) {
+        int mask = table.length - 1;
+        int entry = id + 1;
+        int slot = slotOf(id, mask);
+        while (table[slot] != 0) {
+            if (table[slot] == entry) return false;
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry;
+        if (++idCount * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        if (snapshot.isPlayable(id)) {
+            usedByFirst.increment(HangulRules.indexOf(snapshot.firstCharOf(id)));
+        }
+        return true;
+    }
+
+    /** c 로 시작하는 사전 단어 중 이 방에서 이미 쓴 수 */
+    public int countUsedStartingWith(char c) {
+        int index = HangulRules.indexOf(c);
+        return index < 0 ? 0 : usedByFirst.get(index);
+    }
+
+    /** 끝 글자 last 뒤에 이어 낼 수 있는 사전 단어 중 이미 쓴 수 (두음법칙 대체 글자 포함) */
+    public int countUsedFollowing(char last) {
+        int used = countUsedStartingWith(last);
+        char alternative = HangulRules.alternativeOf(last);
+        return alternative == HangulRules.NONE ? used : used + countUsedStartingWith(alternative);
+    }
+
+    /** 사용된 사전 단어 id 를 순회 (순서 없음) */
+    public void forEachId(IntConsumer action) {
+        for (int entry : table) {
+            if (entry != 0) action.accept(entry - 1);
+        }
+    }
+
+    /** 독립된 복사본 (방 mailbox 에서 복사해서 다른 스레드가 읽기 전용으로 쓰는 용도) */
+    public UsedWordSet copy() {
+        UsedWordSet copy = new UsedWordSet(snapshot);
+        copy.table = table.clone();
+        copy.idCount = idCount;
+        forEachId(id -> {
+            if (snapshot.isPlayable(id)) copy.usedByFirst.increment(HangulRules.indexOf(snapshot.firstCharOf(id)));
+        });
+        if (fallback != null) {
+            copy.fallback = new HashSet<>(fallback);
+            copy.fallbackChars = fallbackChars;
+        }
+        return copy;
+    }
+
+    public int size() {
+        return idCount + (fallback != null ? fallback.size() : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public WordDictionary.Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 대략적인 힙 사용량 (64bit JVM, compressed oops 기준).
+     * id 테이블은 정확하고, 문자열 fallback 은 HashSet/HashMap.Node/String/byte[](UTF-16) 크기로 추정한다.
+     * 집합을 순회하지 않으므로 mailbox 밖(지표 스크랩)에서 읽어도 된다. (근사치)
+     */
+    public long estimatedBytes() {
+        long bytes = 48 + align(16 + 4L * table.length) + usedByFirst.estimatedBytes();
+        Set<String> strings = fallback;
+        if (strings != null) {
+            int count = strings.size();
+            // HashSet + HashMap + 버킷 배열 + 단어당 (Node 32 + String 24 + byte[] 헤더 16 + 정렬 여유 4)
+            bytes += 16 + 48 + align(16 + 4L * tableCapacityOf(count)) + 76L * count + 2 * fallbackChars;
+        }
+        return bytes;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = table;
+        int[] resized = new int[capacity];
+        int mask = capacity - 1;
+        for (int entry : old) {
+            if (entry == 0) continue;
+            int slot = slotOf(entry - 1, mask);
+            while (resized[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            resized[slot] = entry;
+        }
+        table = resized;
+    }
+
+    // 연속된 id(같은 음절 버킷)가 한 구간에 몰리지 않도록 섞는다
+    private static int slotOf(int id, int mask) {
+        int h = id * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int tableCapacityOf(int entries) {
+        int capacity = 16;
+        while (capacity * 0.75 < entries) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
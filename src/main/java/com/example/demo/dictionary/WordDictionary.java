@@ -0,0 +1,408 @@
+package com.example.demo.dictionary;
+
+import com.example.demo.Event.DictionaryReloadedEvent;
+import com.example.demo.WordsRepo.WordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * kkutu_words 테이블을 기동 시 한 번 읽어서 메모리에 올려두는 사전 엔진.
+ * 봇 턴마다 `LIKE :prefix% ORDER BY RAND()` 쿼리를 날리는 대신 첫 음절 인덱스에서 바로 후보를 뽑는다.
+ *
+ * 인덱스({@link Snapshot})는 불변 객체이며, {@link #reload()} 가 새 인덱스를 만든 뒤 참조만 교체한다.
+ * 따라서 읽는 쪽은 락 없이 사용할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WordDictionary {
+
+    public static final String NOUN_PART = "명사";
+
+    private final WordRepository wordRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * DB에서 사전을 다시 읽어 인덱스를 교체한다. (핫 리로드 훅)
+     * 실패 시 기존 인덱스를 그대로 유지한다.
+     *
+     * @return 적재된 단어 수, 실패 시 -1
+     */
+    public synchronized int reload() {
+        long startNanos = System.nanoTime();
+        try {
+            List<Object[]> rows = wordRepository.findAllNameAndPart();
+            Snapshot.Builder builder = new Snapshot.Builder(rows.size());
+            for (Object[] row : rows) {
+                builder.add((String) row[0], NOUN_PART.equals(row[1]));
+            }
+            Snapshot loaded = builder.build();
+            System.out.println("--- [DICTIONARY LOADED] Words: " + loaded.size() + ", Rows: " + rows.size()
+                    + ", Took: " + (System.nanoTime() - startNanos) / 1_000_000 + "ms ---");
+            replace(loaded, "reload");
+            return loaded.size();
+        } catch (Exception e) {
+            System.err.println("!!! [DICTIONARY] Load failed, keeping previous index (" + snapshot.size() + " words): " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 이미 만들어진 인덱스로 교체한다. (DictionaryImporter 가 CSV 를 읽으면서 같이 만든 인덱스 → DB 재조회 없음)
+     * 사전에서 파생된 인덱스(음절 승패표 등)를 다시 만들 수 있도록 {@link DictionaryReloadedEvent} 를 발행한다.
+     */
+    public synchronized void replace(Snapshot loaded, String source) {
+        this.snapshot = loaded;
+        System.out.println("--- [DICTIONARY] Index replaced by " + source + " (" + loaded.size() + " words) ---");
+        eventPublisher.publishEvent(new DictionaryReloadedEvent(this, loaded));
+    }
+
+    /** 현재 인덱스. 한 번 받아간 스냅샷은 리로드와 무관하게 계속 일관된 id 공간을 유지한다. */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    public boolean contains(String word) {
+        return word != null && snapshot.idOf(word) >= 0;
+    }
+
+    /** `findTop5ByNameStartingWith` 대체: prefix 로 시작하는 단어를 id 순서대로 최대 limit 개 반환 */
+    public List<String> findWordsStartingWith(String prefix, int limit) {
+        List<String> result = new ArrayList<>();
+        if (prefix == null || prefix.isEmpty() || limit <= 0) return result;
+
+        Snapshot current = snapshot;
+        int bucket = Snapshot.bucketOf(prefix.charAt(0));
+        if (bucket < 0) return result;
+
+        for (int pos = current.bucketStart[bucket]; pos < current.bucketStart[bucket + 1] && result.size() < limit; pos++) {
+            int id = current.bucketIds[pos];
+            if (current.startsWith(id, prefix)) {
+                result.add(current.wordAt(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * `findValidWords(prefix, "명사")` 대체: 주어진 음절로 시작하는 2글자 이상 명사를 무작위로 최대 limit 개 반환.
+     * (Reservoir sampling 이라 버킷 크기와 무관하게 추가 정렬이 없다)
+     */
+    public List<String> randomNounsStartingWith(String syllable, int limit) {
+        if (syllable == null || syllable.length() != 1) return new ArrayList<>();
+        return randomNounsStartingWith(syllable.charAt(0), limit);
+    }
+
+    public List<String> randomNounsStartingWith(char syllable, int limit) {
+        List<String> result = new ArrayList<>();
+        if (limit <= 0) return result;
+
+        Snapshot current = snapshot;
+        int bucket = Snapshot.bucketOf(syllable);
+        if (bucket < 0) return result;
+
+        int[] picked = new int[limit];
+        int seen = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int pos = current.bucketStart[bucket]; pos < current.bucketStart[bucket + 1]; pos++) {
+            int id = current.bucketIds[pos];
+            if (!current.isNoun(id) || current.lengthOf(id) < 2) continue;
+
+            if (seen < limit) {
+                picked[seen] = id;
+            } else {
+                int slot = random.nextInt(seen + 1);
+                if (slot < limit) picked[slot] = id;
+            }
+            seen++;
+        }
+        for (int i = 0; i < Math.min(seen, limit); i++) {
+            result.add(current.wordAt(picked[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 불변 사전 인덱스.
+     * - 단어 문자열은 하나의 char[] 에 이어 붙여 저장하고 (offsets 로 구분), 단어는 int id 로 다룬다.
+     * - 첫 음절(가~힣, 11,172개)별 버킷은 CSR 형태의 int 배열로 저장한다.
+     * - 단어 → id 조회는 open addressing int 테이블로 처리한다.
+     * - 게임에 낼 수 있는 단어(2글자 이상 완성형 한글)의 첫 음절별 개수를 같이 들고 있다. (한방 단어 판정용)
+     */
+    public static final class Snapshot {
+
+        static final int SYLLABLE_BASE = 0xAC00;
+        static final int SYLLABLE_COUNT = 11172;
+
+        static final Snapshot EMPTY = new Builder(0).build();
+
+        private final char[] chars;
+        private final int[] offsets;
+        private final BitSet nouns;
+        private final int[] bucketStart;
+        private final int[] bucketIds;
+        private final int[] table;
+        private final int mask;
+        private final BitSet playable;
+        private final int[] playableByFirst;
+        private final long fingerprint;
+
+        private Snapshot(char[] chars, int[] offsets, BitSet nouns, int[] bucketStart, int[] bucketIds, int[] table,
+                         BitSet playable, int[] playableByFirst, long fingerprint) {
+            this.chars = chars;
+            this.offsets = offsets;
+            this.nouns = nouns;
+            this.bucketStart = bucketStart;
+            this.bucketIds = bucketIds;
+            this.table = table;
+            this.mask = table.length - 1;
+            this.playable = playable;
+            this.playableByFirst = playableByFirst;
+            this.fingerprint = fingerprint;
+        }
+
+        /** 음절 → 버킷 번호. 완성형 한글이 아니면 -1 */
+        static int bucketOf(char c) {
+            int index = c - SYLLABLE_BASE;
+            return (index >= 0 && index < SYLLABLE_COUNT) ? index : -1;
+        }
+
+        public int size() {
+            return offsets.length - 1;
+        }
+
+        public String wordAt(int id) {
+            return new String(chars, offsets[id], offsets[id + 1] - offsets[id]);
+        }
+
+        public int lengthOf(int id) {
+            return offsets[id + 1] - offsets[id];
+        }
+
+        public char firstCharOf(int id) {
+            return chars[offsets[id]];
+        }
+
+        public char lastCharOf(int id) {
+            return chars[offsets[id + 1] - 1];
+        }
+
+        public boolean isNoun(int id) {
+            return nouns.get(id);
+        }
+
+        /** c 로 시작하는 단어 수 */
+        public int countStartingWith(char c) {
+            int bucket = bucketOf(c);
+            return bucket < 0 ? 0 : bucketStart[bucket + 1] - bucketStart[bucket];
+        }
+
+        /** 게임에 낼 수 있는 단어인지 (2글자 이상, 전부 완성형 한글 = 서버 입력 패턴과 동일) */
+        public boolean isPlayable(int id) {
+            return playable.get(id);
+        }
+
+        /** c 로 시작하는 낼 수 있는 단어 수 */
+        public int countPlayableStartingWith(char c) {
+            int bucket = bucketOf(c);
+            return bucket < 0 ? 0 : playableByFirst[bucket];
+        }
+
+        /** 끝 글자 last 뒤에 이어 낼 수 있는 단어 수 (두음법칙 대체 글자로 시작하는 단어 포함) */
+        public int countFollowing(char last) {
+            int count = countPlayableStartingWith(last);
+            char alternative = HangulRules.alternativeOf(last);
+            return alternative == HangulRules.NONE ? count : count + countPlayableStartingWith(alternative);
+        }
+
+        /** 단어 집합(명사 여부 포함, 순서 무관)의 64bit 해시. 사전에서 파생된 파일(SyllableValues 등)이 같은 사전용인지 확인할 때 쓴다 */
+        public long fingerprint() {
+            return fingerprint;
+        }
+
+        /** c 로 시작하는 단어 id 들 (id 오름차순 복사본) */
+        public int[] idsStartingWith(char c) {
+            int bucket = bucketOf(c);
+            if (bucket < 0) return new int[0];
+            return Arrays.copyOfRange(bucketIds, bucketStart[bucket], bucketStart[bucket + 1]);
+        }
+
+        /** 단어 → id. 사전에 없으면 -1 */
+        public int idOf(CharSequence word) {
+            int length = word.length();
+            if (length == 0 || size() == 0) return -1;
+
+            int slot = spread(hash(word)) & mask;
+            while (true) {
+                int entry = table[slot];
+                if (entry == 0) return -1;
+                int id = entry - 1;
+                if (equalsAt(id, word)) return id;
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        boolean startsWith(int id, String prefix) {
+            int start = offsets[id];
+            if (prefix.length() > offsets[id + 1] - start) return false;
+            for (int i = 0; i < prefix.length(); i++) {
+                if (chars[start + i] != prefix.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        private boolean equalsAt(int id, CharSequence word) {
+            int start = offsets[id];
+            if (offsets[id + 1] - start != word.length()) return false;
+            for (int i = 0; i < word.length(); i++) {
+                if (chars[start + i] != word.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        private static int hash(CharSequence word) {
+            int h = 0;
+            for (int i = 0; i < word.length(); i++) {
+                h = 31 * h + word.charAt(i);
+            }
+            return h;
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+
+        /** 단어를 순서대로 받아 Snapshot 을 만든다. (중복 단어는 하나의 id 로 합치고, 하나라도 명사면 명사로 표시) */
+        public static final class Builder {
+
+            private final StringBuilder chars;
+            private int[] offsets;
+            private int count;
+            private final BitSet nouns = new BitSet();
+            private final Map<String, Integer> ids;
+
+            public Builder(int expectedWords) {
+                this.chars = new StringBuilder(Math.max(16, expectedWords * 3));
+                this.offsets = new int[Math.max(1, expectedWords) + 1];
+                this.ids = new HashMap<>(Math.max(16, expectedWords * 2));
+            }
+
+            public Builder add(String word, boolean noun) {
+                if (word == null) return this;
+                String trimmed = word.trim();
+                if (trimmed.isEmpty()) return this;
+
+                Integer existing = ids.get(trimmed);
+                if (existing != null) {
+                    if (noun) nouns.set(existing);
+                    return this;
+                }
+
+                int id = count++;
+                ids.put(trimmed, id);
+                if (noun) nouns.set(id);
+                chars.append(trimmed);
+                if (count + 1 > offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                offsets[count] = chars.length();
+                return this;
+            }
+
+            public Snapshot build() {
+                char[] packed = new char[chars.length()];
+                chars.getChars(0, chars.length(), packed, 0);
+                int[] packedOffsets = Arrays.copyOf(offsets, count + 1);
+
+                // 첫 음절 버킷 (counting sort)
+                int[] bucketStart = new int[SYLLABLE_COUNT + 1];
+                for (int id = 0; id < count; id++) {
+                    int bucket = bucketOf(packed[packedOffsets[id]]);
+                    if (bucket >= 0) bucketStart[bucket + 1]++;
+                }
+                for (int b = 0; b < SYLLABLE_COUNT; b++) {
+                    bucketStart[b + 1] += bucketStart[b];
+                }
+                int[] bucketIds = new int[bucketStart[SYLLABLE_COUNT]];
+                int[] cursor = Arrays.copyOf(bucketStart, SYLLABLE_COUNT);
+                for (int id = 0; id < count; id++) {
+                    int bucket = bucketOf(packed[packedOffsets[id]]);
+                    if (bucket >= 0) bucketIds[cursor[bucket]++] = id;
+                }
+
+                // 낼 수 있는 단어 표시 + 첫 음절별 개수
+                BitSet playable = new BitSet(count);
+                int[] playableByFirst = new int[SYLLABLE_COUNT];
+                for (int id = 0; id < count; id++) {
+                    if (isPlayable(packed, packedOffsets[id], packedOffsets[id + 1])) {
+                        playable.set(id);
+                        playableByFirst[bucketOf(packed[packedOffsets[id]])]++;
+                    }
+                }
+
+                // 단어 → id 해시 테이블 (load factor <= 0.5)
+                int capacity = Integer.highestOneBit(Math.max(8, count) * 2 - 1) << 1;
+                int[] table = new int[capacity];
+                int tableMask = capacity - 1;
+                for (Map.Entry<String, Integer> entry : ids.entrySet()) {
+                    int slot = spread(hash(entry.getKey())) & tableMask;
+                    while (table[slot] != 0) {
+                        slot = (slot + 1) & tableMask;
+                    }
+                    table[slot] = entry.getValue() + 1;
+                }
+
+                // 단어마다 FNV-1a (명사 여부 포함) → 섞어서 더한다. 덧셈이라 적재 순서(= id 순서)와 무관
+                // (DB 조회 순서 / CSV 순서가 달라도 같은 단어 집합이면 같은 값 → 저장된 음절 승패표 재사용)
+                long sum = 0;
+                for (int id = 0; id < count; id++) {
+                    long hash = 0xcbf29ce484222325L;
+                    for (int i = packedOffsets[id]; i < packedOffsets[id + 1]; i++) {
+                        hash = (hash ^ packed[i]) * 0x100000001b3L;
+                    }
+                    if (nouns.get(id)) hash = (hash ^ 0xFFFF) * 0x100000001b3L;
+                    sum += mix64(hash);
+                }
+                long fingerprint = mix64(sum ^ count);
+
+                return new Snapshot(packed, packedOffsets, (BitSet) nouns.clone(), bucketStart, bucketIds, table,
+                        playable, playableByFirst, fingerprint);
+            }
+
+            // splitmix64 finalizer: 비슷한 단어의 해시도 고르게 퍼지도록 (그냥 더하면 상쇄되기 쉬움)
+            private static long mix64(long z) {
+                z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+                z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+                return z ^ (z >>> 31);
+            }
+
+            private static boolean isPlayable(char[] packed, int start, int end) {
+                if (end - start < 2) return false;
+                for (int i = start; i < end; i++) {
+                    if (bucketOf(packed[i]) < 0) return false;
+                }
+                return true;
+            }
+        }
+    }
+}
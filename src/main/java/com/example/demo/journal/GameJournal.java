@@ -0,0 +1,272 @@
+package com.example.demo.journal;
+
+import com.example.demo.DTO.GameRoom;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게임 기록 저널 (분석 / 분쟁 확인용 재생).
+ *
+ * 방 mailbox 는 {@link #record} 로 이벤트를 메모리 큐에 넣기만 한다. (offer, 실패 시 버리고 dropped 카운트)
+ * 순번은 큐에 들어간 이벤트에만 매긴다. 버린 이벤트는 그 방의 다음 기록 앞에 EVENTS_DROPPED (detail = 개수) 로 남겨
+ * 재생하는 쪽이 빠진 자리를 알 수 있다.
+ * 전용 쓰기 스레드가 batch-size 개가 모이거나 flush-interval 이 지나면 JDBC batch INSERT 로 game_events 에 쓴다.
+ * → 턴 처리 경로에는 DB 지연이 없다. 대신 장애 시 아직 쓰지 않은 큐 내용은 잃는다.
+ *
+ * MySQL 에서 batch 가 여러 행 INSERT 한 번으로 나가려면 JDBC URL 에 rewriteBatchedStatements=true 가 필요하다.
+ */
+@Component
+public class GameJournal {
+
+    private static final String INSERT_SQL = "INSERT INTO game_events "
+            + "(game_id, room_id, seq, event_type, uid, nickname, word, detail, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS game_events ("
+            + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "game_id VARCHAR(36) NOT NULL, "
+            + "room_id VARCHAR(64) NOT NULL, "
+            + "seq INT NOT NULL, "
+            + "event_type VARCHAR(32) NOT NULL, "
+            + "uid VARCHAR(64), "
+            + "nickname VARCHAR(100), "
+            + "word VARCHAR(100), "
+            + "detail TEXT, "
+            + "created_at BIGINT NOT NULL, "
+            + "INDEX idx_game_events_game (game_id, seq), "
+            + "INDEX idx_game_events_room (room_id, created_at))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${kkutu.journal.enabled:true}")
+    private boolean enabled = true;
+
+    // 큐가 가득 차면 새 이벤트는 버린다 (턴 처리를 막지 않음)
+    @Value("${kkutu.journal.queue-capacity:65536}")
+    private int queueCapacity = 65536;
+
+    @Value("${kkutu.journal.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${kkutu.journal.flush-interval-ms:1000}")
+    private long flushIntervalMillis = 1000;
+
+    @Value("${kkutu.journal.create-table:true}")
+    private boolean createTable = true;
+
+    private BlockingQueue<JournalEvent> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public GameJournal(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled || jdbcTemplate == null) return;
+        if (createTable) {
+            try {
+                jdbcTemplate.execute(CREATE_TABLE_SQL);
+            } catch (Exception e) {
+                System.err.println("!!! [GAME JOURNAL] Failed to create game_events table, journal disabled: " + e.getMessage());
+                return;
+            }
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "game-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+        System.out.println("--- [GAME JOURNAL] Writer started (batch " + batchSize + ", every " + flushIntervalMillis + "ms) ---");
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!running) return;
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * 이벤트 기록 (방 mailbox 안에서 호출). 순번은 방의 journalSeq 에서 딴다. (큐에 들어간 경우에만 증가)
+     * 큐에 넣기만 하고 바로 돌아온다.
+     */
+    public void record(GameRoom room, JournalEvent.Type type, String uid, String word, String detail) {
+        if (!running || room == null || room.getGameId() == null) return;
+        String nickname = uid != null ? room.getNicknameByUid(uid) : null;
+        record(room, type, uid, nickname, word, detail);
+    }
+
+    /** 이미 방에서 빠진 플레이어처럼 닉네임을 따로 넘겨야 할 때 */
+    public void record(GameRoom room, JournalEvent.Type type, String uid, String nickname, String word, String detail) {
+        if (!running || room == null || room.getGameId() == null) return;
+        long now = System.currentTimeMillis();
+        if (room.getJournalDropped() > 0 && !offer(room, new JournalEvent(room.getGameId(), room.getRoomId(),
+                room.getJournalSeq(), JournalEvent.Type.EVENTS_DROPPED, null, null, null,
+                String.valueOf(room.getJournalDropped()), now))) {
+            // 표시도 못 넣었으면 이번 이벤트도 버린다 (개수만 늘림)
+            room.setJournalDropped(room.getJournalDropped() + 1);
+            dropped.increment();
+            return;
+        }
+        room.setJournalDropped(0);
+        if (!offer(room, new JournalEvent(room.getGameId(), room.getRoomId(), room.getJournalSeq(), type,
+                uid, nickname, word, detail, now))) {
+            room.setJournalDropped(1);
+            dropped.increment();
+        }
+    }
+
+    // 큐에 들어갔을 때만 순번을 소비한다
+    private boolean offer(GameRoom room, JournalEvent event) {
+        if (!queue.offer(event)) return false;
+        room.nextJournalSeq();
+        recorded.increment();
+        return true;
+    }
+
+    /** 게임 재생: seq 순서대로 */
+    public List<Map<String, Object>> eventsOf(String gameId) {
+        if (jdbcTemplate == null) return List.of();
+        return jdbcTemplate.query(
+                "SELECT seq, event_type, uid, nickname, word, detail, created_at FROM game_events WHERE game_id = ? ORDER BY seq",
+                (rs, rowNum) -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("seq", rs.getInt("seq"));
+                    row.put("type", rs.getString("event_type"));
+                    row.put("uid", rs.getString("uid"));
+                    row.put("nickname", rs.getString("nickname"));
+                    row.put("word", rs.getString("word"));
+                    row.put("detail", rs.getString("detail"));
+                    row.put("createdAt", rs.getLong("created_at"));
+                    return row;
+                },
+                gameId);
+    }
+
+    /** 방에서 있었던 게임 목록 (최근 순) */
+    public List<Map<String, Object>> gamesInRoom(String roomId, int limit) {
+        if (jdbcTemplate == null) return List.of();
+        return jdbcTemplate.query(
+                "SELECT game_id, MIN(created_at) AS started_at, MAX(created_at) AS last_event_at, COUNT(*) AS events "
+                        + "FROM game_events WHERE room_id = ? GROUP BY game_id ORDER BY started_at DESC LIMIT ?",
+                (rs, rowNum) -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("gameId", rs.getString("game_id"));
+                    row.put("startedAt", rs.getLong("started_at"));
+                    row.put("lastEventAt", rs.getLong("last_event_at"));
+                    row.put("events", rs.getLong("events"));
+                    return row;
+                },
+                roomId, limit);
+    }
+
+    private void writeLoop() {
+        List<JournalEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // 첫 이벤트를 기다린 뒤 flush-interval 동안 batch-size 까지 모은다
+                JournalEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    JournalEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중: 남은 큐를 마저 쓰고 끝낸다
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<JournalEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), GameJournal::bind);
+            written.add(batch.size());
+            batches.increment();
+        } catch (Exception e) {
+            failed.add(batch.size());
+            System.err.println("!!! [GAME JOURNAL] Failed to write " + batch.size() + " events: " + e.getMessage());
+        }
+    }
+
+    private static void bind(PreparedStatement ps, JournalEvent event) throws SQLException {
+        ps.setString(1, event.getGameId());
+        ps.setString(2, event.getRoomId());
+        ps.setInt(3, event.getSeq());
+        ps.setString(4, event.getType().name());
+        setNullable(ps, 5, event.getUid());
+        setNullable(ps, 6, event.getNickname());
+        setNullable(ps, 7, event.getWord());
+        setNullable(ps, 8, event.getDetail());
+        ps.setLong(9, event.getCreatedAt());
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    public int getQueueSize() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.journal;
+
+import lombok.Getter;
+
+/**
+ * 게임 기록 한 줄 (game_events 테이블의 행).
+ * 방 mailbox 에서 만들어 {@link GameJournal} 큐에 넣고, 쓰기 스레드가 묶어서 INSERT 한다.
+ */
+@Getter
+public class JournalEvent {
+
+    public enum Type {
+        PLAYER_JOINED,
+        WORD_ACCEPTED,
+        WORD_REJECTED,
+        PLAYER_ELIMINATED,
+        PLAYER_LEFT,
+        GAME_OVER,
+        EVENTS_DROPPED // 큐가 가득 차서 이 자리의 이벤트 detail 개를 기록하지 못함
+    }
+
+    private final String gameId;
+    private final String roomId;
+    private final int seq;          // 게임 안에서의 순번 (0부터, 재생 순서)
+    private final Type type;
+    private final String uid;
+    private final String nickname;
+    private final String word;
+    private final String detail;    // 뜻 / 실패 횟수 / 탈락 사유 / 승자 등
+    private final long createdAt;   // epoch millis
+
+    public JournalEvent(String gameId, String roomId, int seq, Type type, String uid, String nickname,
+                        String word, String detail, long createdAt) {
+        this.gameId = gameId;
+        this.roomId = roomId;
+        this.seq = seq;
+        this.type = type;
+        this.uid = uid;
+        this.nickname = nickname;
+        this.word = word;
+        this.detail = detail;
+        this.createdAt = createdAt;
+    }
+}
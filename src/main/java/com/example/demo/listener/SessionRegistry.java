@@ -0,0 +1,216 @@
+package com.example.demo.listener;
+
+import com.example.demo.service.GameRoomService;
+import com.example.demo.timer.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 웹소켓 세션 ↔ uid ↔ 방 연결표 (역방향 색인 포함).
+ *
+ * 세션이 끊겨도 바로 퇴장시키지 않는다. reconnect-grace-ms 동안 자리를 비워 두고,
+ * 그 안에 같은 uid 가 같은 방으로 다시 들어오면 ({@link #bind}) 타이머를 취소하고 자리를 그대로 이어 쓴다.
+ * (모바일에서 잠깐 끊길 때마다 퇴장 → lastWord 초기화 → 방 전체 방송이 반복되던 것을 막음)
+ * 유예가 끝나면 그때 {@link GameRoomService#handlePlayerDisconnect} 로 기존과 같이 처리한다.
+ * 퇴장 작업은 방 mailbox 안에서 "아직 돌아오지 않았는지" 를 다시 확인한다. 입장 쪽은 {@link #bind} 를 입장과 같은
+ * mailbox 작업에서 부르므로, 유예 만료와 재입장이 겹쳐도 방금 돌아온 플레이어를 지우지 않는다.
+ *
+ * uid 당 현재 세션은 하나다. 새 세션으로 다시 묶이면 이전 세션의 (늦게 도착한) 종료 이벤트는 무시된다.
+ */
+@Component
+public class SessionRegistry {
+
+    /** 세션 하나가 묶인 uid / 방 */
+    public static final class Binding {
+        private final String sessionId;
+        private final String uid;
+        private final String roomId;
+
+        Binding(String sessionId, String uid, String roomId) {
+            this.sessionId = sessionId;
+            this.uid = uid;
+            this.roomId = roomId;
+        }
+
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        public String getUid() {
+            return uid;
+        }
+
+        public String getRoomId() {
+            return roomId;
+        }
+    }
+
+    private final GameRoomService gameRoomService;
+    private final TimingWheel timingWheel;
+
+    // 0 이면 끊기는 즉시 퇴장 (기존 동작)
+    @Value("${kkutu.session.reconnect-grace-ms:15000}")
+    private long reconnectGraceMillis = 15_000;
+
+    private final Map<String, Binding> bySession = new ConcurrentHashMap<>();
+    private final Map<String, Binding> byUid = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> uidsByRoom = new ConcurrentHashMap<>();
+    // 끊긴 뒤 재접속을 기다리는 uid → 유예 타이머
+    private final Map<String, TimingWheel.Timeout> awaitingReconnect = new ConcurrentHashMap<>();
+    // uid 단위 상태 변경용 락 (uid 해시로 고른 고정 스트라이프)
+    private final Object[] locks = new Object[64];
+
+    private final LongAdder resumed = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    public SessionRegistry(GameRoomService gameRoomService, TimingWheel timingWheel) {
+        this.gameRoomService = gameRoomService;
+        this.timingWheel = timingWheel;
+        for (int i = 0; i < locks.length; i++) locks[i] = new Object();
+    }
+
+    /**
+     * 입장(또는 재입장) 성공한 세션을 묶는다.
+     *
+     * 같은 uid 의 이전 세션이 아직 살아 있어도 (새 연결이 끊김 감지보다 먼저 도착) 새 세션이 자리를 넘겨받는다.
+     *
+     * @return 같은 방에 앉아 있던 uid 가 새 세션으로 돌아온 경우 true
+     */
+    public boolean bind(String sessionId, String uid, String roomId) {
+        if (sessionId == null || uid == null || roomId == null) return false;
+        Binding binding = new Binding(sessionId, uid, roomId);
+        Binding previous;
+        synchronized (lockFor(uid)) {
+            TimingWheel.Timeout grace = awaitingReconnect.remove(uid);
+            if (grace != null) grace.cancel();
+            previous = byUid.put(uid, binding);
+            bySession.put(sessionId, binding);
+            if (previous != null && !previous.roomId.equals(roomId)) removeFromRoom(previous.roomId, uid);
+            uidsByRoom.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(uid);
+        }
+        if (previous == null || previous.sessionId.equals(sessionId)) {
+            System.out.println("--- [SESSION] Bound " + sessionId + " -> " + uid + " @ " + roomId + " ---");
+            return false;
+        }
+        // 이전 세션이 아직 살아 있으면 그 세션의 종료 이벤트는 이제 무시된다
+        bySession.remove(previous.sessionId, previous);
+        // 다른 방으로 옮겨 갔으면 이전 방에서는 퇴장
+        if (!previous.roomId.equals(roomId)) gameRoomService.handlePlayerDisconnect(previous.roomId, uid);
+
+        boolean resumedSeat = previous.roomId.equals(roomId);
+        if (resumedSeat) resumed.increment();
+        System.out.println("--- [SESSION] Bound " + sessionId + " -> " + uid + " @ " + roomId + (resumedSeat ? " (resumed)" : "") + " ---");
+        return resumedSeat;
+    }
+
+    /** 세션 종료: 이 세션이 uid 의 현재 세션이면 유예 타이머를 건다 */
+    public void sessionClosed(String sessionId) {
+        Binding binding = bySession.remove(sessionId);
+        if (binding == null) {
+            System.out.println("--- [SESSION] Closed " + sessionId + " (not bound to a room) ---");
+            return;
+        }
+        String uid = binding.uid;
+        synchronized (lockFor(uid)) {
+            if (byUid.get(uid) != binding) {
+                System.out.println("--- [SESSION] Closed stale session " + sessionId + " of " + uid + " (already reconnected) ---");
+                return;
+            }
+            if (reconnectGraceMillis <= 0) {
+                drop(binding);
+                return;
+            }
+            TimingWheel.Timeout grace = timingWheel.schedule(() -> graceExpired(binding), reconnectGraceMillis);
+            TimingWheel.Timeout old = awaitingReconnect.put(uid, grace);
+            if (old != null) old.cancel();
+        }
+        System.out.println("--- [SESSION] " + uid + " disconnected from " + binding.roomId
+                + ", holding seat for " + reconnectGraceMillis + "ms ---");
+    }
+
+    /** 나가기 버튼: 유예 없이 바로 퇴장 */
+    public void leave(String sessionId) {
+        Binding binding = bySession.remove(sessionId);
+        if (binding == null) return;
+        synchronized (lockFor(binding.uid)) {
+            if (byUid.get(binding.uid) != binding) return;
+            TimingWheel.Timeout grace = awaitingReconnect.remove(binding.uid);
+            if (grace != null) grace.cancel();
+            drop(binding);
+        }
+        System.out.println("--- [SESSION] " + binding.uid + " left " + binding.roomId + " ---");
+    }
+
+    // 타이밍 휠 스레드에서 실행
+    private void graceExpired(Binding binding) {
+        String uid = binding.uid;
+        synchronized (lockFor(uid)) {
+            // 그 사이 다시 묶였으면 byUid 가 새 Binding 을 가리킨다
+            if (byUid.get(uid) != binding) return;
+            awaitingReconnect.remove(uid);
+            expired.increment();
+            drop(binding);
+        }
+        System.out.println("--- [SESSION] " + uid + " did not reconnect in time, leaving " + binding.roomId + " ---");
+    }
+
+    // 호출자가 uid 락을 잡고 있어야 한다
+    private void drop(Binding binding) {
+        byUid.remove(binding.uid, binding);
+        removeFromRoom(binding.roomId, binding.uid);
+        String uid = binding.uid;
+        String roomId = binding.roomId;
+        gameRoomService.handlePlayerDisconnect(roomId, uid, () -> !roomId.equals(roomOf(uid)));
+    }
+
+    private void removeFromRoom(String roomId, String uid) {
+        uidsByRoom.computeIfPresent(roomId, (id, uids) -> {
+            uids.remove(uid);
+            return uids.isEmpty() ? null : uids;
+        });
+    }
+
+    private Object lockFor(String uid) {
+        return locks[(uid.hashCode() & 0x7fffffff) % locks.length];
+    }
+
+    public Binding bindingOf(String sessionId) {
+        return bySession.get(sessionId);
+    }
+
+    public String roomOf(String uid) {
+        Binding binding = byUid.get(uid);
+        return binding != null ? binding.roomId : null;
+    }
+
+    /** 이 방에 묶인 uid (재접속 대기 중 포함) */
+    public Set<String> uidsInRoom(String roomId) {
+        Set<String> uids = uidsByRoom.get(roomId);
+        return uids != null ? Set.copyOf(uids) : Set.of();
+    }
+
+    public boolean isAwaitingReconnect(String uid) {
+        return awaitingReconnect.containsKey(uid);
+    }
+
+    public int getSessionCount() {
+        return bySession.size();
+    }
+
+    public int getAwaitingReconnectCount() {
+        return awaitingReconnect.size();
+    }
+
+    public long getResumedCount() {
+        return resumed.sum();
+    }
+
+    public long getExpiredCount() {
+        return expired.sum();
+    }
+}
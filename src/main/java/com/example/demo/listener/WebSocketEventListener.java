@@ -1,28 +1,19 @@
 package com.example.demo.listener; // 패키지 확인
 
-import com.example.demo.service.GameRoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // 로깅 라이브러리 (선택 사항)
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketEventListener {
 
-    private final GameRoomService gameRoomService;
-
-    // (세션ID -> 유저UID)
-    private final Map<String, String> sessionUserMap = new ConcurrentHashMap<>();
-    // (세션ID -> 방ID)
-    private final Map<String, String> sessionRoomMap = new ConcurrentHashMap<>();
+    // 세션 ↔ uid ↔ 방 연결표 (끊김 유예 처리 포함)
+    private final SessionRegistry sessionRegistry;
 
     // (연결 리스너는 주석 처리됨 - 현 로직에선 불필요)
 
@@ -30,29 +21,17 @@ public class WebSocketEventListener {
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = headerAccessor.getSessionId();
-
-        String uid = sessionUserMap.remove(sessionId);
-        String roomId = sessionRoomMap.remove(sessionId);
-
-        if (uid != null && roomId != null) {
-            log.info("WebSocket Disconnected: User UID '{}' from Room '{}'", uid, roomId);
-            //  uid로 연결 해제 처리 위임
-            gameRoomService.handlePlayerDisconnect(roomId, uid);
-        } else if (uid != null) {
-            log.info("WebSocket Disconnected: User UID '{}' (before joining room)", uid);
-        } else {
-            log.warn("WebSocket Disconnected: SessionId={} (User or Room info not found)", sessionId);
-        }
+        log.info("WebSocket Disconnected: SessionId={}", sessionId);
+        // 바로 퇴장시키지 않고 재접속 유예 (SessionRegistry)
+        sessionRegistry.sessionClosed(sessionId);
     }
 
     // --- `registerSession` (uid) ---
     /**
      * 플레이어가 방에 성공적으로 Join했을 때 호출되어 세션 정보를 저장합니다.
+     * @return 끊겼던 uid 가 유예 안에 같은 방으로 돌아온 경우 true
      */
-    public void registerSession(String sessionId, String uid, String roomId) {
-        if (sessionId == null || uid == null || roomId == null) return;
-        sessionUserMap.put(sessionId, uid);
-        sessionRoomMap.put(sessionId, roomId);
-        log.info("Session Registered: SessionId={}, User UID={}, Room={}", sessionId, uid, roomId);
+    public boolean registerSession(String sessionId, String uid, String roomId) {
+        return sessionRegistry.bind(sessionId, uid, roomId);
     }
-}
\ No newline at end of file
+}
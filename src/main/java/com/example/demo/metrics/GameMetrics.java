@@ -0,0 +1,134 @@
+package com.example.demo.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 핫패스 계측 (Micrometer). /actuator/prometheus 로 노출된다.
+ * 핫패스에서는 미리 만들어 둔 Timer/Counter 에 기록만 하도록 해서 태그 조회 비용을 줄인다.
+ */
+@Component
+public class GameMetrics {
+
+    public static final String STAGE_PATTERN = "pattern";
+    public static final String STAGE_RULES = "rules";
+    public static final String STAGE_USED_WORD = "used_word";
+    public static final String STAGE_DICTIONARY_API = "dictionary_api";
+
+    public static final String STDICT_FOUND = "found";
+    public static final String STDICT_NOT_FOUND = "not_found";
+    public static final String STDICT_ERROR = "error";
+    public static final String STDICT_TIMEOUT = "timeout";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Timer> validationStages = new ConcurrentHashMap<>();
+    private final Map<String, Timer> stdictRequests = new ConcurrentHashMap<>();
+    private final Map<String, Counter> executorRejections = new ConcurrentHashMap<>();
+    private final Timer stdictQueueWait;
+    private final Counter stdictCoalesced;
+    private final Timer botThink;
+    private final Timer botCompute;
+    private final Counter broadcasts;
+    private final DistributionSummary broadcastBytes;
+    private final Counter broadcastEvents;
+    private final DistributionSummary broadcastBatchSize;
+
+    public GameMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (String stage : new String[]{STAGE_PATTERN, STAGE_RULES, STAGE_USED_WORD, STAGE_DICTIONARY_API}) {
+            validationStages.put(stage, Timer.builder("kkutu.validation.stage")
+                    .description("단어 검증 단계별 소요 시간")
+                    .tag("stage", stage)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        for (String outcome : new String[]{STDICT_FOUND, STDICT_NOT_FOUND, STDICT_ERROR, STDICT_TIMEOUT}) {
+            stdictRequests.put(outcome, Timer.builder("kkutu.stdict.requests")
+                    .description("국어원 /search.do 호출 지연 및 결과")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        this.stdictQueueWait = Timer.builder("kkutu.stdict.queue.wait")
+                .description("국어원 호출이 동시 실행 제한 큐에서 기다린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.stdictCoalesced = Counter.builder("kkutu.stdict.coalesced")
+                .description("같은 단어의 진행 중인 호출에 합류한 검증 수 (원격 호출 절약)")
+                .register(registry);
+        this.botThink = Timer.builder("kkutu.bot.think")
+                .description("봇 턴 예약부터 수 계산 시작까지 (think delay + 워커 대기)")
+                .register(registry);
+        this.botCompute = Timer.builder("kkutu.bot.compute")
+                .description("봇 수 계산 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.broadcasts = Counter.builder("kkutu.broadcasts")
+                .description("방 토픽 방송 프레임 수")
+                .register(registry);
+        this.broadcastBytes = DistributionSummary.builder("kkutu.broadcast.bytes")
+                .description("방 토픽 방송 프레임 크기")
+                .baseUnit("bytes")
+                .register(registry);
+        this.broadcastEvents = Counter.builder("kkutu.broadcast.events")
+                .description("방 토픽으로 보낸 GameEvent 수 (kkutu.broadcasts 와의 차이 = 묶어서 아낀 프레임)")
+                .register(registry);
+        this.broadcastBatchSize = DistributionSummary.builder("kkutu.broadcast.batch.size")
+                .description("BATCH 프레임 하나에 묶인 이벤트 수")
+                .register(registry);
+    }
+
+    public void recordValidationStage(String stage, long nanos) {
+        Timer timer = validationStages.get(stage);
+        if (timer != null) timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStdictRequest(String outcome, long nanos) {
+        Timer timer = stdictRequests.get(outcome);
+        if (timer != null) timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStdictQueueWait(long nanos) {
+        stdictQueueWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStdictCoalesced() {
+        stdictCoalesced.increment();
+    }
+
+    public void recordBotThink(long nanos) {
+        botThink.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBotCompute(long nanos) {
+        botCompute.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBroadcast(int bytes) {
+        broadcasts.increment();
+        broadcastBytes.record(bytes);
+    }
+
+    public void recordBroadcastEvents(int count) {
+        broadcastEvents.increment(count);
+    }
+
+    public void recordBroadcastBatch(int events) {
+        broadcastBatchSize.record(events);
+    }
+
+    public void recordExecutorRejection(String executorName) {
+        executorRejections.computeIfAbsent(executorName, name -> Counter.builder("kkutu.executor.rejected")
+                .description("작업 거부(큐 포화) 횟수")
+                .tag("executor", name)
+                .register(registry)).increment();
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.demo.metrics;
+
+import com.example.demo.DTO.GameRoom;
+import com.example.demo.bots.AiPlayerService;
+import com.example.demo.journal.GameJournal;
+import com.example.demo.listener.SessionRegistry;
+import com.example.demo.service.GameRoomService;
+import com.example.demo.service.KoreanApiService;
+import com.example.demo.service.LobbyFeed;
+import com.example.demo.service.WordValidationCache;
+import com.example.demo.timer.TimingWheel;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 스크랩 시점에 읽어 가는 상태 지표 (방/플레이어/봇 수, 실행기 큐 깊이, 검증 캐시, 봇 원격 호출 수).
+ * 핫패스에 비용을 더하지 않도록 모두 Gauge / FunctionCounter 로 등록한다.
+ */
+@Component
+public class GameStateMetrics implements MeterBinder {
+
+    private final GameRoomService gameRoomService;
+    private final WordValidationCache validationCache;
+    private final KoreanApiService koreanApiService;
+    private final AiPlayerService aiPlayerService;
+    private final GameJournal gameJournal;
+    private final LobbyFeed lobbyFeed;
+    private final SessionRegistry sessionRegistry;
+    private final TimingWheel timingWheel;
+    private final Executor taskExecutor;
+    private final Executor roomWorkerPool;
+
+    public GameStateMetrics(GameRoomService gameRoomService,
+                            WordValidationCache validationCache,
+                            KoreanApiService koreanApiService,
+                            AiPlayerService aiPlayerService,
+                            GameJournal gameJournal,
+                            LobbyFeed lobbyFeed,
+                            SessionRegistry sessionRegistry,
+                            TimingWheel timingWheel,
+                            @Qualifier("taskExecutor") Executor taskExecutor,
+                            @Qualifier("roomWorkerPool") Executor roomWorkerPool) {
+        this.gameRoomService = gameRoomService;
+        this.validationCache = validationCache;
+        this.koreanApiService = koreanApiService;
+        this.aiPlayerService = aiPlayerService;
+        this.gameJournal = gameJournal;
+        this.lobbyFeed = lobbyFeed;
+        this.sessionRegistry = sessionRegistry;
+        this.timingWheel = timingWheel;
+        this.taskExecutor = taskExecutor;
+        this.roomWorkerPool = roomWorkerPool;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // --- 방 / 플레이어 / 봇 ---
+        Gauge.builder("kkutu.rooms.active", gameRoomService, s -> s.getActiveGameRooms().size())
+                .description("활성 방 수")
+                .register(registry);
+        Gauge.builder("kkutu.players.active", gameRoomService, s -> countPlayers(s, false))
+                .description("방에 있는 사람 플레이어 수")
+                .register(registry);
+        Gauge.builder("kkutu.bots.active", gameRoomService, s -> countPlayers(s, true))
+                .description("방에 있는 봇 수")
+                .register(registry);
+        Gauge.builder("kkutu.rooms.used_words.bytes", gameRoomService, GameStateMetrics::usedWordBytes)
+                .description("전체 방의 사용 단어 집합 추정 메모리")
+                .baseUnit("bytes")
+                .register(registry);
+
+        // --- 실행기 큐 ---
+        bindExecutor(registry, "taskExecutor", taskExecutor);
+        bindExecutor(registry, "roomWorkerPool", roomWorkerPool);
+
+        // --- 검증 캐시 ---
+        FunctionCounter.builder("kkutu.validation_cache.hits", validationCache, WordValidationCache::getHitCount)
+                .register(registry);
+        FunctionCounter.builder("kkutu.validation_cache.negative_hits", validationCache, WordValidationCache::getNegativeHitCount)
+                .register(registry);
+        FunctionCounter.builder("kkutu.validation_cache.misses", validationCache, WordValidationCache::getMissCount)
+                .register(registry);
+        FunctionCounter.builder("kkutu.validation_cache.evictions", validationCache, WordValidationCache::getEvictionCount)
+                .register(registry);
+        Gauge.builder("kkutu.validation_cache.size", validationCache, WordValidationCache::size)
+                .register(registry);
+
+        // --- 국어원 호출 (동시 실행 제한 / single-flight) ---
+        Gauge.builder("kkutu.stdict.active", koreanApiService, KoreanApiService::getActiveRequestCount)
+                .description("진행 중인 국어원 호출 수")
+                .register(registry);
+        Gauge.builder("kkutu.stdict.queue.size", koreanApiService, KoreanApiService::getQueuedRequestCount)
+                .description("동시 실행 제한으로 대기 중인 호출 수")
+                .register(registry);
+        FunctionCounter.builder("kkutu.stdict.rejected", koreanApiService, KoreanApiService::getRejectedRequestCount)
+                .description("대기 큐가 가득 차서 호출하지 않은 검증 수")
+                .register(registry);
+        Gauge.builder("kkutu.stdict.circuit.state", koreanApiService, KoreanApiService::getCircuitState)
+                .description("서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(registry);
+        FunctionCounter.builder("kkutu.stdict.circuit.opened", koreanApiService, KoreanApiService::getCircuitOpenedCount)
+                .register(registry);
+        FunctionCounter.builder("kkutu.stdict.circuit.not_permitted", koreanApiService, KoreanApiService::getCircuitNotPermittedCount)
+                .description("서킷이 열려 있어 호출하지 않은 수")
+                .register(registry);
+        FunctionCounter.builder("kkutu.stdict.degraded", koreanApiService, KoreanApiService::getDegradedCount)
+                .description("국어원 대신 로컬 사전으로 판정한 검증 수")
+                .register(registry);
+
+        // --- 봇 ---
+        FunctionCounter.builder("kkutu.bot.moves", aiPlayerService, AiPlayerService::getBotMoveCount)
+                .register(registry);
+        FunctionCounter.builder("kkutu.bot.remote_calls", aiPlayerService, AiPlayerService::getBotRemoteCallCount)
+                .description("봇 수 계산 중 국어원 API 호출 수")
+                .register(registry);
+
+        // --- 게임 기록 저널 ---
+        Gauge.builder("kkutu.journal.queue.size", gameJournal, GameJournal::getQueueSize)
+                .description("DB 에 아직 쓰지 않은 게임 기록 수")
+                .register(registry);
+        FunctionCounter.builder("kkutu.journal.events", gameJournal, GameJournal::getWrittenCount)
+                .tag("outcome", "written")
+                .register(registry);
+        FunctionCounter.builder("kkutu.journal.events", gameJournal, GameJournal::getDroppedCount)
+                .tag("outcome", "dropped")
+                .description("큐가 가득 차서 버린 기록")
+                .register(registry);
+        FunctionCounter.builder("kkutu.journal.events", gameJournal, GameJournal::getFailedCount)
+                .tag("outcome", "failed")
+                .register(registry);
+        FunctionCounter.builder("kkutu.journal.batches", gameJournal, GameJournal::getBatchCount)
+                .register(registry);
+
+        // --- 타이머 (턴 시간 제한 / 방치된 방) ---
+        Gauge.builder("kkutu.timer.pending", timingWheel, TimingWheel::pending)
+                .description("타이밍 휠에 걸린 마감 수")
+                .register(registry);
+        FunctionCounter.builder("kkutu.timer.expired", timingWheel, TimingWheel::expiredCount)
+                .register(registry);
+
+        // --- 웹소켓 세션 (재접속 유예) ---
+        Gauge.builder("kkutu.sessions.active", sessionRegistry, SessionRegistry::getSessionCount)
+                .description("방에 묶인 웹소켓 세션 수")
+                .register(registry);
+        Gauge.builder("kkutu.sessions.awaiting_reconnect", sessionRegistry, SessionRegistry::getAwaitingReconnectCount)
+                .description("끊긴 뒤 재접속 유예 중인 플레이어 수")
+                .register(registry);
+        FunctionCounter.builder("kkutu.sessions.resumed", sessionRegistry, SessionRegistry::getResumedCount)
+                .description("자리를 유지한 채 새 세션으로 돌아온 수")
+                .register(registry);
+        FunctionCounter.builder("kkutu.sessions.grace_expired", sessionRegistry, SessionRegistry::getExpiredCount)
+                .description("유예 안에 돌아오지 않아 퇴장 처리된 수")
+                .register(registry);
+
+        // --- 로비 피드 ---
+        FunctionCounter.builder("kkutu.lobby.diffs", lobbyFeed, LobbyFeed::getDiffCount)
+                .description("/topic/lobby 로 보낸 DIFF 프레임 수")
+                .register(registry);
+    }
+
+    private static double countPlayers(GameRoomService service, boolean bots) {
+        long count = 0;
+        for (GameRoom room : service.getActiveGameRooms()) {
+            // 방 mailbox 밖에서 읽는 값이라 근사치 (스크랩 용도로 충분)
+            for (Object player : room.getPlayers().toArray()) {
+                if (player != null && ((GameRoom.PlayerInfo) player).isBot() == bots) count++;
+            }
+        }
+        return count;
+    }
+
+    private static double usedWordBytes(GameRoomService service) {
+        long bytes = 0;
+        for (GameRoom room : service.getActiveGameRooms()) {
+            bytes += room.getUsedWords().estimatedBytes();
+        }
+        return bytes;
+    }
+
+    private static void bindExecutor(MeterRegistry registry, String name, Executor executor) {
+        if (!(executor instanceof ThreadPoolTaskExecutor pool)) return;
+        Gauge.builder("kkutu.executor.queue.size", pool, p -> p.getThreadPoolExecutor().getQueue().size())
+                .tag("executor", name)
+                .register(registry);
+        Gauge.builder("kkutu.executor.active", pool, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("executor", name)
+                .register(registry);
+    }
+}
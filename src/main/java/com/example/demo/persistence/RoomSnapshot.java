@@ -0,0 +1,55 @@
+package com.example.demo.persistence;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그에서 복구한 방 상태 한 개. ({@link RoomSnapshotLog} 의 STATE 레코드 + 그 방의 WORD 레코드들)
+ * 사용 단어는 사전 id 가 아니라 문자열로 저장되므로 재시작 사이에 사전이 바뀌어도 그대로 복구된다.
+ */
+@Getter
+public class RoomSnapshot {
+
+    @Getter
+    public static class Player {
+        private final String uid;
+        private final String nickname;
+
+        public Player(String uid, String nickname) {
+            this.uid = uid;
+            this.nickname = nickname;
+        }
+    }
+
+    private final String roomId;
+    private final String gameId;
+    private final int journalSeq;
+    private final String roomName;
+    private final int maxPlayers;
+    private final int botCount;
+    private final String botDifficulty;
+    private final int currentTurnIndex;
+    private final String lastWord;
+    private final List<Player> players;
+    private final Map<String, Integer> failureCounts;
+    private final List<String> usedWords;
+
+    public RoomSnapshot(String roomId, String gameId, int journalSeq, String roomName, int maxPlayers, int botCount, String botDifficulty,
+                        int currentTurnIndex, String lastWord, List<Player> players,
+                        Map<String, Integer> failureCounts, List<String> usedWords) {
+        this.roomId = roomId;
+        this.gameId = gameId;
+        this.journalSeq = journalSeq;
+        this.roomName = roomName;
+        this.maxPlayers = maxPlayers;
+        this.botCount = botCount;
+        this.botDifficulty = botDifficulty;
+        this.currentTurnIndex = currentTurnIndex;
+        this.lastWord = lastWord;
+        this.players = players;
+        this.failureCounts = failureCounts;
+        this.usedWords = usedWords;
+    }
+}
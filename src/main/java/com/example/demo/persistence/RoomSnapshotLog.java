@@ -0,0 +1,563 @@
+package com.example.demo.persistence;
+
+import com.example.demo.DTO.GameRoom;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 방 상태의 append-only 로그 (memory-mapped 파일 하나).
+ *
+ * 레코드 = [본문 길이 int][CRC32 int][본문: 종류 byte + 내용]
+ * - STATE: 방의 사용 단어를 뺀 전체 상태 (인원, 턴 순서, 마지막 단어, 실패 횟수...). 턴마다 새로 쓴다. (수백 바이트)
+ * - WORD: 사용 단어 1개. 단어가 쓰일 때만 덧붙이므로 턴당 비용이 게임 길이와 무관하다.
+ * - REMOVED: 방 삭제
+ *
+ * 쓰기는 매핑된 버퍼에 복사만 하고 디스크 반영(force)은 {@link #force()} 를 주기적으로 불러 묶어서 한다.
+ * 본문과 CRC 를 먼저 쓰고 길이를 마지막에 쓰므로, 쓰다 만 레코드는 복구 시 길이 0 또는 CRC 불일치로 걸러진다.
+ *
+ * 방별 "살아 있는" 레코드 위치(마지막 STATE + WORD 들)를 메모리에 들고 있다가,
+ * 죽은 레코드가 절반을 넘으면 살아 있는 레코드만 새 파일에 복사하고 원자적으로 교체한다. (compaction)
+ * compaction 과 파일 키우기는 flush 스레드가 {@link #ensureHeadroom} 로 미리 해 둔다.
+ * append 는 공간이 모자라도 compaction 하지 않고 같은 파일을 더 크게 다시 매핑만 한다. (fsync / 복사 없음)
+ *
+ * 한 파일은 한 프로세스만 연다. 옆의 "<파일>.lock" 에 배타 잠금을 잡고, 이미 잡혀 있으면 {@link #open} 이 실패한다.
+ * (실행 중인 서버와 같은 경로를 여는 배치 작업이 replay 의 정리 단계에서 서버가 막 쓴 레코드를 지우지 않도록)
+ *
+ * force 외의 메소드는 synchronized (방 mailbox 여러 개가 동시에 쓴다). 한 번의 쓰기는 메모리 복사 수백 바이트다.
+ */
+public final class RoomSnapshotLog implements Closeable {
+
+    static final int MAGIC = 0x4B4B524C; // "KKRL"
+    static final int VERSION = 2; // 2: STATE 에 gameId, journalSeq 추가
+    static final int FILE_HEADER_BYTES = 8;
+    static final int RECORD_HEADER_BYTES = 8;
+    // 레코드 하나의 최대 크기 (이보다 크면 깨진 레코드로 본다)
+    static final int MAX_RECORD_BYTES = 1 << 20;
+
+    static final byte STATE = 1;
+    static final byte WORD = 2;
+    static final byte REMOVED = 3;
+
+    /** 방별 살아 있는 레코드 위치 */
+    private static final class RoomEntry {
+        int stateOffset = -1;
+        int[] wordOffsets = new int[8];
+        int wordCount;
+
+        void addWord(int offset) {
+            if (wordCount == wordOffsets.length) {
+                wordOffsets = Arrays.copyOf(wordOffsets, wordCount * 2);
+            }
+            wordOffsets[wordCount++] = offset;
+        }
+    }
+
+    /** 내부 버퍼를 복사 없이 쓰기 위한 ByteArrayOutputStream */
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        RecordBuffer() {
+            super(256);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+
+    // 매핑 해제 (Unsafe.invokeCleaner). 없으면 GC 에 맡긴다
+    private static final MethodHandle UNMAPPER = unmapper();
+
+    private final Path path;
+    private FileChannel lockChannel;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    // 키우기 전의 매핑 (compaction 에서 파일을 바꾸기 전에 모두 해제한다)
+    private final List<MappedByteBuffer> retired = new ArrayList<>();
+    private int capacity;
+    private int position;
+    private long liveBytes;
+    private boolean dirty;
+    private int compactions;
+    private int growths;
+
+    private final Map<String, RoomEntry> index = new LinkedHashMap<>();
+    private final RecordBuffer record = new RecordBuffer();
+    private final DataOutputStream out = new DataOutputStream(record);
+    private final CRC32 crc = new CRC32();
+
+    private RoomSnapshotLog(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 로그를 열고 (없으면 만들고) 기존 레코드를 다시 읽어 방별 위치를 복구한다.
+     * 다른 프로세스가 이미 열어 두었으면 (잠금) 아무것도 건드리지 않고 IOException.
+     */
+    public static RoomSnapshotLog open(Path path, int initialCapacity) throws IOException {
+        RoomSnapshotLog log = new RoomSnapshotLog(path);
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        log.lock();
+        try {
+            log.load(initialCapacity);
+        } catch (IOException | RuntimeException e) {
+            if (log.channel != null) log.channel.close();
+            log.lockChannel.close();
+            throw e;
+        }
+        return log;
+    }
+
+    // compaction 으로 본 파일이 바뀌어도 유지되도록 별도 파일에 잠금을 잡는다
+    private void lock() throws IOException {
+        Path lockPath = path.resolveSibling(path.getFileName() + ".lock");
+        lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null; // 같은 JVM 안에서 이미 열려 있음
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("Room snapshot log is in use by another process: " + path.toAbsolutePath());
+        }
+    }
+
+    private void load(int initialCapacity) throws IOException {
+        boolean exists = Files.exists(path) && Files.size(path) >= FILE_HEADER_BYTES;
+        int size = Math.max(initialCapacity, exists ? (int) Math.min(Integer.MAX_VALUE, Files.size(path)) : 0);
+        map(path, size);
+        if (exists && buffer.getInt(0) == MAGIC) {
+            if (buffer.getInt(4) == VERSION) {
+                replay();
+            } else {
+                // 예전 형식은 읽지 않고 새로 시작한다 (진행 중이던 방만 잃음)
+                System.err.println("!!! [ROOM SNAPSHOT] Discarding log with old version " + buffer.getInt(4) + ": " + path);
+                channel.close();
+                unmap(buffer);
+                Files.delete(path);
+                map(path, initialCapacity);
+                writeFileHeader();
+            }
+        } else {
+            writeFileHeader();
+        }
+    }
+
+    private void map(Path file, int size) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        capacity = size;
+    }
+
+    private void writeFileHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        position = FILE_HEADER_BYTES;
+        dirty = true;
+    }
+
+    // 앞에서부터 유효한 레코드를 읽어 index 를 다시 만든다. 처음으로 깨진 레코드에서 멈춘다.
+    private void replay() {
+        int offset = FILE_HEADER_BYTES;
+        while (offset + RECORD_HEADER_BYTES <= capacity) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || length > MAX_RECORD_BYTES || offset + RECORD_HEADER_BYTES + length > capacity) break;
+            byte[] body = new byte[length];
+            buffer.get(offset + RECORD_HEADER_BYTES, body);
+            crc.reset();
+            crc.update(body, 0, length);
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) break;
+            try {
+                index(offset, body);
+            } catch (IOException e) {
+                break;
+            }
+            offset += RECORD_HEADER_BYTES + length;
+        }
+        position = offset;
+        // 쓰다 만 레코드의 남은 바이트가 다음 레코드 뒤에서 유효해 보이지 않도록 지운다
+        int end = Math.min(capacity, position + RECORD_HEADER_BYTES + MAX_RECORD_BYTES);
+        for (int i = position; i < end; i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    private void index(int offset, byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        byte type = in.readByte();
+        String roomId = in.readUTF();
+        int size = RECORD_HEADER_BYTES + body.length;
+        switch (type) {
+            case STATE -> indexState(roomId, offset, size);
+            case WORD -> indexWord(roomId, offset, size);
+            case REMOVED -> indexRemoved(roomId);
+            default -> throw new IOException("Unknown record type " + type);
+        }
+    }
+
+    private void indexState(String roomId, int offset, int size) {
+        RoomEntry entry = index.computeIfAbsent(roomId, id -> new RoomEntry());
+        if (entry.stateOffset >= 0) liveBytes -= recordSize(entry.stateOffset);
+        entry.stateOffset = offset;
+        liveBytes += size;
+    }
+
+    private void indexWord(String roomId, int offset, int size) {
+        index.computeIfAbsent(roomId, id -> new RoomEntry()).addWord(offset);
+        liveBytes += size;
+    }
+
+    private void indexRemoved(String roomId) {
+        RoomEntry removed = index.remove(roomId);
+        if (removed != null) liveBytes -= entryBytes(removed);
+    }
+
+    /** 방 상태 (사용 단어 제외) 기록. 방 mailbox 안에서 호출한다. */
+    public synchronized void appendState(GameRoom room) throws IOException {
+        record.reset();
+        out.writeByte(STATE);
+        out.writeUTF(room.getRoomId());
+        out.writeUTF(nullToEmpty(room.getGameId()));
+        out.writeInt(room.getJournalSeq());
+        out.writeUTF(nullToEmpty(room.getRoomName()));
+        out.writeInt(room.getMaxPlayers());
+        out.writeInt(room.getBotCount());
+        out.writeUTF(room.getBotDifficulty() != null ? room.getBotDifficulty().name() : "");
+        out.writeInt(room.getCurrentTurnIndex());
+        out.writeBoolean(room.getLastWord() != null);
+        if (room.getLastWord() != null) out.writeUTF(room.getLastWord());
+        out.writeInt(room.getPlayers().size());
+        for (GameRoom.PlayerInfo player : room.getPlayers()) {
+            out.writeUTF(player.getUid());
+            out.writeUTF(nullToEmpty(player.getNickname()));
+        }
+        out.writeInt(room.getFailureCounts().size());
+        for (Map.Entry<String, Integer> failure : room.getFailureCounts().entrySet()) {
+            out.writeUTF(failure.getKey());
+            out.writeInt(failure.getValue());
+        }
+        indexState(room.getRoomId(), append(), RECORD_HEADER_BYTES + record.size());
+    }
+
+    /** 사용 단어 1개 기록 */
+    public synchronized void appendWord(String roomId, String word) throws IOException {
+        record.reset();
+        out.writeByte(WORD);
+        out.writeUTF(roomId);
+        out.writeUTF(word);
+        indexWord(roomId, append(), RECORD_HEADER_BYTES + record.size());
+    }
+
+    /** 방 삭제 기록 (다음 compaction 때 방의 레코드가 모두 사라진다) */
+    public synchronized void appendRemoved(String roomId) throws IOException {
+        if (!index.containsKey(roomId)) return;
+        record.reset();
+        out.writeByte(REMOVED);
+        out.writeUTF(roomId);
+        append();
+        indexRemoved(roomId);
+    }
+
+    // 현재 record 를 파일 끝에 쓰고 오프셋을 돌려준다
+    private int append() throws IOException {
+        int length = record.size();
+        if (length > MAX_RECORD_BYTES) throw new IOException("Room snapshot record too large: " + length);
+        int needed = RECORD_HEADER_BYTES + length;
+        if (position + needed > capacity) {
+            // flush 스레드가 여유 공간을 못 따라간 경우: 턴 처리 경로에서는 키우기만 한다
+            grow(needed);
+        }
+        int offset = position;
+        byte[] body = record.array();
+        crc.reset();
+        crc.update(body, 0, length);
+        buffer.put(offset + RECORD_HEADER_BYTES, body, 0, length);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.putInt(offset, length); // 마지막에 써야 쓰다 만 레코드가 유효해 보이지 않는다
+        position += needed;
+        dirty = true;
+        return offset;
+    }
+
+    /**
+     * 쌓인 쓰기를 디스크에 반영 (주기적으로 호출, batched fsync).
+     * fsync 는 잠금 밖에서 하므로 그동안에도 방 mailbox 의 append 는 막히지 않는다.
+     */
+    public boolean force() {
+        MappedByteBuffer target;
+        synchronized (this) {
+            if (!dirty) return false;
+            dirty = false; // 이후 쓰기는 다음 force 에서 반영
+            target = buffer;
+        }
+        target.force();
+        return true;
+    }
+
+    /** 죽은 레코드가 절반을 넘고 minBytes 이상 쌓였으면 compaction */
+    public synchronized boolean compactIfWasteful(int minBytes) throws IOException {
+        int used = position - FILE_HEADER_BYTES;
+        if (used < minBytes || liveBytes * 2 > used) return false;
+        compact(0);
+        return true;
+    }
+
+    /**
+     * 남은 공간이 headroom 보다 적으면 미리 compaction (죽은 레코드가 절반 이상) 또는 키우기. flush 스레드에서 호출.
+     * 이렇게 해 두면 방 mailbox 의 append 가 {@link #grow} 까지 가는 일이 거의 없다.
+     */
+    public synchronized boolean ensureHeadroom(int headroom) throws IOException {
+        if (capacity - position >= headroom) return false;
+        int used = position - FILE_HEADER_BYTES;
+        if (liveBytes * 2 <= used) {
+            compact(headroom);
+        } else {
+            grow(headroom);
+        }
+        return true;
+    }
+
+    // 같은 파일을 더 크게 다시 매핑한다 (파일 크기만 늘어남). 이전 매핑에 쓴 내용은 같은 페이지라 그대로 보인다
+    private void grow(int needed) throws IOException {
+        long required = (long) position + needed;
+        int newCapacity = capacity;
+        while (newCapacity < required) {
+            if (newCapacity > Integer.MAX_VALUE / 2) throw new IOException("Room snapshot log cannot grow to " + required + " bytes");
+            newCapacity *= 2;
+        }
+        retired.add(buffer);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newCapacity);
+        capacity = newCapacity;
+        growths++;
+        System.out.println("--- [ROOM SNAPSHOT] Log grown to " + newCapacity + " bytes ---");
+    }
+
+    /**
+     * 살아 있는 레코드만 새 파일로 복사하고 교체한다. 여유 공간이 reserve 이상 남도록 필요하면 파일을 키운다.
+     * 새 파일은 매핑하지 않고 채널로 써서 fsync 한 뒤 닫고, 기존 매핑을 모두 해제한 다음 바꿔치기한다. (Windows 는 매핑된 파일을 옮길 수 없음)
+     */
+    public synchronized void compact(int reserve) throws IOException {
+        long required = FILE_HEADER_BYTES + liveBytes + reserve;
+        int newCapacity = capacity;
+        while (newCapacity < required * 2 && newCapacity < Integer.MAX_VALUE / 2) {
+            newCapacity *= 2;
+        }
+        if (required > newCapacity) throw new IOException("Room snapshot log cannot grow to " + required + " bytes");
+
+        // 새 오프셋은 index 순서대로 모아 두고, 파일 교체가 끝난 뒤에 반영한다 (실패하면 기존 파일 그대로)
+        ByteBuffer image = ByteBuffer.allocate((int) (FILE_HEADER_BYTES + liveBytes));
+        image.putInt(MAGIC).putInt(VERSION);
+        int[] newOffsets = new int[liveRecordCount()];
+        int n = 0;
+        for (RoomEntry entry : index.values()) {
+            if (entry.stateOffset >= 0) newOffsets[n++] = copyRecord(image, entry.stateOffset);
+            for (int i = 0; i < entry.wordCount; i++) {
+                newOffsets[n++] = copyRecord(image, entry.wordOffsets[i]);
+            }
+        }
+        int newPosition = image.position();
+        image.flip();
+
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        Files.deleteIfExists(temp);
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (image.hasRemaining()) {
+                out.write(image);
+            }
+            out.force(true);
+        }
+
+        int oldPosition = position;
+        channel.close();
+        unmapAll();
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            map(path, capacity); // 기존 파일로 계속
+            throw e;
+        }
+        map(path, newCapacity);
+        n = 0;
+        for (RoomEntry entry : index.values()) {
+            if (entry.stateOffset >= 0) entry.stateOffset = newOffsets[n++];
+            for (int i = 0; i < entry.wordCount; i++) {
+                entry.wordOffsets[i] = newOffsets[n++];
+            }
+        }
+        position = newPosition;
+        dirty = false;
+        compactions++;
+        System.out.println("--- [ROOM SNAPSHOT] Compacted: " + oldPosition + " -> " + position + " bytes, rooms "
+                + index.size() + ", capacity " + capacity + " ---");
+    }
+
+    private int liveRecordCount() {
+        int count = 0;
+        for (RoomEntry entry : index.values()) {
+            if (entry.stateOffset >= 0) count++;
+            count += entry.wordCount;
+        }
+        return count;
+    }
+
+    // buffer 의 레코드를 image 끝에 복사하고 image 안에서의 오프셋을 돌려준다
+    private int copyRecord(ByteBuffer image, int offset) {
+        int size = recordSize(offset);
+        int newOffset = image.position();
+        image.put(newOffset, buffer, offset, size);
+        image.position(newOffset + size);
+        return newOffset;
+    }
+
+    private void unmapAll() {
+        unmap(buffer);
+        for (MappedByteBuffer old : retired) {
+            unmap(old);
+        }
+        retired.clear();
+        buffer = null;
+    }
+
+    // 매핑을 즉시 해제한다. 해제한 버퍼에 접근하면 JVM 이 죽으므로 더 이상 참조가 없을 때만 부른다.
+    // (force 는 flush 스레드에서만 버퍼를 잠금 밖에서 쓰고, compaction 도 flush 스레드에서 돈다)
+    private static void unmap(MappedByteBuffer mapped) {
+        if (mapped == null || UNMAPPER == null) return;
+        try {
+            UNMAPPER.invokeExact((ByteBuffer) mapped);
+        } catch (Throwable e) {
+            System.err.println("!!! [ROOM SNAPSHOT] Unmap failed: " + e.getMessage());
+        }
+    }
+
+    private static MethodHandle unmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private int recordSize(int offset) {
+        return RECORD_HEADER_BYTES + buffer.getInt(offset);
+    }
+
+    private long entryBytes(RoomEntry entry) {
+        long bytes = entry.stateOffset >= 0 ? recordSize(entry.stateOffset) : 0;
+        for (int i = 0; i < entry.wordCount; i++) {
+            bytes += recordSize(entry.wordOffsets[i]);
+        }
+        return bytes;
+    }
+
+    /** 로그에 살아 있는 방들의 상태 (기동 시 복구용) */
+    public synchronized List<RoomSnapshot> rooms() throws IOException {
+        List<RoomSnapshot> rooms = new ArrayList<>();
+        for (RoomEntry entry : index.values()) {
+            if (entry.stateOffset < 0) continue; // STATE 없이 단어만 남은 방은 복구할 수 없음
+            List<String> words = new ArrayList<>(entry.wordCount);
+            for (int i = 0; i < entry.wordCount; i++) {
+                DataInputStream in = read(entry.wordOffsets[i]);
+                in.readByte();
+                in.readUTF();
+                words.add(in.readUTF());
+            }
+            rooms.add(readState(read(entry.stateOffset), words));
+        }
+        return rooms;
+    }
+
+    private DataInputStream read(int offset) {
+        byte[] body = new byte[buffer.getInt(offset)];
+        buffer.get(offset + RECORD_HEADER_BYTES, body);
+        return new DataInputStream(new ByteArrayInputStream(body));
+    }
+
+    private static RoomSnapshot readState(DataInputStream in, List<String> words) throws IOException {
+        in.readByte();
+        String roomId = in.readUTF();
+        String gameId = in.readUTF();
+        int journalSeq = in.readInt();
+        String roomName = in.readUTF();
+        int maxPlayers = in.readInt();
+        int botCount = in.readInt();
+        String botDifficulty = in.readUTF();
+        int currentTurnIndex = in.readInt();
+        String lastWord = in.readBoolean() ? in.readUTF() : null;
+        int playerCount = in.readInt();
+        List<RoomSnapshot.Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new RoomSnapshot.Player(in.readUTF(), in.readUTF()));
+        }
+        int failureCount = in.readInt();
+        Map<String, Integer> failures = new HashMap<>();
+        for (int i = 0; i < failureCount; i++) {
+            failures.put(in.readUTF(), in.readInt());
+        }
+        return new RoomSnapshot(roomId, gameId.isEmpty() ? null : gameId, journalSeq, roomName, maxPlayers, botCount, botDifficulty, currentTurnIndex, lastWord,
+                players, failures, words);
+    }
+
+    public synchronized int roomCount() {
+        return index.size();
+    }
+
+    /** 파일에서 쓰인 바이트 (헤더 포함) */
+    public synchronized int position() {
+        return position;
+    }
+
+    public synchronized long liveBytes() {
+        return liveBytes;
+    }
+
+    public synchronized int compactionCount() {
+        return compactions;
+    }
+
+    /** append 중에 공간이 모자라 키운 횟수 포함, 파일을 키운 횟수 */
+    public synchronized int growthCount() {
+        return growths;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        force();
+        channel.close();
+        lockChannel.close(); // 잠금 해제
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.persistence;
+
+import com.example.demo.DTO.GameRoom;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 방 상태 스냅샷 저장 (재시작/배포 후 진행 중인 게임 복구용).
+ *
+ * GameRoomService 가 방 mailbox 안에서 상태가 바뀔 때마다 {@link #roomChanged}, {@link #wordUsed} 를 부른다.
+ * 쓰기는 {@link RoomSnapshotLog} 의 매핑된 버퍼에 복사만 하고,
+ * 디스크 반영(fsync)은 전용 스레드에서 flush-interval 마다 한 번씩 묶어서 한다. → 턴 처리 경로에는 디스크 I/O 가 없다.
+ * (공용 taskScheduler 는 스레드 1개라 느린 fsync 가 봇 타이머를 밀지 않도록 따로 둔다)
+ * 장애 시 최대 flush-interval 만큼의 최근 변경을 잃을 수 있다.
+ *
+ * kkutu.snapshot.path 가 비어 있으면 아무것도 하지 않는다.
+ */
+@Component
+public class RoomSnapshotService {
+
+    private final TaskScheduler taskScheduler;
+
+    // 비워두면 스냅샷 사용 안 함 (예: ./data/room-snapshots.log)
+    @Value("${kkutu.snapshot.path:}")
+    private String snapshotPath;
+
+    @Value("${kkutu.snapshot.initial-capacity-bytes:8388608}")
+    private int initialCapacity = 8 * 1024 * 1024;
+
+    @Value("${kkutu.snapshot.flush-interval-ms:200}")
+    private long flushIntervalMillis = 200;
+
+    @Value("${kkutu.snapshot.compact-interval-ms:60000}")
+    private long compactIntervalMillis = 60_000;
+
+    // 복구된 방에서 원래 플레이어가 다시 들어오기를 기다리는 시간
+    @Value("${kkutu.snapshot.rejoin-grace-ms:60000}")
+    private long rejoinGraceMillis = 60_000;
+
+    private volatile RoomSnapshotLog log;
+    private ScheduledExecutorService flusher;
+    private List<RoomSnapshot> recovered = List.of();
+
+    private final LongAdder appends = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public RoomSnapshotService(@Qualifier("taskScheduler") TaskScheduler taskScheduler) {
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (snapshotPath == null || snapshotPath.isBlank()) return;
+        Path path = Path.of(snapshotPath);
+        try {
+            long startNanos = System.nanoTime();
+            RoomSnapshotLog opened = RoomSnapshotLog.open(path, initialCapacity);
+            recovered = opened.rooms();
+            log = opened;
+            System.out.println("--- [ROOM SNAPSHOT] Log opened: " + path.toAbsolutePath() + ", rooms " + recovered.size()
+                    + ", bytes " + opened.position() + ", took " + (System.nanoTime() - startNanos) / 1_000_000 + "ms ---");
+        } catch (Exception e) {
+            System.err.println("!!! [ROOM SNAPSHOT] Failed to open log, snapshots disabled: " + e.getMessage());
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-snapshot-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleAtFixedRate(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        flusher.scheduleAtFixedRate(this::compactIfWasteful, compactIntervalMillis, compactIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        RoomSnapshotLog current = log;
+        if (current == null) return;
+        log = null;
+        flusher.shutdown();
+        try {
+            current.close();
+        } catch (Exception e) {
+            System.err.println("!!! [ROOM SNAPSHOT] Failed to close log: " + e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return log != null;
+    }
+
+    /** 기동 시 로그에서 읽은 방들 (한 번만 돌려준다) */
+    public synchronized List<RoomSnapshot> takeRecovered() {
+        List<RoomSnapshot> rooms = recovered;
+        recovered = List.of();
+        return rooms;
+    }
+
+    /** 방 상태(사용 단어 제외)가 바뀜. 방 mailbox 안에서 호출 */
+    public void roomChanged(GameRoom room) {
+        RoomSnapshotLog current = log;
+        if (current == null || room == null) return;
+        try {
+            current.appendState(room);
+            appends.increment();
+        } catch (Exception e) {
+            failures.increment();
+            System.err.println("!!! [ROOM SNAPSHOT] State write failed for room " + room.getRoomId() + ": " + e.getMessage());
+        }
+    }
+
+    /** 방에서 단어가 새로 쓰임. 방 mailbox 안에서 호출 */
+    public void wordUsed(String roomId, String word) {
+        RoomSnapshotLog current = log;
+        if (current == null) return;
+        try {
+            current.appendWord(roomId, word);
+            appends.increment();
+        } catch (Exception e) {
+            failures.increment();
+            System.err.println("!!! [ROOM SNAPSHOT] Word write failed for room " + roomId + ": " + e.getMessage());
+        }
+    }
+
+    public void roomRemoved(String roomId) {
+        RoomSnapshotLog current = log;
+        if (current == null) return;
+        try {
+            current.appendRemoved(roomId);
+            appends.increment();
+        } catch (Exception e) {
+            failures.increment();
+            System.err.println("!!! [ROOM SNAPSHOT] Remove write failed for room " + roomId + ": " + e.getMessage());
+        }
+    }
+
+    /** 복구된 방의 재입장 유예 시간이 지나면 task 실행 */
+    public void afterRejoinGrace(Runnable task) {
+        taskScheduler.schedule(task, Instant.now().plusMillis(rejoinGraceMillis));
+    }
+
+    private void flush() {
+        RoomSnapshotLog current = log;
+        if (current == null) return;
+        try {
+            if (current.force()) flushes.increment();
+            // 파일이 차기 전에 여기서 compaction/키우기 → 방 mailbox 의 append 는 메모리 복사만
+            current.ensureHeadroom(initialCapacity / 4);
+        } catch (Exception e) {
+            failures.increment();
+            System.err.println("!!! [ROOM SNAPSHOT] Flush failed: " + e.getMessage());
+        }
+    }
+
+    private void compactIfWasteful() {
+        RoomSnapshotLog current = log;
+        if (current == null) return;
+        try {
+            current.compactIfWasteful(initialCapacity / 4);
+        } catch (Exception e) {
+            failures.increment();
+            System.err.println("!!! [ROOM SNAPSHOT] Compaction failed: " + e.getMessage());
+        }
+    }
+
+    public long getAppendCount() {
+        return appends.sum();
+    }
+
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.demo.service;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 국어원 호출용 서킷 브레이커 (CLOSED → OPEN → HALF_OPEN → CLOSED).
+ *
+ * - CLOSED: 최근 windowSize 개 호출 중 실패(에러/타임아웃) 비율이나 느린 호출 비율이 기준을 넘으면 OPEN.
+ *   (호출이 minimumCalls 개 모이기 전에는 판단하지 않음)
+ * - OPEN: openDuration 동안 호출을 보내지 않는다. ({@link #tryAcquire()} = false → 호출자가 대체 경로 사용)
+ * - HALF_OPEN: 시험 호출 halfOpenCalls 개만 보내서 모두 성공하면 CLOSED, 하나라도 실패/느리면 다시 OPEN.
+ * 호출 빈도가 낮아 (캐시 miss 만 온다) 상태 변경은 synchronized 로 충분하다. 상태 읽기는 락 없음.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (ring buffer)
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenStarted;
+    private int halfOpenSucceeded;
+
+    private final LongAdder notPermitted = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    /**
+     * @param failureRateThreshold  0~1, 이 비율 이상 실패하면 OPEN
+     * @param slowCallRateThreshold 0~1, 이 비율 이상 slowCallMillis 보다 느리면 OPEN
+     */
+    CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                   double slowCallRateThreshold, long slowCallMillis, long openMillis, int halfOpenCalls) {
+        this.name = name;
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.failed = new boolean[this.windowSize];
+        this.slow = new boolean[this.windowSize];
+    }
+
+    /**
+     * 호출해도 되는지. true 를 받았으면 반드시 {@link #onSuccess}/{@link #onFailure}/{@link #release} 중 하나를 불러야 한다.
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                notPermitted.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenStarted >= halfOpenCalls) {
+                notPermitted.increment();
+                return false;
+            }
+            halfOpenStarted++;
+        }
+        return true;
+    }
+
+    /** 응답을 받은 호출 (느리면 느린 호출로 센다) */
+    synchronized void onSuccess(long nanos) {
+        boolean isSlow = nanos >= slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            if (isSlow) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) record(false, isSlow);
+    }
+
+    /** 에러 / 타임아웃 */
+    synchronized void onFailure(long nanos) {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) record(true, nanos >= slowCallNanos);
+    }
+
+    /** 결과 없이 끝난 호출 (취소) - 시험 호출 자리만 돌려준다 */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenStarted > 0) halfOpenStarted--;
+    }
+
+    private void record(boolean isFailure, boolean isSlow) {
+        if (recorded == windowSize) {
+            if (failed[next]) failures--;
+            if (slow[next]) slowCalls--;
+        } else {
+            recorded++;
+        }
+        failed[next] = isFailure;
+        slow[next] = isSlow;
+        if (isFailure) failures++;
+        if (isSlow) slowCalls++;
+        next = (next + 1) % windowSize;
+
+        if (recorded < minimumCalls) return;
+        double failureRate = (double) failures / recorded;
+        double slowRate = (double) slowCalls / recorded;
+        if (failureRate >= failureRateThreshold || slowRate >= slowCallRateThreshold) {
+            System.err.println("!!! [CIRCUIT " + name + "] Opening: failure rate " + Math.round(failureRate * 100)
+                    + "%, slow rate " + Math.round(slowRate * 100) + "% over " + recorded + " calls");
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State target) {
+        if (state == target) return;
+        state = target;
+        switch (target) {
+            case OPEN -> {
+                openedAt = System.nanoTime();
+                opened.increment();
+            }
+            case HALF_OPEN -> {
+                halfOpenStarted = 0;
+                halfOpenSucceeded = 0;
+            }
+            case CLOSED -> {
+                next = 0;
+                recorded = 0;
+                failures = 0;
+                slowCalls = 0;
+                Arrays.fill(failed, false);
+                Arrays.fill(slow, false);
+            }
+        }
+        System.out.println("--- [CIRCUIT " + name + "] " + target + " ---");
+    }
+
+    State state() {
+        return state;
+    }
+
+    /** OPEN/HALF_OPEN 이라 호출하지 않은 수 */
+    long getNotPermittedCount() {
+        return notPermitted.sum();
+    }
+
+    /** OPEN 으로 바뀐 횟수 */
+    long getOpenedCount() {
+        return opened.sum();
+    }
+}
@@ -1,18 +1,36 @@
 package com.example.demo.service; // 패키지 확인
 
+import com.example.demo.DTO.GameEvent;
 import com.example.demo.DTO.GameRoom;
+import com.example.demo.DTO.RoomInfoDTO;
+import com.example.demo.Event.LobbyRoomEvent;
 import com.example.demo.Event.TurnSuccessEvent;
+import com.example.demo.bots.BotDifficulty;
+import com.example.demo.bots.BotPosition;
+import com.example.demo.dictionary.DeadEndDetector;
+import com.example.demo.dictionary.HangulRules;
+import com.example.demo.dictionary.UsedWordSet;
+import com.example.demo.dictionary.WordDictionary;
+import com.example.demo.journal.GameJournal;
+import com.example.demo.journal.JournalEvent;
+import com.example.demo.metrics.GameMetrics;
+import com.example.demo.timer.TimingWheel;
+import com.example.demo.persistence.RoomSnapshot;
+import com.example.demo.persistence.RoomSnapshotService;
 import com.example.demo.service.KoreanApiService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.PropertySource;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Pattern;
 
 
@@ -20,40 +38,183 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class GameRoomService {
 
-    private final Map<String, GameRoom> activeGameRooms = new ConcurrentHashMap<>();
     private final ApplicationEventPublisher eventPublisher;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomBroadcaster roomBroadcaster;
     private final KoreanApiService koreanApiService;
+    private final RoomExecutor roomExecutor;
+    private final GameMetrics gameMetrics;
+    private final WordDictionary wordDictionary;
+    private final DeadEndDetector deadEndDetector;
+    private final RoomStore roomStore; // 이 노드가 소유한 방들 (단일 노드 / 샤딩)
+    private final RoomSnapshotService roomSnapshots; // 재시작 복구용 방 상태 로그
+    private final GameJournal gameJournal; // 게임 기록 (비동기 DB 배치 쓰기)
+    private final TimingWheel timingWheel; // 턴 시간 제한 / 방치된 방 정리
     private static final int MAX_FAILURES = 3;
-    private static final Pattern VALID_WORD_PATTERN = Pattern.compile("^[가-힣]{2,}$");
 
+    // 사람 플레이어의 턴 시간 제한 (넘기면 탈락, 0: 사용 안 함)
+    @Value("${kkutu.rules.turn-timeout-ms:30000}")
+    private long turnTimeoutMillis = 30_000;
+
+    // 이 시간 동안 아무 활동이 없는 방은 닫는다 (0: 사용 안 함)
+    @Value("${kkutu.rooms.idle-timeout-ms:600000}")
+    private long idleTimeoutMillis = 600_000;
+    private static final Pattern VALID_WORD_PATTERN = Pattern.compile("^[가-힣]{2,}$");
 
-    private List<String> finishingWords = new ArrayList<>(List.of("늄", "륨", "뮴", "쁨", "슭", "걀", "녁"));
 
     @PostConstruct
     public void init() {
-        System.out.println("Finishing words loaded: " + finishingWords);
+        System.out.println("Dead-end detection: dictionary words " + wordDictionary.size() + ", threshold " + deadEndDetector.getThreshold()
+                + " (fallback list: " + HangulRules.DEFAULT_FINISHING + ")");
     }
 
     // --- 방 생성 메소드 (변경 없음) ---
     public GameRoom createRoom(String roomName, int maxPlayers, int botCount) {
-        String roomId = UUID.randomUUID().toString().substring(0, 8);
+        return createRoom(roomName, maxPlayers, botCount, BotDifficulty.NORMAL);
+    }
+
+    public GameRoom createRoom(String roomName, int maxPlayers, int botCount, BotDifficulty botDifficulty) {
+        return createRoom(newRoomId(), roomName, maxPlayers, botCount, botDifficulty);
+    }
+
+    /** roomId 를 미리 정해서 생성 (샤딩 모드에서 소유 노드로 전달된 생성 요청) */
+    public GameRoom createRoom(String roomId, String roomName, int maxPlayers, int botCount, BotDifficulty botDifficulty) {
         GameRoom newRoom = new GameRoom(roomId, roomName, maxPlayers, botCount);
-        activeGameRooms.put(roomId, newRoom);
+        newRoom.setGameId(UUID.randomUUID().toString());
+        newRoom.setUsedWords(new UsedWordSet(wordDictionary.snapshot()));
+        newRoom.setBotDifficulty(BotDifficulty.orDefault(botDifficulty));
+        roomExecutor.register(roomId);
+        roomStore.put(newRoom);
+        roomSnapshots.roomChanged(newRoom);
+        publishLobby(newRoom);
+        scheduleIdleCheck(roomId, idleTimeoutMillis);
         System.out.println("--- [ROOM CREATED] ID: " + roomId + ", Name: " + roomName + " ---");
         return newRoom;
     }
 
+    /**
+     * 기동 시 스냅샷 로그의 방들을 되살린다. (모든 빈과 리스너가 준비된 뒤 ApplicationReadyEvent 에서)
+     * 원래 플레이어는 rejoin-grace 동안 자리를 유지하고, 그 안에 다시 들어오지 않으면 퇴장 처리한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreRooms() {
+        List<RoomSnapshot> snapshots = roomSnapshots.takeRecovered();
+        int restored = 0;
+        for (RoomSnapshot snapshot : snapshots) {
+            String roomId = snapshot.getRoomId();
+            // 클러스터 구성이 바뀌어 다른 노드 소유가 된 방, 이미 있는 방은 버린다
+            if (!roomStore.isOwnedHere(roomId) || roomStore.get(roomId) != null || snapshot.getPlayers().isEmpty()) {
+                roomSnapshots.roomRemoved(roomId);
+                continue;
+            }
+            GameRoom room = restoreRoom(snapshot);
+            roomExecutor.register(roomId);
+            roomStore.put(room);
+            publishLobby(room);
+            scheduleIdleCheck(roomId, idleTimeoutMillis);
+            restored++;
+            // 봇 차례인 방도 첫 플레이어가 돌아올 때까지 멈춰 둔다 (addPlayerInRoom 의 재입장 처리)
+            roomSnapshots.afterRejoinGrace(() -> roomExecutor.execute(roomId, () -> dropAbsentPlayers(roomId)));
+        }
+        if (!snapshots.isEmpty()) {
+            System.out.println("--- [ROOM RESTORE] Restored " + restored + "/" + snapshots.size() + " rooms from snapshot log ---");
+        }
+    }
+
+    private GameRoom restoreRoom(RoomSnapshot snapshot) {
+        GameRoom room = new GameRoom(snapshot.getRoomId(), snapshot.getRoomName(), snapshot.getMaxPlayers(), 0);
+        room.setGameId(snapshot.getGameId() != null ? snapshot.getGameId() : UUID.randomUUID().toString());
+        room.setJournalSeq(snapshot.getJournalSeq());
+        room.setBotCount(snapshot.getBotCount());
+        room.setBotDifficulty(parseDifficulty(snapshot.getBotDifficulty()));
+        for (RoomSnapshot.Player player : snapshot.getPlayers()) {
+            GameRoom.PlayerInfo info = new GameRoom.PlayerInfo(player.getUid(), player.getNickname());
+            room.getPlayers().add(info);
+            if (!info.isBot()) room.getAwaitingRejoin().add(info.getUid());
+        }
+        room.getFailureCounts().putAll(snapshot.getFailureCounts());
+        room.setCurrentTurnIndex(Math.min(Math.max(snapshot.getCurrentTurnIndex(), 0), room.getPlayers().size() - 1));
+        room.setLastWord(snapshot.getLastWord());
+        // 단어는 문자열로 저장되어 있으므로 지금 사전 기준 id 로 다시 묶는다
+        UsedWordSet usedWords = new UsedWordSet(wordDictionary.snapshot());
+        snapshot.getUsedWords().forEach(usedWords::add);
+        room.setUsedWords(usedWords);
+        return room;
+    }
+
+    private static BotDifficulty parseDifficulty(String name) {
+        try {
+            return BotDifficulty.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return BotDifficulty.NORMAL;
+        }
+    }
+
+    // 재입장 유예가 끝났는데 돌아오지 않은 플레이어는 연결 종료와 똑같이 처리
+    private void dropAbsentPlayers(String roomId) {
+        GameRoom room = roomStore.get(roomId);
+        if (room == null || room.getAwaitingRejoin().isEmpty()) return;
+        for (String uid : new ArrayList<>(room.getAwaitingRejoin())) {
+            room.getAwaitingRejoin().remove(uid);
+            System.out.println("--- [ROOM RESTORE] Player did not rejoin in time: " + uid + " (room " + roomId + ")");
+            disconnectPlayerInRoom(roomId, uid);
+        }
+    }
+
     // --- [!!!] `addPlayerToRoom` 시그니처 및 로직 변경 (String 반환) ---
     /**
+     * 방 mailbox 에서 입장 처리 후 결과를 돌려준다.
      * @return String "SUCCESS" 또는 에러 코드 (e.g., "NICKNAME_DUPLICATE")
      */
-    public String addPlayerToRoom(String roomId, String uid, String nickname) {
-        GameRoom room = activeGameRooms.get(roomId);
+    public CompletableFuture<String> addPlayerToRoom(String roomId, String uid, String nickname) {
+        return addPlayerToRoom(roomId, uid, nickname, null);
+    }
+
+    /**
+     * 입장에 성공하면 (SUCCESS / RESUMED) onSeated 를 같은 mailbox 작업 안에서 실행한다.
+     * (세션 연결을 입장과 같은 작업에서 해야, 그 사이에 재접속 유예가 끝나 나중에 들어온 퇴장 작업이 자리를 지우지 않는다)
+     */
+    public CompletableFuture<String> addPlayerToRoom(String roomId, String uid, String nickname, Runnable onSeated) {
+        return roomExecutor.submit(roomId, () -> {
+            String result = addPlayerInRoom(roomId, uid, nickname);
+            if (onSeated != null && (result.equals("SUCCESS") || result.equals("RESUMED"))) onSeated.run();
+            return result;
+        }, "ROOM_NOT_FOUND");
+    }
+
+    private String addPlayerInRoom(String roomId, String uid, String nickname) {
+        GameRoom room = roomStore.get(roomId);
         if (room == null) {
             return "ROOM_NOT_FOUND"; // [!!!] String 반환
         }
 
+        // 스냅샷에서 복구된 방의 원래 플레이어: 자리 그대로 이어서 진행
+        if (room.getAwaitingRejoin().remove(uid)) {
+            GameRoom.PlayerInfo player = room.getPlayerByUid(uid);
+            if (nickname != null && !nickname.isBlank()) player.setNickname(nickname);
+            System.out.println("--- [ROOM RESTORE] Player rejoined: " + player.getNickname() + " (room " + roomId + ")");
+            roomBroadcaster.publish(roomId, GameEvent.playerJoined(player.getNickname(), room.getPlayers().size(), room.getMaxPlayers()));
+            GameRoom.PlayerInfo current = room.getCurrentPlayer();
+            if (current != null) {
+                startTurn(room);
+                roomBroadcaster.publish(roomId, GameEvent.restartTurn(current.getNickname()));
+                // 봇 차례에서 멈춰 있던 방은 첫 플레이어가 돌아오면 다시 움직인다
+                if (current.isBot() && room.getAwaitingRejoin().size() == room.getPlayers().size() - room.getBotCount() - 1) {
+                    eventPublisher.publishEvent(new TurnSuccessEvent(this, roomId, current.getUid(), room.getLastWord()));
+                }
+            }
+            roomSnapshots.roomChanged(room);
+            publishLobby(room);
+            return "SUCCESS";
+        }
+
+        // 이미 앉아 있는 uid (재접속 유예 중이거나, 끊김이 감지되기 전에 새 연결로 들어옴): 자리를 그대로 이어 쓴다
+        // 다른 플레이어에게는 바뀐 것이 없으므로 방송하지 않는다. 상태는 roomState 로 본인에게만 보낸다
+        if (room.getPlayerByUid(uid) != null) {
+            room.setLastActivityAt(System.currentTimeMillis());
+            System.out.println("--- [SESSION] Player resumed seat: " + room.getNicknameByUid(uid) + " (room " + roomId + ")");
+            return "RESUMED";
+        }
+
         // --- [!!!] 중복 검사 로직 (Controller가 에러를 보낼 수 있도록) ---
         if (room.getPlayers().size() >= room.getMaxPlayers()) {
             return "ROOM_FULL"; // [!!!] String 반환
@@ -69,23 +230,20 @@ public class GameRoomService {
         boolean success = room.addPlayer(uid, nickname);
 
         if (success) {
-            // 성공 방송 (변경 없음)
-            messagingTemplate.convertAndSend("/topic/game-room/" + roomId,
-                    "새로운 유저 입장: " + nickname + " (현재 인원: " + room.getPlayers().size() + "/" + room.getMaxPlayers() + ")");
+            gameJournal.record(room, JournalEvent.Type.PLAYER_JOINED, uid, null, null);
+            // 성공 방송
+            roomBroadcaster.publish(roomId, GameEvent.playerJoined(nickname, room.getPlayers().size(), room.getMaxPlayers()));
 
             if (room.getPlayers().size() - room.getBotCount() == 1) {
                 String firstPlayerNickname = room.getCurrentPlayer().getNickname();
 
-                // 1. 텍스트 메시지 전송 (채팅창 표시용)
-                messagingTemplate.convertAndSend("/topic/game-room/" + roomId,
-                        "게임 시작! 첫 턴은 " + firstPlayerNickname + "님입니다.");
-
-                // 2. [추가] JSON 신호 전송 (클라이언트 로직용) -> 이 부분이 있으면 game.js가 텍스트 해석 안 해도 됨
-                Map<String, String> startSignal = new HashMap<>();
-                startSignal.put("type", "TURN_CHANGE");
-                startSignal.put("nextPlayer", firstPlayerNickname);
-                messagingTemplate.convertAndSend("/topic/game-room/" + roomId, startSignal);
+                // 게임 시작 + 첫 턴 (GAME_START 하나로 전송, game.js 가 텍스트 해석할 필요 없음)
+                roomBroadcaster.publish(roomId, GameEvent.gameStart(firstPlayerNickname));
+                startTurn(room);
             }
+            room.setLastActivityAt(System.currentTimeMillis());
+            roomSnapshots.roomChanged(room);
+            publishLobby(room);
             return "SUCCESS"; // [!!!] String 반환
         } else {
             // (이론상 여기에 도달하면 안 됨, GameRoom.java의 검사와 중복되기 때문)
@@ -95,46 +253,93 @@ public class GameRoomService {
 
 
     // --- `validateWordSynchronously` 시그니처 변경 (uid) ---
+    /**
+     * 블로킹 검증 (봇 워커 스레드 전용). 방 규칙 검사는 방 mailbox 에서 수행한다.
+     * 방 mailbox 작업 안에서 호출하면 교착되므로 호출 금지.
+     */
     public Map<String, Object> validateWordSynchronously(String roomId, String word, String uid) {
-        GameRoom room = activeGameRooms.get(roomId);
+        // 방 규칙 검사 (패턴, 한방 단어, 끝말 규칙, 중복) - 실패 시 API 호출 없음
+        boolean rulesPass = roomExecutor.submit(roomId, () -> checkRoomRules(roomStore.get(roomId), word), false).join();
+        if (!rulesPass) {
+            return failResult(); // [!!!] HashMap 반환
+        }
 
-        // [!!!] HashMap 사용으로 변경 (null 허용) ---
-        Map<String, Object> failResult = new HashMap<>();
-        failResult.put("isValid", false);
-        failResult.put("definition", null);
-        // --- [!!!] ---
+        // API 호출 (이제 Map 반환)
+        long apiStart = System.nanoTime();
+        Map<String, Object> apiResult = koreanApiService.validateWord(word);
+        gameMetrics.recordValidationStage(GameMetrics.STAGE_DICTIONARY_API, System.nanoTime() - apiStart);
+        logApiOutcome(apiResult, word, uid);
+        return apiResult; // apiResult는 null 값을 포함할 수 있는 HashMap임
+    }
+
+    /**
+     * 봇 탐색용 국면: 방 mailbox 에서 마지막 단어와 사용 단어 복사본을 뜬다.
+     * @return 봇 차례가 아니거나 방이 없으면 null
+     */
+    public CompletableFuture<BotPosition> botPosition(String roomId, String uid) {
+        return roomExecutor.submit(roomId, () -> {
+            GameRoom room = roomStore.get(roomId);
+            if (!isCurrentTurn(room, uid)) return null;
+            return new BotPosition(room.getLastWord(), room.getUsedWords().copy(), room.getBotDifficulty());
+        }, null);
+    }
 
-        // 기본 검사 실패 시
+    /**
+     * 봇 전용 빠른 경로: 사전에서 뽑은 후보 중 방 규칙(끝말/두음법칙, 한방 단어, 중복)을 통과하는 첫 단어를 고른다.
+     * 사전 출처 단어는 신뢰하므로 국어원 API 를 호출하지 않는다. (방 mailbox 에서 메모리 검사만 수행)
+     * @return 고른 단어, 봇 차례가 아니거나 통과한 후보가 없으면 null
+     */
+    public CompletableFuture<String> pickBotWord(String roomId, String uid, List<String> candidates) {
+        return roomExecutor.submit(roomId, () -> {
+            GameRoom room = roomStore.get(roomId);
+            if (!isCurrentTurn(room, uid)) return null;
+            for (String candidate : candidates) {
+                if (checkRoomRules(room, candidate)) return candidate;
+            }
+            return null;
+        }, null);
+    }
+
+    // 방 규칙 검사 (API 호출 전 단계)
+    private boolean checkRoomRules(GameRoom room, String word) {
+        // [pattern] 기본 검사 실패 시
+        long stageStart = System.nanoTime();
         if (room == null || word == null || word.isEmpty()) {
             System.out.println("--- [SYNC VALIDATE FAIL] Word: [" + word + "] - Room not found or word is empty");
-            return failResult; // [!!!] HashMap 반환
+            return false;
         }
-        if (!VALID_WORD_PATTERN.matcher(word).matches()) {
+        boolean patternPass = VALID_WORD_PATTERN.matcher(word).matches();
+        gameMetrics.recordValidationStage(GameMetrics.STAGE_PATTERN, System.nanoTime() - stageStart);
+        if (!patternPass) {
             System.out.println("--- [SYNC VALIDATE FAIL] Word: [" + word + "] - Invalid pattern");
-            return failResult; // [!!!] HashMap 반환
+            return false;
         }
-        // 한방 단어 방지
-        if (finishingWords != null && finishingWords.stream().anyMatch(word::endsWith)) {
-            System.out.println("--- [SYNC VALIDATE FAIL] Word: [" + word + "] - Ends with a forbidden character. Forbidden list: " + finishingWords);
-            return failResult;
+
+        // [rules] 한방 단어 방지 (남은 단어 수 기준) + 끝말 규칙
+        stageStart = System.nanoTime();
+        if (deadEndDetector.isDeadEnd(room.getUsedWords(), word)) {
+            System.out.println("--- [SYNC VALIDATE FAIL] Word: [" + word + "] - Dead-end ending (remaining after '"
+                    + HangulRules.lastCharOf(word) + "': " + deadEndDetector.remainingAfter(room.getUsedWords(), word) + ")");
+            return false;
         }
-        if (room.getLastWord() != null) {
-            String lastCharStr = room.getLastWord().substring(room.getLastWord().length() - 1);
-            String alternativeStartStr = getAlternativeStartChar(lastCharStr);
-            boolean rulePass = word.startsWith(lastCharStr) || (alternativeStartStr != null && word.startsWith(alternativeStartStr));
-            if (!rulePass) {
-                System.out.println("--- [SYNC VALIDATE FAIL] Word: [" + word + "] - Rule mismatch (Last: " + lastCharStr + ")");
-                return failResult; // [!!!] HashMap 반환
-            }
+        if (!HangulRules.chainsFrom(room.getLastWord(), word)) {
+            System.out.println("--- [SYNC VALIDATE FAIL] Word: [" + word + "] - Rule mismatch (Last: " + HangulRules.lastCharOf(room.getLastWord()) + ")");
+            return false;
         }
-        if (room.getUsedWords().contains(word)) {
+        gameMetrics.recordValidationStage(GameMetrics.STAGE_RULES, System.nanoTime() - stageStart);
+
+        // [used_word] 중복
+        stageStart = System.nanoTime();
+        boolean alreadyUsed = room.getUsedWords().contains(word);
+        gameMetrics.recordValidationStage(GameMetrics.STAGE_USED_WORD, System.nanoTime() - stageStart);
+        if (alreadyUsed) {
             System.out.println("--- [SYNC VALIDATE FAIL] Word: [" + word + "] - Already used");
-            return failResult; // [!!!] HashMap 반환
+            return false;
         }
+        return true;
+    }
 
-        // API 호출 (이제 Map 반환)
-        Map<String, Object> apiResult = koreanApiService.validateWord(word);
-
+    private void logApiOutcome(Map<String, Object> apiResult, String word, String uid) {
         if (!(Boolean) apiResult.getOrDefault("isValid", false)) {
             System.out.println("--- [SYNC VALIDATE FAIL] Word: [" + word + "] - Failed API validation");
             // apiResult는 이미 isValid=false, definition=null 또는 실제값 을 포함
@@ -142,12 +347,23 @@ public class GameRoomService {
             System.out.println("--- [SYNC VALIDATE SUCCESS] Word: [" + word + "] (User: " + uid + ")");
             // apiResult는 isValid=true, definition=실제값 을 포함
         }
-        return apiResult; // apiResult는 null 값을 포함할 수 있는 HashMap임
+    }
+
+    private static Map<String, Object> failResult() {
+        // [!!!] HashMap 사용 (null 허용) ---
+        Map<String, Object> failResult = new HashMap<>();
+        failResult.put("isValid", false);
+        failResult.put("definition", null);
+        return failResult;
     }
 
     // --- `handleWordSubmission` 시그니처 변경 (uid) ---
     public void handleWordSubmission(String roomId, String word, String uid, String definition) {
-        GameRoom room = activeGameRooms.get(roomId);
+        roomExecutor.execute(roomId, () -> submitBotWordInRoom(roomId, word, uid, definition));
+    }
+
+    private void submitBotWordInRoom(String roomId, String word, String uid, String definition) {
+        GameRoom room = roomStore.get(roomId);
         if (room == null) return;
 
         // 턴 체크
@@ -159,38 +375,81 @@ public class GameRoomService {
         if (room.getUsedWords().contains(word)) {
             System.err.println("!!! ERROR in handleWordSubmission - Word already used by BOT?: " + word);
             // 봇이 중복 제출하면 그냥 턴을 넘김
-            passTurn(roomId, uid);
+            passTurnInRoom(roomId, uid);
             return;
         }
 
         // [!!!] processValidationResult 호출 시 전달받은 definition 전달
         // (봇이 제출하는 단어는 AiPlayerService에서 이미 검증했으므로 isValid=true)
-        processValidationResult(roomId, uid, word, true, definition);
+        applyValidationResult(roomId, uid, word, true, definition, false);
     }
 
     // --- `handleSubmitFromPlayer` 시그니처 변경 (uid) ---
     public void handleSubmitFromPlayer(String roomId, String word, String uid) {
-        GameRoom room = activeGameRooms.get(roomId);
-        if (room == null || room.getCurrentPlayer() == null || !room.getCurrentPlayer().getUid().equals(uid)) {
-            System.err.println("!!! ERROR in handleSubmitFromPlayer - Room or Turn mismatch.");
-            return;
-        }
+        roomExecutor.execute(roomId, () -> {
+            GameRoom room = roomStore.get(roomId);
+            if (!isCurrentTurn(room, uid)) {
+                System.err.println("!!! ERROR in handleSubmitFromPlayer - Room or Turn mismatch.");
+                return;
+            }
+
+            // 방 규칙 검사는 mailbox 안에서 즉시, 국어원 API 는 비동기로.
+            // API 응답 콜백은 다시 방 mailbox 에 넣어서 processValidationResult 를 완료한다.
+            long apiStart = System.nanoTime();
+            Mono<Map<String, Object>> validation = checkRoomRules(room, word)
+                    ? koreanApiService.validateWordAsync(word).doOnNext(apiResult -> {
+                        gameMetrics.recordValidationStage(GameMetrics.STAGE_DICTIONARY_API, System.nanoTime() - apiStart);
+                        logApiOutcome(apiResult, word, uid);
+                    })
+                    : Mono.just(failResult());
+
+            validation.subscribe(
+                    validationResult -> applyAsyncValidation(roomId, uid, word,
+                            (Boolean) validationResult.getOrDefault("isValid", false),
+                            (String) validationResult.get("definition"), // 실패 시 null
+                            Boolean.TRUE.equals(validationResult.get("degraded"))),
+                    // 내부 오류 (dispatcher / 콜백 예외): 판정 불가로 보고 degraded 거부 → 실패 횟수에 넣지 않고 턴도 멈추지 않음
+                    error -> {
+                        System.err.println("!!! [ASYNC VALIDATE] Validation error for [" + word + "]: " + error);
+                        applyAsyncValidation(roomId, uid, word, false, null, true);
+                    });
+        });
+    }
 
-        // [!!!] 동기 검증 결과 (Map) 받기
-        Map<String, Object> validationResult = validateWordSynchronously(roomId, word, uid);
-        boolean isValid = (Boolean) validationResult.getOrDefault("isValid", false);
-        String definition = (String) validationResult.get("definition"); // 실패 시 null
+    // 비동기 검증 결과를 방 mailbox 에서 반영한다
+    private void applyAsyncValidation(String roomId, String uid, String word, boolean isValid, String definition,
+                                      boolean degraded) {
+        roomExecutor.execute(roomId, () -> {
+            // 검증 대기 중에 턴이 바뀌었으면 (중복 제출, 퇴장 등) 결과를 버린다
+            if (!isCurrentTurn(roomStore.get(roomId), uid)) {
+                System.err.println("!!! [ASYNC VALIDATE] Turn changed while validating [" + word + "], result dropped.");
+                return;
+            }
+            // [!!!] processValidationResult 호출 시 definition 전달
+            applyValidationResult(roomId, uid, word, isValid, definition, degraded);
+        });
+    }
 
-        // [!!!] processValidationResult 호출 시 definition 전달
-        processValidationResult(roomId, uid, word, isValid, definition);
+    private boolean isCurrentTurn(GameRoom room, String uid) {
+        return room != null && room.getCurrentPlayer() != null && room.getCurrentPlayer().getUid().equals(uid);
     }
 
     // --- `processValidationResult` 시그니처 변경 (uid) ---
     public void processValidationResult(String roomId, String uid, String word, boolean isValid, String definition) {
-        GameRoom room = activeGameRooms.get(roomId);
+        processValidationResult(roomId, uid, word, isValid, definition, false);
+    }
+
+    /** degraded: 국어원 장애로 로컬 사전에서 판정한 결과 (거부돼도 실패 횟수에 넣지 않음) */
+    public void processValidationResult(String roomId, String uid, String word, boolean isValid, String definition,
+                                        boolean degraded) {
+        roomExecutor.execute(roomId, () -> applyValidationResult(roomId, uid, word, isValid, definition, degraded));
+    }
+
+    private void applyValidationResult(String roomId, String uid, String word, boolean isValid, String definition,
+                                       boolean degraded) {
+        GameRoom room = roomStore.get(roomId);
         if (room == null) return;
 
-        String topic = "/topic/game-room/" + roomId;
         String nickname = room.getNicknameByUid(uid);
 
         if (isValid) {
@@ -202,24 +461,21 @@ public class GameRoomService {
             room.getUsedWords().add(word);
             room.setLastWord(word); // 현재 단어를 다음을 위해 저장
 
-            // 새 메시지 생성
-            String successMessage = (previousWord != null ? previousWord + " -> " : "") +
-                    word + " (성공! 뜻: " + (definition != null ? definition : "정보 없음") + ")";
-
-            // [!!!] 변경된 메시지 전송
-            messagingTemplate.convertAndSend(topic, successMessage);
-
             // 다음 턴 진행 로직 (기존과 동일)
             GameRoom.PlayerInfo nextPlayer = room.getNextPlayer();
+            startTurn(room);
+            gameJournal.record(room, JournalEvent.Type.WORD_ACCEPTED, uid, word, definition);
+            roomSnapshots.wordUsed(roomId, word);
+            roomSnapshots.roomChanged(room);
+
+            // 성공 + 다음 턴을 WORD_ACCEPTED 한 프레임으로 전송
+            roomBroadcaster.publish(roomId, GameEvent.wordAccepted(
+                    nickname, previousWord, word, definition, nextPlayer != null ? nextPlayer.getNickname() : null));
+
             if (nextPlayer == null) {
                 System.err.println("!!! ERROR in processValidationResult - Next player is null.");
                 return;
             }
-            // [!!!] 다음 턴 알림 메시지 (별도 전송)
-            Map<String, String> turnSignal = new HashMap<>();
-            turnSignal.put("type", "TURN_CHANGE");
-            turnSignal.put("nextPlayer", nextPlayer.getNickname());
-            messagingTemplate.convertAndSend(topic, turnSignal);
 
             eventPublisher.publishEvent(new TurnSuccessEvent(this, roomId, nextPlayer.getUid(), word));
             // --- [!!!] 메시지 포맷 변경 끝 ---
@@ -227,23 +483,34 @@ public class GameRoomService {
         } else {
             // 실패 로직 (기존과 동일)
             System.out.println("--- [PROCESS RESULT FAIL] Room: " + roomId + ", User: " + nickname + ", Word: [" + word + "] ---");
-            if (!uid.startsWith("AI_BOT_")) {
+            if (degraded && !uid.startsWith("AI_BOT_")) {
+                // 국어원 장애 중 로컬 사전에 없는 단어: 유효하지 않다고 확정할 수 없으므로 실패로 세지 않고 다시 내게 한다
+                room.setLastActivityAt(System.currentTimeMillis());
+                gameJournal.record(room, JournalEvent.Type.WORD_REJECTED, uid, word, "unverified");
+                roomBroadcaster.publish(roomId, GameEvent.wordUnverified(nickname, word));
+            } else if (!uid.startsWith("AI_BOT_")) {
                 int failures = room.incrementFailureCount(uid);
-                messagingTemplate.convertAndSend(topic,
-                        "'" + word + "' (은)는 유효하지 않은 단어입니다. " + nickname + "님 다시 시도하세요. (실패: " + failures + "/" + MAX_FAILURES + ")");
+                room.setLastActivityAt(System.currentTimeMillis());
+                gameJournal.record(room, JournalEvent.Type.WORD_REJECTED, uid, word, failures + "/" + MAX_FAILURES);
+                roomSnapshots.roomChanged(room);
+                roomBroadcaster.publish(roomId, GameEvent.wordRejected(nickname, word, failures, MAX_FAILURES));
                 if (failures >= MAX_FAILURES) {
                     eliminatePlayer(roomId, uid, "실패 3회 초과");
                 }
             } else {
                 System.err.println("!!! BOT validation failed unexpectedly: " + word);
-                passTurn(roomId, uid);
+                passTurnInRoom(roomId, uid);
             }
         }
     }
 
     // --- `passTurn` 시그니처 변경 (uid) ---
     public void passTurn(String roomId, String uid) {
-        GameRoom room = activeGameRooms.get(roomId);
+        roomExecutor.execute(roomId, () -> passTurnInRoom(roomId, uid));
+    }
+
+    private void passTurnInRoom(String roomId, String uid) {
+        GameRoom room = roomStore.get(roomId);
         if (room == null || room.getCurrentPlayer() == null || !room.getCurrentPlayer().getUid().equals(uid)) {
             System.err.println("!!! ERROR in passTurn - Room not found or not player's turn.");
             return;
@@ -252,17 +519,14 @@ public class GameRoomService {
         String nickname = room.getNicknameByUid(uid); // 닉네임 조회
         System.out.println("--- [PASS TURN & ELIMINATE] User: " + nickname + " in room " + roomId + " ---");
 
-        messagingTemplate.convertAndSend(
-                "/topic/game-room/" + roomId,
-                nickname + "님이 턴을 포기했습니다." // 닉네임
-        );
+        roomBroadcaster.publish(roomId, GameEvent.turnPassed(nickname)); // 닉네임
 
         eliminatePlayer(roomId, uid, "턴 포기"); // uid
     }
 
     // --- `eliminatePlayer` 시그니처 변경 (uid) ---
     private void eliminatePlayer(String roomId, String uid, String reason) {
-        GameRoom room = activeGameRooms.get(roomId);
+        GameRoom room = roomStore.get(roomId);
         if (room == null || room.getPlayerByUid(uid) == null) {
             return;
         }
@@ -273,24 +537,150 @@ public class GameRoomService {
         GameRoom.PlayerInfo currentPlayer = room.getCurrentPlayer();
         String eliminatedPlayerCurrentTurnUid = (currentPlayer != null) ? currentPlayer.getUid() : null; // [!!!] uid (NPE 방지)
 
+        gameJournal.record(room, JournalEvent.Type.PLAYER_ELIMINATED, uid, null, reason);
         room.removePlayer(uid); // uid
 
-        messagingTemplate.convertAndSend(
-                "/topic/game-room/" + roomId,
-                nickname + "님이 탈락했습니다. (" + reason + ") 남은 인원: " + room.getPlayers().size() + "명" // 닉네임
-        );
+        roomBroadcaster.publish(roomId, GameEvent.playerEliminated(nickname, reason, room.getPlayers().size())); // 닉네임
 
         checkRoomStatusAndProceed(roomId, room, uid, eliminatedPlayerCurrentTurnUid); // uid
+        if (roomStore.get(roomId) != null) {
+            roomSnapshots.roomChanged(room);
+            publishLobby(room);
+        }
     }
 
 
-    public Map<String, GameRoom> getActiveGameRooms() {
-        return activeGameRooms;
+    /**
+     * 입장/재접속한 플레이어 본인에게 보낼 방 상태 (/user/queue/state).
+     * 끊긴 사이 지나간 방송을 다시 보내지 않고 현재 상태 한 번으로 화면을 맞춘다.
+     */
+    public CompletableFuture<Map<String, Object>> roomState(String roomId, String uid) {
+        return roomExecutor.submit(roomId, () -> {
+            GameRoom room = roomStore.get(roomId);
+            if (room == null) return null;
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("roomId", room.getRoomId());
+            state.put("roomName", room.getRoomName());
+            state.put("gameId", room.getGameId());
+            List<Map<String, Object>> players = new ArrayList<>();
+            for (GameRoom.PlayerInfo player : room.getPlayers()) {
+                Map<String, Object> info = new LinkedHashMap<>();
+                info.put("nickname", player.getNickname());
+                info.put("bot", player.isBot());
+                players.add(info);
+            }
+            state.put("players", players);
+            state.put("maxPlayers", room.getMaxPlayers());
+            GameRoom.PlayerInfo current = room.getCurrentPlayer();
+            state.put("currentPlayer", current != null ? current.getNickname() : null);
+            state.put("lastWord", room.getLastWord());
+            state.put("usedWords", room.getUsedWords().size());
+            state.put("failures", room.getFailureCounts().getOrDefault(uid, 0));
+            state.put("maxFailures", MAX_FAILURES);
+            return state;
+        }, null);
+    }
+
+    // --- 턴 시간 제한 / 방치된 방 정리 (TimingWheel 에서 만료 → 방 mailbox 로 다시 넣어 처리) ---
+
+    /** 턴이 바뀜: 이전 타이머를 취소하고 현재 플레이어가 사람이면 새 마감을 건다. 방 mailbox 안에서 호출 */
+    private void startTurn(GameRoom room) {
+        cancelTurnTimer(room);
+        int turnSeq = room.getTurnSeq() + 1;
+        room.setTurnSeq(turnSeq);
+        room.setLastActivityAt(System.currentTimeMillis());
+
+        GameRoom.PlayerInfo current = room.getCurrentPlayer();
+        if (turnTimeoutMillis <= 0 || current == null || current.isBot()) return;
+        String roomId = room.getRoomId();
+        String uid = current.getUid();
+        room.setTurnTimeout(timingWheel.schedule(
+                () -> roomExecutor.execute(roomId, () -> expireTurn(roomId, turnSeq, uid)), turnTimeoutMillis));
+    }
+
+    private void cancelTurnTimer(GameRoom room) {
+        TimingWheel.Timeout timeout = room.getTurnTimeout();
+        if (timeout != null) {
+            timeout.cancel();
+            room.setTurnTimeout(null);
+        }
+    }
+
+    private void expireTurn(String roomId, int turnSeq, String uid) {
+        GameRoom room = roomStore.get(roomId);
+        // 그 사이 턴이 바뀌었으면 (취소와 만료가 겹친 경우) 무시
+        if (room == null || room.getTurnSeq() != turnSeq || !isCurrentTurn(room, uid)) return;
+        room.setTurnTimeout(null);
+        System.out.println("--- [TURN TIMEOUT] Room: " + roomId + ", User: " + room.getNicknameByUid(uid) + " ---");
+        eliminatePlayer(roomId, uid, "시간 초과");
+    }
+
+    private void scheduleIdleCheck(String roomId, long delayMillis) {
+        if (idleTimeoutMillis <= 0) return;
+        timingWheel.schedule(() -> roomExecutor.execute(roomId, () -> checkIdle(roomId)), delayMillis);
+    }
+
+    // 방마다 타이머는 하나뿐: 활동이 있었으면 남은 시간만큼 다시 건다 (활동할 때마다 취소/재등록하지 않음)
+    private void checkIdle(String roomId) {
+        GameRoom room = roomStore.get(roomId);
+        if (room == null) return;
+        long idleMillis = System.currentTimeMillis() - room.getLastActivityAt();
+        if (idleMillis < idleTimeoutMillis) {
+            scheduleIdleCheck(roomId, idleTimeoutMillis - idleMillis);
+            return;
+        }
+        System.out.println("--- [ROOM REMOVE] Idle for " + idleMillis / 1000 + "s, removing: " + roomId);
+        roomBroadcaster.publish(roomId, GameEvent.roomClosed());
+        removeRoom(roomId);
+    }
+
+    public static String newRoomId() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /** 로비/목록에 보여줄 방 정보 (방 mailbox 안에서 호출해야 인원 수가 정확하다) */
+    public RoomInfoDTO roomInfo(GameRoom room) {
+        return new RoomInfoDTO(room.getRoomId(), room.getRoomName(), room.getPlayers().size(), room.getMaxPlayers(),
+                room.getBotCount(), roomStore.selfUrl(), room.getGameId());
+    }
+
+    // 로비 피드(LobbyFeed)에 방 정보 변경 알림
+    private void publishLobby(GameRoom room) {
+        eventPublisher.publishEvent(new LobbyRoomEvent(this, room.getRoomId(), roomInfo(room)));
+    }
+
+    /** 이 노드에 있는 방들 */
+    public Collection<GameRoom> getActiveGameRooms() {
+        return roomStore.rooms();
+    }
+
+    private void removeRoom(String roomId) {
+        GameRoom room = roomStore.get(roomId);
+        if (room != null) cancelTurnTimer(room);
+        roomStore.remove(roomId);
+        roomExecutor.unregister(roomId);
+        roomSnapshots.roomRemoved(roomId);
+        eventPublisher.publishEvent(new LobbyRoomEvent(this, roomId, null));
     }
 
     // --- `handlePlayerDisconnect` 시그니처 변경 (uid) ---
     public void handlePlayerDisconnect(String roomId, String uid) {
-        GameRoom room = activeGameRooms.get(roomId);
+        roomExecutor.execute(roomId, () -> disconnectPlayerInRoom(roomId, uid));
+    }
+
+    /** stillAbsent 를 mailbox 안에서 다시 확인하고 (그 사이 같은 방으로 돌아왔으면 false) 퇴장 처리 */
+    public void handlePlayerDisconnect(String roomId, String uid, BooleanSupplier stillAbsent) {
+        roomExecutor.execute(roomId, () -> {
+            if (!stillAbsent.getAsBoolean()) {
+                System.out.println("--- [DISCONNECT] " + uid + " came back to room " + roomId + " before removal, keeping seat");
+                return;
+            }
+            disconnectPlayerInRoom(roomId, uid);
+        });
+    }
+
+    private void disconnectPlayerInRoom(String roomId, String uid) {
+        GameRoom room = roomStore.get(roomId);
         if (room == null || room.getPlayerByUid(uid) == null) {
             System.out.println("--- [DISCONNECT] Room or Player not found. Room: " + roomId + ", User: " + uid);
             return;
@@ -302,36 +692,39 @@ public class GameRoomService {
         GameRoom.PlayerInfo currentPlayer = room.getCurrentPlayer();
         String disconnectedPlayerCurrentTurnUid = (currentPlayer != null) ? currentPlayer.getUid() : null; // [!!!] uid (NPE 방지)
 
+        gameJournal.record(room, JournalEvent.Type.PLAYER_LEFT, uid, null, null);
         room.removePlayer(uid); // uid
 
-        messagingTemplate.convertAndSend(
-                "/topic/game-room/" + roomId,
-                nickname + "님이 퇴장했습니다. 남은 인원: " + room.getPlayers().size() + "명" // 닉네임
-        );
+        roomBroadcaster.publish(roomId, GameEvent.playerLeft(nickname, room.getPlayers().size())); // 닉네임
+
+        room.getAwaitingRejoin().remove(uid);
 
         checkRoomStatusAndProceed(roomId, room, uid, disconnectedPlayerCurrentTurnUid); // uid
+        if (roomStore.get(roomId) != null) {
+            roomSnapshots.roomChanged(room);
+            publishLobby(room);
+        }
     }
 
     // --- `checkRoomStatusAndProceed` 시그니처 변경 (uid) ---
     private void checkRoomStatusAndProceed(String roomId, GameRoom room, String removedUid, String turnBeforeRemovalUid) {
         List<GameRoom.PlayerInfo> remainingPlayers = room.getPlayers(); // PlayerInfo
-        String topic = "/topic/game-room/" + roomId;
 
         if (remainingPlayers.isEmpty()) {
             System.out.println("--- [ROOM REMOVE] Room is empty, removing: " + roomId);
-            activeGameRooms.remove(roomId);
+            removeRoom(roomId);
 
         } else if (remainingPlayers.stream().allMatch(GameRoom.PlayerInfo::isBot)) { // isBot 헬퍼 사용
             System.out.println("--- [ROOM REMOVE] Only bots left, removing: " + roomId);
-            messagingTemplate.convertAndSend(topic, "모든 플레이어가 나가서 게임이 종료됩니다.");
-            activeGameRooms.remove(roomId);
+            roomBroadcaster.publish(roomId, GameEvent.roomClosed());
+            removeRoom(roomId);
 
         } else if (remainingPlayers.size() == 1) {
             System.out.println("--- [GAME END] Only one player left in room: " + roomId);
             String winnerNickname = remainingPlayers.get(0).getNickname();
-            String jsonMessage = String.format("{\"type\":\"GAME_OVER\", \"winner\":\"%s\"}", winnerNickname);
-
-            messagingTemplate.convertAndSend(topic, jsonMessage);
+            gameJournal.record(room, JournalEvent.Type.GAME_OVER, remainingPlayers.get(0).getUid(), null, null);
+            cancelTurnTimer(room);
+            roomBroadcaster.publish(roomId, GameEvent.gameOver(winnerNickname));
 
         } else {
             room.setLastWord(null);
@@ -357,11 +750,10 @@ public class GameRoomService {
             }
 
             System.out.println("--- [TURN PROCEED] Room: " + roomId + ", Next Player: " + nextPlayer.getNickname() + " ---");
+            startTurn(room);
 
             // `eliminatePlayer`에서 탈락 메시지를 이미 보냈으므로 여기서는 턴 시작만 알림
-            messagingTemplate.convertAndSend(topic,
-                    nextPlayer.getNickname() + "님부터 (아무 단어나) 다시 시작하세요."
-            );
+            roomBroadcaster.publish(roomId, GameEvent.restartTurn(nextPlayer.getNickname()));
 
             // 다음 턴 이벤트 (uid)
             eventPublisher.publishEvent(new TurnSuccessEvent(
@@ -373,36 +765,13 @@ public class GameRoomService {
         }
     }
 
-    // --- 두음법칙 헬퍼 (수정 불필요) ---
-    private static final char[] CHOSEONG_LIST = { 'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
-    private static final char[] JUNGSEONG_LIST = { 'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ' };
-    private static final char[] JONGSEONG_LIST = { '\0', 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
-    private static final int HANGUL_START = 0xAC00;
-    private static final int HANGUL_END = 0xD7A3;
-    public boolean isHangul(char c) { return c >= HANGUL_START && c <= HANGUL_END; }
+    // --- 두음법칙 헬퍼 (HangulRules 테이블 조회) ---
+    public boolean isHangul(char c) { return HangulRules.isSyllable(c); }
+
+    /** 문자열 API 호환용. 핫패스는 {@link HangulRules#alternativeOf(char)} 를 직접 쓴다. */
     public String getAlternativeStartChar(String lastCharStr) {
         if (lastCharStr == null || lastCharStr.length() != 1) return null;
-        char lastChar = lastCharStr.charAt(0);
-        if (!isHangul(lastChar)) return null;
-        int base = lastChar - HANGUL_START;
-        int choseongIndex = base / (21 * 28);
-        int jungseongIndex = (base % (21 * 28)) / 28;
-        int jongseongIndex = base % 28;
-        char choseong = CHOSEONG_LIST[choseongIndex];
-        if (choseong != 'ㄹ' && choseong != 'ㄴ') return null;
-        char jungseong = JUNGSEONG_LIST[jungseongIndex];
-        int newChoseongIndex = -1;
-        if (choseong == 'ㄹ') {
-            if ("ㅣㅑㅕㅖㅛㅠㅟ".indexOf(jungseong) >= 0) newChoseongIndex = 11; // 'ㅇ'
-            else newChoseongIndex = 2; // 'ㄴ'
-        } else if (choseong == 'ㄴ') {
-            if ("ㅣㅑㅕㅖㅛㅠ".indexOf(jungseong) >= 0) newChoseongIndex = 11; // 'ㅇ'
-        }
-        if (newChoseongIndex != -1) {
-            int newCharBase = (newChoseongIndex * 21 * 28) + (jungseongIndex * 28) + jongseongIndex;
-            char newChar = (char) (HANGUL_START + newCharBase);
-            return String.valueOf(newChar);
-        }
-        return null;
+        char alternative = HangulRules.alternativeOf(lastCharStr.charAt(0));
+        return alternative == HangulRules.NONE ? null : String.valueOf(alternative);
     }
-}
\ No newline at end of file
+}
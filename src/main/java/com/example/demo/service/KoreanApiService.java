@@ -1,35 +1,160 @@
 package com.example.demo.service;
 
+import com.example.demo.dictionary.WordDictionary;
+import com.example.demo.metrics.GameMetrics;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import io.netty.channel.ConnectTimeoutException;
+import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Mono;
 import lombok.RequiredArgsConstructor;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 @Service
 //@RequiredArgsConstructor
 public class KoreanApiService {
 
+    private static final String LOCAL_DEFINITION = "뜻 정보 없음 (국어원 장애로 로컬 사전에서 확인)";
+
     private final WebClient koreanApiWebClient; // 2단계에서 만든 WebClient 주입
     private final ObjectMapper objectMapper;
+    private final WordValidationCache validationCache;
+    private final GameMetrics gameMetrics;
+    private final WordDictionary wordDictionary; // 국어원 장애 시 대체 검증
 
-    public KoreanApiService(WebClient koreanApiWebClient, ObjectMapper objectMapper) {
+    public KoreanApiService(WebClient koreanApiWebClient, ObjectMapper objectMapper, WordValidationCache validationCache,
+                            GameMetrics gameMetrics, WordDictionary wordDictionary) {
         this.koreanApiWebClient = koreanApiWebClient;
         this.objectMapper = objectMapper;
+        this.validationCache = validationCache;
+        this.gameMetrics = gameMetrics;
+        this.wordDictionary = wordDictionary;
     }
     @Value("${api.key.korean}")
     private String apiKey;
 
+    // 국어원으로 동시에 나가는 요청 수 상한 (quota 보호). 넘치는 요청은 큐에서 기다린다
+    @Value("${kkutu.stdict.max-concurrent:8}")
+    private int maxConcurrent = 8;
+
+    // 큐까지 가득 차면 원격 호출 없이 로컬 사전으로 판정 (degraded, 캐시하지 않음)
+    @Value("${kkutu.stdict.queue-capacity:256}")
+    private int queueCapacity = 256;
+
+    // 호출 하나의 상한 (연결 + 응답). 넘으면 타임아웃으로 실패 처리 → 장애 시 제출 하나가 기다리는 최대 시간
+    @Value("${kkutu.stdict.timeout-ms:2000}")
+    private long timeoutMillis = 2000;
+
+    // --- 서킷 브레이커 (최근 window-size 개 호출 기준) ---
+    @Value("${kkutu.stdict.circuit.window-size:20}")
+    private int circuitWindowSize = 20;
+
+    @Value("${kkutu.stdict.circuit.minimum-calls:10}")
+    private int circuitMinimumCalls = 10;
+
+    @Value("${kkutu.stdict.circuit.failure-rate:0.5}")
+    private double circuitFailureRate = 0.5;
+
+    @Value("${kkutu.stdict.circuit.slow-call-ms:1500}")
+    private long circuitSlowCallMillis = 1500;
+
+    @Value("${kkutu.stdict.circuit.slow-call-rate:0.8}")
+    private double circuitSlowCallRate = 0.8;
+
+    @Value("${kkutu.stdict.circuit.open-ms:15000}")
+    private long circuitOpenMillis = 15000;
+
+    @Value("${kkutu.stdict.circuit.half-open-calls:3}")
+    private int circuitHalfOpenCalls = 3;
+
+    // 단어별 진행 중인 조회 (single-flight): 같은 단어의 동시 검증은 한 번의 호출 결과를 같이 받는다
+    private final Map<String, Mono<Map<String, Object>>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder degraded = new LongAdder();
+    private StdictDispatcher dispatcher;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        dispatcher = new StdictDispatcher(maxConcurrent, queueCapacity, gameMetrics::recordStdictQueueWait);
+        circuitBreaker = new CircuitBreaker("stdict", circuitWindowSize, circuitMinimumCalls, circuitFailureRate,
+                circuitSlowCallRate, circuitSlowCallMillis, circuitOpenMillis, circuitHalfOpenCalls);
+        System.out.println("--- [STDICT] Max concurrent requests: " + maxConcurrent + ", queue: " + queueCapacity
+                + ", timeout: " + timeoutMillis + "ms ---");
+    }
+
+    /**
+     * 동기 검증 (봇 워커 스레드 등 블로킹이 허용되는 곳에서만 사용).
+     * STOMP inbound 스레드에서는 {@link #validateWordAsync(String)} 를 사용할 것.
+     */
     public Map<String, Object> validateWord(String word) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("isValid", false); // 기본값 false
-        result.put("definition", null); // 기본값 null
+        Map<String, Object> result = validateWordAsync(word).block(); // 결과 대기
+        System.out.println("--- KoreanApiService.validateWord returning: " + result + " for word: [" + word + "]");
+        return result != null ? result : failResult();
+    }
 
-        try {
-            String rawResponse = koreanApiWebClient.get()
+    /** 캐시에 있는 검증 결과만 조회 (원격 호출 없음). 없으면 null */
+    public Map<String, Object> getCachedValidation(String word) {
+        return validationCache.get(word);
+    }
+
+    /**
+     * 비동기 검증. 캐시 히트면 즉시 완료되고, 아니면 WebClient 응답이 오면 완료된다.
+     * 국어원 장애(예외/타임아웃/서킷 OPEN/대기 큐 포화)일 때는 로컬 사전으로 판정하고 degraded=true 를 붙인다.
+     * (에러 신호를 내보내지 않음)
+     */
+    public Mono<Map<String, Object>> validateWordAsync(String word) {
+        // 캐시 우선 (positive: 뜻 포함 / negative: 짧은 TTL)
+        Map<String, Object> cached = validationCache.get(word);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return coalesce(word);
+    }
+
+    /**
+     * 같은 단어의 조회가 이미 진행 중이면 그 결과를 같이 받고, 아니면 새 조회를 dispatcher 큐에 넣는다.
+     * 결과가 나오면 (캐시에 들어간 뒤) in-flight 항목을 지운다. 이후 요청은 캐시에서 처리된다.
+     */
+    private Mono<Map<String, Object>> coalesce(String word) {
+        Mono<Map<String, Object>> existing = inFlight.get(word);
+        if (existing != null) {
+            gameMetrics.recordStdictCoalesced();
+            return existing.map(KoreanApiService::copyOf); // 호출자마다 별도 Map (결과를 고쳐 쓰는 곳이 있어도 안전)
+        }
+
+        @SuppressWarnings("unchecked")
+        Mono<Map<String, Object>>[] self = new Mono[1];
+        Mono<Map<String, Object>> shared = dispatcher.submit(
+                        () -> circuitBreaker.tryAcquire() ? fetchFromStdict(word) : Mono.fromSupplier(() -> degradedResult(word)),
+                        () -> degradedResult(word))
+                .doFinally(signal -> inFlight.remove(word, self[0]))
+                .cache();
+        self[0] = shared;
+
+        existing = inFlight.putIfAbsent(word, shared);
+        if (existing != null) {
+            gameMetrics.recordStdictCoalesced();
+            return existing.map(KoreanApiService::copyOf);
+        }
+        return shared.map(KoreanApiService::copyOf);
+    }
+
+    // 국어원 /search.do 호출 (구독 시점부터 지연 시간/결과를 kkutu.stdict.requests 에 기록)
+    // 호출 전에 circuitBreaker.tryAcquire() 를 받았어야 하며, 결과를 서킷 브레이커에 알린다
+    // (판정할 수 없는 응답도 예외/타임아웃과 같이 실패로 기록하고 로컬 사전으로 판정)
+    private Mono<Map<String, Object>> fetchFromStdict(String word) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return koreanApiWebClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/search.do")
                             .queryParam("key", apiKey)
@@ -39,55 +164,163 @@ public class KoreanApiService {
                             .build())
                     .retrieve()
                     .bodyToMono(String.class)
-                    .block(); // 결과 대기
-
-            System.out.println("<<< API Raw Response for [" + word + "]: " + rawResponse); // 디버깅 로그
-
-            if (rawResponse == null || rawResponse.isEmpty()) {
-                System.err.println("!!! API FAIL (Response Null/Empty) for word: [" + word + "]");
-                // isValid는 이미 false
-            } else {
-                JsonNode response = objectMapper.readTree(rawResponse);
-                if (response != null && response.has("channel") &&
-                        response.get("channel").has("total") &&
-                        response.get("channel").get("total").asInt() > 0) {
-
-                    String finalDefinition = "뜻 정보 없음"; // 기본값
-
-                    try {
-                        JsonNode itemNode = response.path("channel").path("item");
-                        if (itemNode.isArray() && itemNode.size() > 0) {
-                            JsonNode senseNode = itemNode.get(0).path("sense");
-
-                            // sense가 배열인지 객체인지 확인
-                            if (senseNode.isArray() && senseNode.size() > 0) {
-                                // 배열이면 첫 번째 요소 사용
-                                finalDefinition = senseNode.get(0).path("definition").asText("뜻 정보 없음");
-                            } else if (senseNode.isObject()) {
-                                // 객체면 바로 사용
-                                finalDefinition = senseNode.path("definition").asText("뜻 정보 없음");
-                            }
-                        }
-                    } catch (Exception e) {
-                        System.err.println("!!! API Definition Parse Error for [" + word + "]: " + e.getMessage());
-                        // finalDefinition은 기본값 "뜻 정보 없음" 유지
-                    }
+                    .timeout(Duration.ofMillis(timeoutMillis))
+                    .map(rawResponse -> parseResponse(word, rawResponse))
+                    .doOnNext(result -> {
+                        long nanos = System.nanoTime() - startNanos;
+                        circuitBreaker.onSuccess(nanos);
+                        gameMetrics.recordStdictRequest(
+                                (Boolean) result.get("isValid") ? GameMetrics.STDICT_FOUND : GameMetrics.STDICT_NOT_FOUND, nanos);
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        System.err.println("!!! API FAIL (Response Null/Empty) for word: [" + word + "]");
+                        long nanos = System.nanoTime() - startNanos;
+                        circuitBreaker.onFailure(nanos);
+                        gameMetrics.recordStdictRequest(GameMetrics.STDICT_ERROR, nanos);
+                        return degradedResult(word);
+                    }))
+                    .onErrorResume(e -> {
+                        System.err.println("!!! API EXCEPTION for word: [" + word + "]: " + e.getMessage());
+                        long nanos = System.nanoTime() - startNanos;
+                        circuitBreaker.onFailure(nanos);
+                        gameMetrics.recordStdictRequest(isTimeout(e) ? GameMetrics.STDICT_TIMEOUT : GameMetrics.STDICT_ERROR, nanos);
+                        return Mono.just(degradedResult(word));
+                    })
+                    .doOnCancel(circuitBreaker::release);
+        });
+    }
 
-                    System.out.println("--- API SUCCESS for word: [" + word + "], Definition: [" + finalDefinition + "]");
-                    result.put("isValid", true);
-                    result.put("definition", finalDefinition); //  추출된 뜻 저장
+    /**
+     * 국어원으로 판정할 수 없을 때: 로컬 사전(kkutu_words)에 있으면 통과, 없으면 거부. 둘 다 degraded=true.
+     * 캐시에 넣지 않는다 (복구 후 국어원으로 다시 판정).
+     */
+    private Map<String, Object> degradedResult(String word) {
+        degraded.increment();
+        boolean known = wordDictionary != null && wordDictionary.contains(word);
+        Map<String, Object> result = new HashMap<>();
+        result.put("isValid", known);
+        result.put("definition", known ? LOCAL_DEFINITION : null);
+        result.put("degraded", true);
+        return result;
+    }
 
-                } else {
-                    System.err.println("!!! API FAIL (Total <= 0 or Invalid JSON) for word: [" + word + "]");
-                    // isValid는 이미 false
-                }
+    // 연결/응답/읽기 타임아웃 여부 (WebClient 는 원인 예외를 감싸서 던진다)
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof ConnectTimeoutException) {
+                return true;
             }
+        }
+        return false;
+    }
+
+    /**
+     * 국어원 응답 해석. total &gt; 0 이면 통과 (positive 캐시), total == 0 이면 사전에 없는 단어 (negative 캐시).
+     * 그 밖의 응답 (빈 본문, JSON 이 아님, channel.total 이 없는 오류/quota 응답) 은 판정이 아니므로
+     * {@link UnusableResponseException} 을 던진다 → 호출 실패로 서킷 브레이커에 기록되고 로컬 사전으로 판정.
+     */
+    private Map<String, Object> parseResponse(String word, String rawResponse) {
+        Map<String, Object> result = failResult();
+
+        System.out.println("<<< API Raw Response for [" + word + "]: " + rawResponse); // 디버깅 로그
+
+        if (rawResponse == null || rawResponse.isEmpty()) {
+            throw new UnusableResponseException("empty response");
+        }
+
+        JsonNode response;
+        try {
+            response = objectMapper.readTree(rawResponse);
         } catch (Exception e) {
-            System.err.println("!!! API EXCEPTION for word: [" + word + "]: " + e.getMessage());
+            throw new UnusableResponseException("not JSON: " + e.getMessage());
+        }
+        // 오류/quota 응답에는 channel.total 이 없다 → -1
+        int total = response != null ? response.path("channel").path("total").asInt(-1) : -1;
+        if (total < 0) {
+            throw new UnusableResponseException("no channel.total");
+        }
+
+        if (total > 0) {
+            String finalDefinition = "뜻 정보 없음"; // 기본값
+
+            try {
+                JsonNode itemNode = response.path("channel").path("item");
+                if (itemNode.isArray() && itemNode.size() > 0) {
+                    JsonNode senseNode = itemNode.get(0).path("sense");
+
+                    // sense가 배열인지 객체인지 확인
+                    if (senseNode.isArray() && senseNode.size() > 0) {
+                        // 배열이면 첫 번째 요소 사용
+                        finalDefinition = senseNode.get(0).path("definition").asText("뜻 정보 없음");
+                    } else if (senseNode.isObject()) {
+                        // 객체면 바로 사용
+                        finalDefinition = senseNode.path("definition").asText("뜻 정보 없음");
+                    }
+                }
+            } catch (Exception e) {
+                System.err.println("!!! API Definition Parse Error for [" + word + "]: " + e.getMessage());
+                // finalDefinition은 기본값 "뜻 정보 없음" 유지
+            }
+
+            System.out.println("--- API SUCCESS for word: [" + word + "], Definition: [" + finalDefinition + "]");
+            result.put("isValid", true);
+            result.put("definition", finalDefinition); //  추출된 뜻 저장
+            validationCache.putValid(word, finalDefinition);
+        } else {
+            System.err.println("!!! API FAIL (Total 0) for word: [" + word + "]");
             // isValid는 이미 false
+            // 사전에 없는 단어로 확정된 경우만 negative 캐시 (타임아웃/예외/오류 응답은 캐시하지 않음)
+            validationCache.putInvalid(word);
         }
+        return result;
+    }
 
-        System.out.println("--- KoreanApiService.validateWord returning: " + result + " for word: [" + word + "]");
-        return result; //  Map 반환
+    /** 200 이지만 판정에 쓸 수 없는 국어원 응답 (장애로 취급) */
+    private static final class UnusableResponseException extends RuntimeException {
+        UnusableResponseException(String message) {
+            super(message);
+        }
+    }
+
+    private static Map<String, Object> copyOf(Map<String, Object> result) {
+        return new HashMap<>(result);
+    }
+
+    private static Map<String, Object> failResult() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("isValid", false); // 기본값 false
+        result.put("definition", null); // 기본값 null
+        return result;
+    }
+
+    public int getActiveRequestCount() {
+        return dispatcher != null ? dispatcher.getActiveCount() : 0;
+    }
+
+    public int getQueuedRequestCount() {
+        return dispatcher != null ? dispatcher.getQueuedCount() : 0;
+    }
+
+    public long getRejectedRequestCount() {
+        return dispatcher != null ? dispatcher.getRejectedCount() : 0;
+    }
+
+    /** 국어원 대신 로컬 사전으로 판정한 수 */
+    public long getDegradedCount() {
+        return degraded.sum();
+    }
+
+    /** 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN) */
+    public int getCircuitState() {
+        return circuitBreaker != null ? circuitBreaker.state().ordinal() : 0;
+    }
+
+    public long getCircuitOpenedCount() {
+        return circuitBreaker != null ? circuitBreaker.getOpenedCount() : 0;
+    }
+
+    public long getCircuitNotPermittedCount() {
+        return circuitBreaker != null ? circuitBreaker.getNotPermittedCount() : 0;
     }
 }
@@ -0,0 +1,125 @@
+package com.example.demo.service;
+
+import com.example.demo.DTO.LobbyUpdate;
+import com.example.demo.DTO.RoomInfoDTO;
+import com.example.demo.Event.LobbyRoomEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로비 방 목록 (이 노드의 방).
+ *
+ * GameRoomService 의 {@link LobbyRoomEvent} 를 방별 최신 값만 남기고 모았다가 coalesce-ms 뒤 한 번에 반영한다.
+ * - 반영할 때마다 불변 목록({@link Snapshot})을 새로 만들어 둔다 → REST 목록 / 구독 응답은 이걸 그대로 쓴다.
+ * - 바뀐 방만 DIFF 한 프레임으로 /topic/lobby 에 보낸다 → 로비 트래픽은 (방 × 보는 사람) 이 아니라 변경 수에 비례.
+ * 변경이 없으면 아무 작업도 예약하지 않는다.
+ */
+@Component
+public class LobbyFeed {
+
+    public static final String LOBBY_TOPIC = "/topic/lobby";
+
+    // pending 에서 "삭제됨" 표시 (ConcurrentHashMap 은 null 값을 못 넣음)
+    private static final RoomInfoDTO REMOVED = new RoomInfoDTO();
+
+    /** 불변 방 목록 + 그 시점의 DIFF 버전 */
+    public static final class Snapshot {
+        private final long version;
+        private final List<RoomInfoDTO> rooms;
+
+        Snapshot(long version, List<RoomInfoDTO> rooms) {
+            this.version = version;
+            this.rooms = rooms;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public List<RoomInfoDTO> rooms() {
+            return rooms;
+        }
+    }
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${kkutu.lobby.coalesce-ms:250}")
+    private long coalesceMillis = 250;
+
+    private final Map<String, RoomInfoDTO> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // flush 에서만 변경 (synchronized)
+    private final Map<String, RoomInfoDTO> rooms = new LinkedHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
+
+    private final LongAdder diffsSent = new LongAdder();
+
+    public LobbyFeed(SimpMessagingTemplate messagingTemplate, @Qualifier("taskScheduler") TaskScheduler taskScheduler) {
+        this.messagingTemplate = messagingTemplate;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @EventListener
+    public void onRoomChanged(LobbyRoomEvent event) {
+        pending.put(event.getRoomId(), event.isRemoved() ? REMOVED : event.getRoom());
+        if (flushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now().plusMillis(coalesceMillis));
+        }
+    }
+
+    /** 현재 방 목록 (최대 coalesce-ms 지연) */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /** /app/lobby 구독 응답 */
+    public LobbyUpdate snapshotUpdate() {
+        Snapshot current = snapshot;
+        return LobbyUpdate.snapshot(current.version(), current.rooms());
+    }
+
+    synchronized void flush() {
+        // 먼저 내려야 flush 도중 들어온 변경이 다음 flush 로 예약된다
+        flushScheduled.set(false);
+        List<RoomInfoDTO> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (String roomId : new ArrayList<>(pending.keySet())) {
+            RoomInfoDTO room = pending.remove(roomId);
+            if (room == null) continue;
+            if (room == REMOVED) {
+                if (rooms.remove(roomId) != null) removed.add(roomId);
+            } else {
+                rooms.put(roomId, room);
+                changed.add(room);
+            }
+        }
+        if (changed.isEmpty() && removed.isEmpty()) return;
+
+        long version = snapshot.version() + 1;
+        snapshot = new Snapshot(version, List.copyOf(rooms.values()));
+        try {
+            messagingTemplate.convertAndSend(LOBBY_TOPIC, LobbyUpdate.diff(version, changed, removed));
+            diffsSent.increment();
+        } catch (Exception e) {
+            System.err.println("!!! [LOBBY] Failed to send diff v" + version + ": " + e.getMessage());
+        }
+    }
+
+    public long getDiffCount() {
+        return diffsSent.sum();
+    }
+}
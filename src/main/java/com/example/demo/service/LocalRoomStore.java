@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import com.example.demo.DTO.GameRoom;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 단일 노드 모드 (기본값): 모든 방을 이 JVM 의 ConcurrentHashMap 에 둔다. */
+@Component
+@ConditionalOnProperty(name = "kkutu.cluster.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRoomStore implements RoomStore {
+
+    private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
+
+    @Override
+    public GameRoom get(String roomId) {
+        return roomId == null ? null : rooms.get(roomId);
+    }
+
+    @Override
+    public void put(GameRoom room) {
+        rooms.put(room.getRoomId(), room);
+    }
+
+    @Override
+    public void remove(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    @Override
+    public Collection<GameRoom> rooms() {
+        return Collections.unmodifiableCollection(rooms.values());
+    }
+
+    @Override
+    public int size() {
+        return rooms.size();
+    }
+
+    @Override
+    public boolean isOwnedHere(String roomId) {
+        return true;
+    }
+
+    @Override
+    public String ownerOf(String roomId) {
+        return null;
+    }
+
+    @Override
+    public String selfUrl() {
+        return null;
+    }
+
+    @Override
+    public List<String> peerUrls() {
+        return List.of();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.service;
+
+import com.example.demo.DTO.GameEvent;
+import com.example.demo.metrics.GameMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 방 토픽으로 GameEvent 를 보내는 전용 컴포넌트.
+ * 이벤트는 방송 1회당 한 번만 JSON 바이트로 직렬화하고, 완성된 Message 를 그대로 브로커에 넘긴다.
+ * (convertAndSend 의 메시지 컨버터 탐색 / Map 직렬화를 거치지 않음)
+ *
+ * batch-mode 에서는 그 방 mailbox 작업(= 입력 이벤트 하나) 안에서 나온 이벤트를 모아 두었다가
+ * 작업이 끝날 때 프레임 하나로 보낸다. (WORD_ACCEPTED + TURN_CHANGE, PLAYER_ELIMINATED + GAME_OVER 등)
+ * - 이벤트가 하나뿐이면 지금과 같은 단일 이벤트 프레임
+ * - 둘 이상이면 {"type":"BATCH","events":[...]} (순서 유지)
+ * mailbox 밖에서 보내는 이벤트는 모으지 않고 바로 보낸다.
+ */
+@Component
+public class RoomBroadcaster {
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/game-room/";
+
+    private static final byte[] BATCH_HEAD = "{\"type\":\"BATCH\",\"events\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BATCH_TAIL = "]}".getBytes(StandardCharsets.UTF_8);
+
+    /** 워커 스레드마다 하나. 한 번에 한 방의 작업만 실행하므로 방 구분이 필요 없다 */
+    private static final class Batch {
+        private String roomId;
+        private final List<byte[]> events = new ArrayList<>();
+        private int bytes;
+
+        void add(String roomId, byte[] event) {
+            this.roomId = roomId;
+            events.add(event);
+            bytes += event.length;
+        }
+
+        void clear() {
+            roomId = null;
+            events.clear();
+            bytes = 0;
+        }
+    }
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final GameMetrics gameMetrics;
+    private final RoomExecutor roomExecutor;
+    private final ThreadLocal<Batch> pending = ThreadLocal.withInitial(Batch::new);
+
+    // false 면 text(사람이 읽는 문장) 필드를 빼고 보낸다
+    @Value("${kkutu.protocol.include-text:true}")
+    private boolean includeText;
+
+    // false 면 이벤트마다 프레임 하나 (BATCH 를 모르는 이전 클라이언트 호환)
+    @Value("${kkutu.broadcast.batch-mode:true}")
+    private boolean batchMode = true;
+
+    public RoomBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper, GameMetrics gameMetrics,
+                           RoomExecutor roomExecutor) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.gameMetrics = gameMetrics;
+        this.roomExecutor = roomExecutor;
+        roomExecutor.addAfterTaskHook(this::flush);
+    }
+
+    public void publish(String roomId, GameEvent event) {
+        if (!includeText) {
+            event.setText(null);
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            System.err.println("!!! [BROADCAST] Failed to serialize " + event.getType() + " for room " + roomId + ": " + e.getMessage());
+            return;
+        }
+        gameMetrics.recordBroadcastEvents(1);
+        if (batchMode && roomExecutor.isInRoom(roomId)) {
+            pending.get().add(roomId, payload);
+        } else {
+            sendJson(ROOM_TOPIC_PREFIX + roomId, payload);
+        }
+    }
+
+    /** 현재 스레드가 모아 둔 이벤트를 보낸다 (mailbox 작업이 끝날 때마다 호출) */
+    void flush() {
+        Batch batch = pending.get();
+        int count = batch.events.size();
+        if (count == 0) return;
+        try {
+            String destination = ROOM_TOPIC_PREFIX + batch.roomId;
+            if (count == 1) {
+                sendJson(destination, batch.events.get(0));
+                return;
+            }
+            byte[] frame = new byte[BATCH_HEAD.length + batch.bytes + (count - 1) + BATCH_TAIL.length];
+            int pos = 0;
+            System.arraycopy(BATCH_HEAD, 0, frame, pos, BATCH_HEAD.length);
+            pos += BATCH_HEAD.length;
+            for (int i = 0; i < count; i++) {
+                if (i > 0) frame[pos++] = ',';
+                byte[] event = batch.events.get(i);
+                System.arraycopy(event, 0, frame, pos, event.length);
+                pos += event.length;
+            }
+            System.arraycopy(BATCH_TAIL, 0, frame, pos, BATCH_TAIL.length);
+            sendJson(destination, frame);
+            gameMetrics.recordBroadcastBatch(count);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void sendJson(String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        gameMetrics.recordBroadcast(payload.length);
+    }
+}
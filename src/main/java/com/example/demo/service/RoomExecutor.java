@@ -0,0 +1,165 @@
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 방(Room) 단위 직렬 실행기 (mailbox).
+ *
+ * 한 방의 상태 변경(GameRoom 의 players / usedWords / failureCounts 등)은 모두 그 방의 mailbox 에 작업으로 넣고,
+ * mailbox 는 공용 워커 풀에서 "한 번에 하나씩" 순서대로 실행된다.
+ * - 같은 방: 항상 순차 실행 (락 불필요)
+ * - 다른 방: 워커 풀 스레드 수만큼 병렬 실행 (전역 락 없음)
+ *
+ * 작업 하나가 끝날 때마다 (성공/실패 모두) {@link #addAfterTaskHook} 으로 등록한 훅을 같은 스레드에서 실행한다.
+ *
+ * 주의: mailbox 작업 안에서 같은 방의 {@link #submit} 결과를 join() 하면 자기 자신을 기다리게 되어 교착된다.
+ */
+@Component
+public class RoomExecutor {
+
+    // 한 번 스케줄될 때 처리할 최대 작업 수 (바쁜 방이 워커를 독점하지 않도록)
+    private static final int MAX_TASKS_PER_RUN = 32;
+
+    private static final ThreadLocal<String> CURRENT_ROOM = new ThreadLocal<>();
+
+    private final Executor roomWorkerPool;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final List<Runnable> afterTaskHooks = new CopyOnWriteArrayList<>();
+
+    public RoomExecutor(@Qualifier("roomWorkerPool") Executor roomWorkerPool) {
+        this.roomWorkerPool = roomWorkerPool;
+    }
+
+    /** 방 생성 시 mailbox 등록 */
+    public void register(String roomId) {
+        mailboxes.computeIfAbsent(roomId, Mailbox::new);
+    }
+
+    /** 방 제거 시 mailbox 해제 (이미 들어간 작업은 끝까지 실행된다) */
+    public void unregister(String roomId) {
+        mailboxes.remove(roomId);
+    }
+
+    /**
+     * 방 mailbox 에 작업을 넣는다.
+     * @return 방이 없어서 작업을 넣지 못했으면 false
+     */
+    public boolean execute(String roomId, Runnable task) {
+        Mailbox mailbox = (roomId != null) ? mailboxes.get(roomId) : null;
+        if (mailbox == null) {
+            System.err.println("!!! [ROOM EXECUTOR] No mailbox for room: " + roomId + " (task dropped)");
+            return false;
+        }
+        mailbox.enqueue(task);
+        return true;
+    }
+
+    /** 방 mailbox 에서 값을 계산해 future 로 돌려받는다. 방이 없으면 ifMissing 으로 즉시 완료. */
+    public <T> CompletableFuture<T> submit(String roomId, Supplier<T> task, T ifMissing) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        boolean accepted = execute(roomId, () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        if (!accepted) {
+            future.complete(ifMissing);
+        }
+        return future;
+    }
+
+    /**
+     * mailbox 작업이 하나 끝날 때마다 그 작업을 실행한 스레드에서 호출된다. (CURRENT_ROOM 이 아직 설정된 상태)
+     * 작업 하나 = 입력 이벤트 하나이므로, 작업 중에 모아 둔 것을 내보내는 용도. 짧아야 한다.
+     */
+    public void addAfterTaskHook(Runnable hook) {
+        afterTaskHooks.add(hook);
+    }
+
+    /** 현재 스레드가 roomId 의 mailbox 작업을 실행 중인지 */
+    public boolean isInRoom(String roomId) {
+        return roomId != null && roomId.equals(CURRENT_ROOM.get());
+    }
+
+    public int mailboxCount() {
+        return mailboxes.size();
+    }
+
+    private void runAfterTaskHooks() {
+        for (Runnable hook : afterTaskHooks) {
+            try {
+                hook.run();
+            } catch (Exception e) {
+                System.err.println("!!! [ROOM EXECUTOR] After-task hook failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private final class Mailbox implements Runnable {
+        private final String roomId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private Mailbox(String roomId) {
+            this.roomId = roomId;
+        }
+
+        void enqueue(Runnable task) {
+            queue.add(task);
+            trySchedule();
+        }
+
+        private void trySchedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    roomWorkerPool.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    System.err.println("!!! [ROOM EXECUTOR] Worker pool rejected room " + roomId + ": " + e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            CURRENT_ROOM.set(roomId);
+            try {
+                Runnable task;
+                int processed = 0;
+                while (processed < MAX_TASKS_PER_RUN && (task = queue.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        System.err.println("!!! [ROOM EXECUTOR] Task failed in room " + roomId + ": " + e.getMessage());
+                        e.printStackTrace();
+                    } finally {
+                        runAfterTaskHooks();
+                    }
+                    processed++;
+                }
+            } finally {
+                CURRENT_ROOM.remove();
+                scheduled.set(false);
+                // 실행 도중 들어온 작업이 있으면 다시 스케줄
+                if (!queue.isEmpty()) {
+                    trySchedule();
+                }
+            }
+        }
+    }
+}
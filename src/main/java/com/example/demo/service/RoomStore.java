@@ -0,0 +1,41 @@
+package com.example.demo.service;
+
+import com.example.demo.DTO.GameRoom;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 방 상태 저장소. 이 노드가 소유한 방만 들고 있다.
+ *
+ * - 단일 노드: {@link LocalRoomStore} (모든 방이 이 JVM 에)
+ * - 여러 노드: {@link com.example.demo.cluster.ShardedRoomStore} (roomId 의 consistent hash 로 소유 노드 결정)
+ *
+ * 방 하나의 상태 변경은 여전히 그 방의 mailbox(RoomExecutor) 안에서만 일어난다. 저장소는 방 객체를 찾는 역할만 한다.
+ */
+public interface RoomStore {
+
+    /** 이 노드에 있는 방. 없거나 다른 노드 소유면 null */
+    GameRoom get(String roomId);
+
+    void put(GameRoom room);
+
+    void remove(String roomId);
+
+    /** 이 노드에 있는 방들 (약한 일관성 뷰) */
+    Collection<GameRoom> rooms();
+
+    int size();
+
+    /** roomId 의 방이 이 노드에 있어야 하는지 */
+    boolean isOwnedHere(String roomId);
+
+    /** roomId 를 소유한 노드의 주소. 단일 노드 모드면 null */
+    String ownerOf(String roomId);
+
+    /** 이 노드의 주소. 단일 노드 모드면 null */
+    String selfUrl();
+
+    /** 자신을 뺀 다른 노드 주소들 */
+    List<String> peerUrls();
+}
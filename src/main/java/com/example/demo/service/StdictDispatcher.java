@@ -0,0 +1,132 @@
+package com.example.demo.service;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 국어원 호출 동시 실행 제한기.
+ *
+ * 동시에 나가는 요청은 maxConcurrent 개까지만 두고, 나머지는 도착 순서대로 큐(최대 queueCapacity)에서 기다린다.
+ * 한 요청이 끝나면(성공/실패/취소 모두) 큐의 다음 요청을 바로 시작한다. 스레드를 막지 않는다.
+ * 구독자가 취소하면 대기 중인 요청은 건너뛰고, 이미 시작한 요청은 원격 호출까지 취소해서 자리를 돌려준다.
+ * 큐까지 가득 차면 원격 호출 없이 overflow 결과로 즉시 완료한다. (quota 초과보다 빠른 실패가 낫다)
+ */
+final class StdictDispatcher {
+
+    private static final class Pending<T> {
+        final Supplier<Mono<T>> call;
+        final MonoSink<T> sink;
+        final long enqueuedNanos = System.nanoTime();
+        volatile boolean cancelled;
+        volatile Disposable running; // 시작한 호출의 구독 (취소 전달용)
+
+        Pending(Supplier<Mono<T>> call, MonoSink<T> sink) {
+            this.call = call;
+            this.sink = sink;
+        }
+
+        void cancel() {
+            cancelled = true;
+            Disposable subscription = running;
+            if (subscription != null) subscription.dispose();
+        }
+    }
+
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final LongConsumer queueWaitRecorder;
+
+    private final Queue<Pending<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    /** @param queueWaitRecorder 큐에서 기다린 시간(nanos) 기록 */
+    StdictDispatcher(int maxConcurrent, int queueCapacity, LongConsumer queueWaitRecorder) {
+        if (maxConcurrent <= 0) throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.queueWaitRecorder = queueWaitRecorder;
+    }
+
+    /**
+     * 자리가 나면 call 을 구독한다. 구독 시점까지 아무 것도 하지 않는다 (lazy).
+     *
+     * @param overflow 큐가 가득 찼을 때의 결과
+     */
+    <T> Mono<T> submit(Supplier<Mono<T>> call, Supplier<T> overflow) {
+        return Mono.create(sink -> {
+            if (queued.incrementAndGet() > queueCapacity && active.get() >= maxConcurrent) {
+                queued.decrementAndGet();
+                rejected.increment();
+                sink.success(overflow.get());
+                return;
+            }
+            Pending<T> pending = new Pending<>(call, sink);
+            sink.onCancel(pending::cancel);
+            queue.add(pending);
+            drain();
+        });
+    }
+
+    private void drain() {
+        while (true) {
+            int running = active.get();
+            if (running >= maxConcurrent || queue.isEmpty()) return;
+            if (!active.compareAndSet(running, running + 1)) continue;
+
+            Pending<?> pending = queue.poll();
+            if (pending == null) {
+                // 다른 스레드가 먼저 가져감: 자리를 돌려놓고 큐를 다시 확인
+                active.decrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            if (pending.cancelled) {
+                active.decrementAndGet();
+                continue;
+            }
+            start(pending);
+        }
+    }
+
+    private <T> void start(Pending<T> pending) {
+        queueWaitRecorder.accept(System.nanoTime() - pending.enqueuedNanos);
+        Mono<T> call;
+        try {
+            call = pending.call.get();
+        } catch (Throwable e) {
+            active.decrementAndGet();
+            pending.sink.error(e);
+            return;
+        }
+        // 성공/실패/취소 어느 쪽으로 끝나도 자리를 반납하고 다음 요청을 시작
+        pending.running = call.doFinally(signal -> {
+                    active.decrementAndGet();
+                    drain();
+                })
+                .subscribe(pending.sink::success, pending.sink::error, () -> pending.sink.success());
+        // 구독하는 사이에 취소됐으면 여기서 전달 (cancel 이 running 을 못 봤을 수 있음)
+        if (pending.cancelled) pending.running.dispose();
+    }
+
+    int getActiveCount() {
+        return active.get();
+    }
+
+    int getQueuedCount() {
+        return Math.max(0, queued.get());
+    }
+
+    long getRejectedCount() {
+        return rejected.sum();
+    }
+}
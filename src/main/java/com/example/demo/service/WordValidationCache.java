@@ -0,0 +1,239 @@
+package com.example.demo.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 국어원 API 검증 결과 캐시 (KoreanApiService 앞단).
+ * - 유효한 단어(positive): 뜻과 함께 길게 보관
+ * - 없는 단어(negative): 짧게 보관 (사전 갱신/일시 오류 대비)
+ * - 크기 제한: 세그먼트별 LRU (세그먼트 단위 락이라 전체 캐시를 잡는 락이 없음)
+ * - 선택적으로 종료 시 positive 항목을 파일로 저장하고, 기동 시 다시 읽어온다.
+ */
+@Component
+public class WordValidationCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${kkutu.validation-cache.max-size:50000}")
+    private int maxSize;
+    @Value("${kkutu.validation-cache.positive-ttl-ms:86400000}")
+    private long positiveTtlMillis;
+    @Value("${kkutu.validation-cache.negative-ttl-ms:300000}")
+    private long negativeTtlMillis;
+    @Value("${kkutu.validation-cache.snapshot-path:}")
+    private String snapshotPath;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public WordValidationCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        loadSnapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveSnapshot();
+    }
+
+    /**
+     * @return 캐시된 검증 결과 (isValid, definition) / 없거나 만료되면 null
+     */
+    public Map<String, Object> get(String word) {
+        if (word == null) return null;
+        Entry entry = segmentFor(word).get(word, System.currentTimeMillis());
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (!entry.valid) negativeHits.increment();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("isValid", entry.valid);
+        result.put("definition", entry.definition);
+        return result;
+    }
+
+    public void putValid(String word, String definition) {
+        if (word == null) return;
+        segmentFor(word).put(word, new Entry(true, definition, System.currentTimeMillis() + positiveTtlMillis));
+    }
+
+    public void putInvalid(String word) {
+        if (word == null) return;
+        segmentFor(word).put(word, new Entry(false, null, System.currentTimeMillis() + negativeTtlMillis));
+    }
+
+    public long getHitCount() { return hits.sum(); }
+    public long getNegativeHitCount() { return negativeHits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getEvictionCount() { return evictions.sum(); }
+    public long getExpirationCount() { return expirations.sum(); }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("size", (long) size());
+        stats.put("hits", getHitCount());
+        stats.put("negativeHits", getNegativeHitCount());
+        stats.put("misses", getMissCount());
+        stats.put("evictions", getEvictionCount());
+        stats.put("expirations", getExpirationCount());
+        return stats;
+    }
+
+    // --- 디스크 스냅샷 (positive 항목만 저장) ---
+
+    private void loadSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) return;
+        Path path = Path.of(snapshotPath);
+        if (!Files.exists(path)) return;
+
+        try {
+            List<SnapshotEntry> saved = objectMapper.readValue(path.toFile(), new TypeReference<List<SnapshotEntry>>() {});
+            long now = System.currentTimeMillis();
+            int loaded = 0;
+            for (SnapshotEntry item : saved) {
+                if (item.word == null || item.expiresAt <= now) continue;
+                segmentFor(item.word).put(item.word, new Entry(true, item.definition, item.expiresAt));
+                loaded++;
+            }
+            System.out.println("--- [VALIDATION CACHE] Snapshot loaded: " + loaded + " entries from " + path);
+        } catch (IOException e) {
+            System.err.println("!!! [VALIDATION CACHE] Snapshot load failed (" + path + "): " + e.getMessage());
+        }
+    }
+
+    private void saveSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) return;
+        Path path = Path.of(snapshotPath);
+
+        List<SnapshotEntry> items = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (Segment segment : segments) {
+            segment.collectValid(items, now);
+        }
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            objectMapper.writeValue(temp.toFile(), items);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.println("--- [VALIDATION CACHE] Snapshot saved: " + items.size() + " entries to " + path);
+        } catch (IOException e) {
+            System.err.println("!!! [VALIDATION CACHE] Snapshot save failed (" + path + "): " + e.getMessage());
+        }
+    }
+
+    private Segment segmentFor(String word) {
+        int h = word.hashCode();
+        return segments[(h ^ (h >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    private final class Segment {
+        private final LinkedHashMap<String, Entry> map = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > Math.max(1, maxSize / SEGMENT_COUNT)) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        synchronized Entry get(String word, long now) {
+            Entry entry = map.get(word);
+            if (entry != null && entry.expiresAt <= now) {
+                map.remove(word);
+                expirations.increment();
+                return null;
+            }
+            return entry;
+        }
+
+        synchronized void put(String word, Entry entry) {
+            map.put(word, entry);
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        synchronized void collectValid(List<SnapshotEntry> out, long now) {
+            for (Map.Entry<String, Entry> e : map.entrySet()) {
+                Entry entry = e.getValue();
+                if (entry.valid && entry.expiresAt > now) {
+                    out.add(new SnapshotEntry(e.getKey(), entry.definition, entry.expiresAt));
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final boolean valid;
+        private final String definition;
+        private final long expiresAt;
+
+        private Entry(boolean valid, String definition, long expiresAt) {
+            this.valid = valid;
+            this.definition = definition;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // Jackson 직렬화용 (디스크 스냅샷 한 줄)
+    public static class SnapshotEntry {
+        public String word;
+        public String definition;
+        public long expiresAt;
+
+        public SnapshotEntry() {
+        }
+
+        SnapshotEntry(String word, String definition, long expiresAt) {
+            this.word = word;
+            this.definition = definition;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
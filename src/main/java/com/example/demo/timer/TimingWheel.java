@@ -0,0 +1,217 @@
+package com.example.demo.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 해시 타이밍 휠 (hashed timing wheel). 스레드 하나로 수십만 개의 마감 시간을 관리한다.
+ *
+ * - wheelSize 개의 칸(bucket)이 tick 마다 한 칸씩 돈다. 마감이 한 바퀴보다 멀면 remainingRounds 로 센다.
+ * - schedule / cancel 은 큐에 넣기만 하는 O(1). 칸에 넣고 빼는 것은 모두 휠 스레드가 다음 tick 에 한다.
+ *   (칸은 이중 연결 리스트라 취소된 항목도 바로 빠진다 → 턴마다 취소해도 쓰레기가 쌓이지 않음)
+ * - 만료된 작업은 휠 스레드에서 바로 실행되므로 짧아야 한다. (방 mailbox 에 작업을 넣는 정도)
+ * 정밀도는 tick 단위 (마감보다 최대 1 tick 늦게 실행).
+ */
+public final class TimingWheel {
+
+    // 한 tick 에 칸으로 옮길 최대 새 항목 수 (폭주 시 휠이 밀리지 않도록)
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    public static final class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final long deadline; // 휠 시작 기준 nanos
+        private volatile int state = INIT;
+
+        // 아래는 휠 스레드만 사용
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /** @return 이미 실행됐거나 취소됐으면 false */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, INIT, CANCELLED)) return false;
+            wheel.cancelled.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        Timeout remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) timeout.prev.next = next;
+            if (next != null) next.prev = timeout.prev;
+            if (timeout == head) head = next;
+            if (timeout == tail) tail = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+    }
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * @param tickMillis 칸 하나의 시간 (정밀도)
+     * @param wheelSize 칸 수 (2의 거듭제곱으로 올림). tickMillis * wheelSize 가 한 바퀴
+     */
+    public TimingWheel(String name, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /** delayMillis 뒤에 task 를 휠 스레드에서 실행 */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        added.add(timeout);
+        return timeout;
+    }
+
+    /** 아직 실행/취소 처리되지 않은 항목 수 */
+    public long pending() {
+        return pending.get();
+    }
+
+    public long expiredCount() {
+        return expiredCount.get();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long tickDeadline = tickNanos * (tick + 1);
+            if (!sleepUntil(tickDeadline)) break;
+            removeCancelled();
+            transferAdded();
+            expire(wheel[(int) (tick & mask)], tickDeadline);
+            tick++;
+        }
+    }
+
+    private boolean sleepUntil(long tickDeadline) {
+        while (true) {
+            long sleepNanos = tickDeadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) return true;
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) return false;
+            }
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            // 칸에 들어가기 전에 취소된 항목은 transferAdded 에서 버려진다
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    private void transferAdded() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = added.poll();
+            if (timeout == null) return;
+            if (timeout.state == Timeout.CANCELLED) {
+                pending.decrementAndGet();
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 마감은 이번 칸에 넣어 바로 실행
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Bucket bucket, long tickDeadline) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next;
+            if (timeout.remainingRounds <= 0) {
+                next = bucket.remove(timeout);
+                pending.decrementAndGet();
+                if (timeout.deadline <= tickDeadline && Timeout.STATE.compareAndSet(timeout, Timeout.INIT, Timeout.EXPIRED)) {
+                    expiredCount.incrementAndGet();
+                    try {
+                        timeout.task.run();
+                    } catch (Throwable t) {
+                        System.err.println("!!! [TIMING WHEEL] Task failed: " + t.getMessage());
+                    }
+                }
+            } else {
+                timeout.remainingRounds--;
+                next = timeout.next;
+            }
+            timeout = next;
+        }
+    }
+}
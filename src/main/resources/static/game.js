@@ -158,36 +158,114 @@ async function loadRooms() {
         const response = await fetch('/KKUTU/api/rooms');
         if (!response.ok) throw new Error("서버 응답 오류");
         const rooms = await response.json();
+        renderRoomList(rooms);
 
-        list.innerHTML = '';
-        if (!rooms || rooms.length === 0) {
-            list.innerHTML = '<li style="padding:20px; text-align:center;">개설된 방이 없습니다.</li>';
-        } else {
-            rooms.forEach(room => {
-                const li = document.createElement('li');
-                li.className = 'room-item';
-                li.innerHTML = `
-                    <span style="font-weight:600;">${room.roomName || '방'}</span>
-                    <button class="btn-default" onclick="joinExistingRoom('${room.roomId}')">참가</button>
-                `;
-                list.appendChild(li);
-            });
-        }
+        // 이후 변경은 로비 피드로 받는다 (샤딩 모드면 피드는 이 노드 방만 알기 때문에 REST 목록 유지)
+        if (!rooms.some(room => room.ownerUrl)) connectLobby();
     } catch (error) {
         console.error(error);
         list.innerHTML = '<li style="padding:20px; text-align:center; color:red;">목록 로드 실패</li>';
     }
 }
 
+function renderRoomList(rooms) {
+    const list = getEl('room-list');
+    if(!list) return;
+
+    list.innerHTML = '';
+    if (!rooms || rooms.length === 0) {
+        list.innerHTML = '<li style="padding:20px; text-align:center;">개설된 방이 없습니다.</li>';
+        return;
+    }
+    rooms.forEach(room => {
+        const li = document.createElement('li');
+        li.className = 'room-item';
+        li.innerHTML = `
+            <span style="font-weight:600;">${room.roomName || '방'} <small>(${room.currentPlayerCount}/${room.maxPlayers})</small></span>
+            <button class="btn-default" onclick="joinExistingRoom('${room.roomId}', '${room.ownerUrl || ''}')">참가</button>
+        `;
+        list.appendChild(li);
+    });
+}
+
+// --- 로비 피드: 구독 시 SNAPSHOT 1회 (/app/lobby) + 이후 바뀐 방만 DIFF (/topic/lobby) ---
+window.lobbyClient = null;
+window.lobbyRooms = new Map();
+window.lobbyVersion = -1;
+
+function connectLobby() {
+    if (window.lobbyClient) return;
+
+    const client = Stomp.over(new SockJS('/KKUTU/ws'));
+    client.debug = null;
+    window.lobbyClient = client;
+
+    client.connect({}, () => {
+        let pendingDiffs = [];
+        window.lobbyVersion = -1;
+
+        // DIFF 를 먼저 구독해야 SNAPSHOT 과 DIFF 사이에 빠지는 변경이 없다
+        client.subscribe('/topic/lobby', (message) => {
+            const diff = JSON.parse(message.body);
+            if (window.lobbyVersion < 0) {
+                pendingDiffs.push(diff); // 아직 SNAPSHOT 전
+                return;
+            }
+            applyLobbyDiff(diff);
+        });
+
+        const requestSnapshot = () => {
+            window.lobbyVersion = -1;
+            const subscription = client.subscribe('/app/lobby', (message) => {
+                subscription.unsubscribe();
+                const snapshot = JSON.parse(message.body);
+                window.lobbyRooms = new Map((snapshot.rooms || []).map(room => [room.roomId, room]));
+                window.lobbyVersion = snapshot.version;
+                const buffered = pendingDiffs;
+                pendingDiffs = [];
+                buffered.forEach(applyLobbyDiff);
+                renderRoomList([...window.lobbyRooms.values()]);
+            });
+        };
+        window.requestLobbySnapshot = requestSnapshot;
+        requestSnapshot();
+    }, () => {
+        // 피드가 끊기면 다음 loadRooms (새로고침 버튼 등) 때 다시 연결
+        window.lobbyClient = null;
+    });
+}
+
+function applyLobbyDiff(diff) {
+    if (diff.version <= window.lobbyVersion) return; // SNAPSHOT 에 이미 반영됨
+    if (diff.version !== window.lobbyVersion + 1) {
+        // 중간 DIFF 를 놓쳤으면 SNAPSHOT 부터 다시
+        if (window.requestLobbySnapshot) window.requestLobbySnapshot();
+        return;
+    }
+    (diff.rooms || []).forEach(room => window.lobbyRooms.set(room.roomId, room));
+    (diff.removed || []).forEach(roomId => window.lobbyRooms.delete(roomId));
+    window.lobbyVersion = diff.version;
+    renderRoomList([...window.lobbyRooms.values()]);
+}
+
+function disconnectLobby() {
+    if (!window.lobbyClient) return;
+    try { window.lobbyClient.disconnect(); } catch (e) {}
+    window.lobbyClient = null;
+    window.lobbyVersion = -1;
+}
+
 // --- 방 생성 ---
 async function createRoom() {
     const nameInput = getEl('roomName');
     const maxInput = getEl('maxPlayers');
     const botInput = getEl('botCount');
+    const difficultyInput = getEl('botDifficulty');
 
     const roomName = nameInput ? nameInput.value.trim() : "새로운 방";
     const maxPlayers = maxInput ? parseInt(maxInput.value, 10) : 8;
     const botCount = botInput ? parseInt(botInput.value, 10) : 0;
+    const botDifficulty = difficultyInput ? difficultyInput.value : 'NORMAL';
 
     if (!roomName) return showAlert("방 제목을 입력하세요.");
 
@@ -195,12 +273,13 @@ async function createRoom() {
         const response = await fetch('/KKUTU/api/rooms', {
             method: 'POST',
             headers: { 'Content-Type': 'application/json' },
-            body: JSON.stringify({ roomName, maxPlayers, botCount })
+            body: JSON.stringify({ roomName, maxPlayers, botCount, botDifficulty })
         });
         if (!response.ok) throw new Error("생성 실패");
         const room = await response.json();
 
         window.currentRoomId = room.roomId;
+        window.currentOwnerUrl = room.ownerUrl || null; // 샤딩 모드: 방이 있는 노드
         connectAndJoin(window.myUid, window.myNickname);
     } catch (error) {
         console.error(error); // 에러 로그 추가
@@ -208,15 +287,17 @@ async function createRoom() {
     }
 }
 
-function joinExistingRoom(roomId) {
+function joinExistingRoom(roomId, ownerUrl) {
     if (!window.myNickname) return showAlert("닉네임이 없습니다.");
     window.currentRoomId = roomId;
+    window.currentOwnerUrl = ownerUrl || null;
     connectAndJoin(window.myUid, window.myNickname);
 }
 
 // --- 웹소켓 연결 ---
 function connectAndJoin(uid, nickname) {
     if (window.stompClient && window.stompClient.connected) return;
+    disconnectLobby(); // 게임 중에는 로비 피드 불필요
 
     // 화면 전환 로직 (기존 유지)
     const lobby = document.getElementById('lobby');
@@ -229,13 +310,15 @@ function connectAndJoin(uid, nickname) {
     if(gameRoom) gameRoom.classList.remove('hidden');
     if(roomTitle) roomTitle.innerText = `Room: ${window.currentRoomId}`;
 
-    clearLogs();
+    if (!window.reconnectAttempts) clearLogs(); // 재연결이면 대화 기록 유지
 
-    const socket = new SockJS('/KKUTU/ws');
+    // 샤딩 모드면 방을 가진 노드에 직접 연결 (단일 노드면 ownerUrl 없음)
+    const socket = new SockJS(window.currentOwnerUrl ? `${window.currentOwnerUrl}/ws` : '/KKUTU/ws');
     window.stompClient = Stomp.over(socket);
     window.stompClient.debug = null;
 
     window.stompClient.connect({}, () => {
+        window.reconnectAttempts = 0;
         showChat('SYSTEM', '서버에 연결되었습니다.');
 
         window.stompClient.subscribe(`/topic/game-room/${window.currentRoomId}`, (message) => {
@@ -245,22 +328,20 @@ function connectAndJoin(uid, nickname) {
             let data = null;
             try { if(body.startsWith('{')) data = JSON.parse(body); } catch(e){}
 
-            // 1. JSON 형태의 메시지 처리 (완벽한 채팅/게임오버)
-            if (data) {
-                if (data.type === 'TURN_CHANGE') {
-                    handleTurnChange(data.nextPlayer);
-                    showChat('SYSTEM', `👉 다음 턴: ${data.nextPlayer}`);
-                    return;
-                }
-                if (data.type === 'GAME_OVER') {
-                    showChat('SYSTEM', `🏆 게임 종료! 승자: ${data.winner}`);
-                    fireConfetti();
-                    return;
-                }
-                if (data.sender && data.content) {
-                    showChat(data.sender, data.content);
-                    return;
-                }
+            // 0. 한 턴에 나온 이벤트 묶음 (kkutu.broadcast.batch-mode) - 순서대로 처리
+            if (data && data.type === 'BATCH') {
+                (data.events || []).forEach(handleGameEvent);
+                return;
+            }
+
+            // 1. 타입이 있는 게임 이벤트 (서버 표준 프로토콜)
+            if (data && data.type) {
+                handleGameEvent(data);
+                return;
+            }
+            if (data && data.sender && data.content) {
+                showChat(data.sender, data.content);
+                return;
             }
 
             // 2. 텍스트 형태의 메시지 분석 (여기가 핵심!)
@@ -285,12 +366,88 @@ function connectAndJoin(uid, nickname) {
             }
         });
 
+        // 입장/재접속 직후 서버가 본인에게만 보내는 현재 방 상태 (끊긴 사이 놓친 방송 대신)
+        window.stompClient.subscribe('/user/queue/state', (message) => {
+            applyRoomState(JSON.parse(message.body));
+        });
+        window.stompClient.subscribe('/user/queue/errors', (message) => {
+            showChat('SYSTEM', message.body);
+        });
+
         window.stompClient.send(`/app/game/${window.currentRoomId}/join`, {}, JSON.stringify({ uid, nickname }));
     }, (err) => {
         console.error(err);
+        // 서버 재시작 중이면 잠시 후 같은 방으로 다시 입장 (서버가 스냅샷으로 방을 복구해 자리를 유지해 둔다)
+        if (window.currentRoomId && (window.reconnectAttempts || 0) < 10) {
+            window.reconnectAttempts = (window.reconnectAttempts || 0) + 1;
+            window.stompClient = null;
+            showChat('SYSTEM', `연결이 끊어졌습니다. 다시 연결하는 중... (${window.reconnectAttempts})`);
+            setTimeout(() => {
+                if (window.currentRoomId) connectAndJoin(uid, nickname);
+            }, 2000);
+            return;
+        }
+        window.reconnectAttempts = 0;
         exitRoom();
     });
 }
+// --- 방 상태 (입장/재접속 시 1회) ---
+function applyRoomState(state) {
+    if (!state) return;
+    const names = (state.players || []).map(p => p.bot ? `${p.nickname}(봇)` : p.nickname).join(', ');
+    showChat('SYSTEM', `현재 인원 ${(state.players || []).length}/${state.maxPlayers}: ${names}`);
+    if (state.lastWord) showChat('SYSTEM', `마지막 단어: ${state.lastWord}`);
+    if (state.currentPlayer) handleTurnChange(state.currentPlayer);
+}
+
+// --- 게임 이벤트 처리 (type 기반, 텍스트 파싱 없음) ---
+function handleGameEvent(event) {
+    switch (event.type) {
+        case 'GAME_START':
+            showChat('SYSTEM', event.text || `게임 시작! 첫 턴은 ${event.nextPlayer}님입니다.`);
+            handleTurnChange(event.nextPlayer);
+            break;
+        case 'TURN_CHANGE':
+            handleTurnChange(event.nextPlayer);
+            showChat('SYSTEM', event.text || `👉 다음 턴: ${event.nextPlayer}`);
+            break;
+        case 'WORD_ACCEPTED': {
+            const prefix = event.previousWord ? `${event.previousWord} -> ` : '';
+            showChat(event.player || 'SYSTEM', event.text || `${prefix}${event.word} (성공! 뜻: ${event.definition || '정보 없음'})`);
+            if (event.nextPlayer) {
+                handleTurnChange(event.nextPlayer);
+                showChat('SYSTEM', `👉 다음 턴: ${event.nextPlayer}`);
+            }
+            break;
+        }
+        case 'WORD_REJECTED':
+            if (event.degraded) {
+                showChat(event.player || 'SYSTEM', event.text || `'${event.word}' (은)는 지금 확인할 수 없는 단어입니다. (사전 서버 장애, 실패로 세지 않음)`);
+            } else {
+                showChat(event.player || 'SYSTEM', event.text || `'${event.word}' (은)는 유효하지 않은 단어입니다. (실패: ${event.failures}/${event.maxFailures})`);
+            }
+            break;
+        case 'GAME_OVER':
+            showChat('SYSTEM', `🏆 게임 종료! 승자: ${event.winner}`);
+            fireConfetti();
+            break;
+        case 'TURN_PASSED':
+            showChat('SYSTEM', event.text || `${event.player}님이 턴을 포기했습니다.`);
+            break;
+        case 'PLAYER_ELIMINATED':
+            showChat('SYSTEM', event.text || `${event.player}님이 탈락했습니다. (${event.reason}) 남은 인원: ${event.playerCount}명`);
+            break;
+        case 'PLAYER_LEFT':
+            showChat('SYSTEM', event.text || `${event.player}님이 퇴장했습니다. 남은 인원: ${event.playerCount}명`);
+            break;
+        case 'PLAYER_JOINED':
+            showChat('SYSTEM', event.text || `새로운 유저 입장: ${event.player} (현재 인원: ${event.playerCount}/${event.maxPlayers})`);
+            break;
+        default:
+            showChat('SYSTEM', event.text || event.type);
+    }
+}
+
 function sendWord() {
     const input = getEl('wordInput');
     if(!input) return;
@@ -315,6 +472,10 @@ function forfeitTurn() {
 }
 function exitRoom() {
     if (window.stompClient) {
+        // 직접 나가는 경우는 재접속 유예 없이 바로 퇴장
+        if (window.stompClient.connected && window.currentRoomId) {
+            window.stompClient.send(`/app/game/${window.currentRoomId}/leave`, {}, JSON.stringify({ uid: window.myUid }));
+        }
         window.stompClient.disconnect();
         window.stompClient = null;
     }
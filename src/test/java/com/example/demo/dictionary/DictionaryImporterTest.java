@@ -0,0 +1,121 @@
+package com.example.demo.dictionary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DictionaryImporterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void normalizeWordStripsHomonymNumberAndAlias() {
+        assertEquals("가격", DictionaryImporter.normalizeWord("가격03"));
+        assertEquals("도쿄", DictionaryImporter.normalizeWord("도쿄(동경)"));
+        assertEquals("도쿄", DictionaryImporter.normalizeWord("도쿄 (동경)"));
+        assertEquals("사과", DictionaryImporter.normalizeWord("  사과  "));
+    }
+
+    @Test
+    void normalizeWordRemovesHeadwordMarks() {
+        assertEquals("먹이", DictionaryImporter.normalizeWord("먹-이"));
+        assertEquals("가다", DictionaryImporter.normalizeWord("-가^다-"));
+        assertEquals("나무꾼", DictionaryImporter.normalizeWord("나무-꾼02"));
+    }
+
+    @Test
+    void normalizeWordKeepsDigitsInsideAndLeadingParen() {
+        // 끝의 숫자만 동형어 번호, 중간 숫자는 단어의 일부
+        assertEquals("3D프린터", DictionaryImporter.normalizeWord("3D프린터"));
+        // 괄호로 시작하면 별칭이 아니다
+        assertEquals("(주)", DictionaryImporter.normalizeWord("(주)"));
+        assertEquals("", DictionaryImporter.normalizeWord("01"));
+        assertEquals("", DictionaryImporter.normalizeWord("   "));
+    }
+
+    @Test
+    void normalizePartExpandsAbbreviations() {
+        assertEquals(WordDictionary.NOUN_PART, DictionaryImporter.normalizePart("명"));
+        assertEquals("동사", DictionaryImporter.normalizePart(" 동 "));
+        assertEquals("명사·관형사", DictionaryImporter.normalizePart("명사·관형사"));
+    }
+
+    @Test
+    void splitCsvLineHandlesQuotedCommasAndEscapedQuotes() {
+        List<String> fields = new ArrayList<>();
+
+        assertTrue(DictionaryImporter.splitCsvLine("1,사과,명,\"열매, 먹는 것\",초급", fields));
+        assertEquals(List.of("1", "사과", "명", "열매, 먹는 것", "초급"), fields);
+
+        assertTrue(DictionaryImporter.splitCsvLine("2,인용,명,\"\"\"따옴표\"\" 안\",", fields));
+        assertEquals(List.of("2", "인용", "명", "\"따옴표\" 안", ""), fields);
+    }
+
+    @Test
+    void splitCsvLineKeepsEmptyFields() {
+        List<String> fields = new ArrayList<>();
+
+        assertTrue(DictionaryImporter.splitCsvLine(",단어,,,", fields));
+        assertEquals(List.of("", "단어", "", "", ""), fields);
+
+        assertTrue(DictionaryImporter.splitCsvLine("", fields));
+        assertEquals(List.of(""), fields);
+    }
+
+    @Test
+    void splitCsvLineDropsLeadingBom() {
+        List<String> fields = new ArrayList<>();
+
+        assertTrue(DictionaryImporter.splitCsvLine("\uFEFF순위,단어,품사", fields));
+        assertEquals(List.of("순위", "단어", "품사"), fields);
+    }
+
+    @Test
+    void splitCsvLineReportsUnterminatedQuote() {
+        List<String> fields = new ArrayList<>();
+
+        assertFalse(DictionaryImporter.splitCsvLine("3,바다,명,\"넓고 큰", fields));
+        assertTrue(DictionaryImporter.splitCsvLine("3,바다,명,\"넓고 큰\n물\",", fields));
+        assertEquals("넓고 큰\n물", fields.get(3));
+    }
+
+    @Test
+    void parseJoinsMultilineRowsAndKeepsBestRankedDuplicate() throws IOException {
+        Path csv = dir.resolve("words.csv");
+        Files.writeString(csv, String.join("\n",
+                "\uFEFF순위,단어,품사,풀이,등급",
+                "5,가격03,명,\"물건의\n값\",초급",
+                "2,가격01,명,값,",
+                "9,가격,동,,",
+                ",01,명,,",
+                "",
+                "7,나무"), StandardCharsets.UTF_8);
+
+        DictionaryImporter.ParseResult result = DictionaryImporter.parse(csv);
+
+        assertEquals(5, result.rowsRead);
+        assertEquals(2, result.skipped);
+        assertEquals(1, result.duplicates);
+        assertEquals(2, result.entries.size());
+
+        DictionaryImporter.Entry noun = result.entries.get("가격\t" + WordDictionary.NOUN_PART);
+        assertEquals(2, noun.rank);
+        assertEquals("값", noun.definition);
+        assertNull(noun.grade);
+
+        DictionaryImporter.Entry verb = result.entries.get("가격\t동사");
+        assertNull(verb.definition);
+    }
+}
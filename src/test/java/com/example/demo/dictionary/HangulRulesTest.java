@@ -0,0 +1,136 @@
+package com.example.demo.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulRulesTest {
+
+    // 표 이전의 GameRoomService.getAlternativeStartChar (초성/중성/종성 분해 + indexOf) 그대로 (baselineAlternative)
+    private static final char[] CHOSEONG_LIST = { 'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
+    private static final char[] JUNGSEONG_LIST = { 'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ' };
+
+    @Test
+    void alternativeTableMatchesJamoFormulaForEverySyllable() {
+        for (int index = 0; index < HangulRules.SYLLABLE_COUNT; index++) {
+            char c = (char) (HangulRules.SYLLABLE_BASE + index);
+            String expected = baselineAlternative(String.valueOf(c));
+            char actual = HangulRules.alternativeOf(c);
+            assertEquals(expected, actual == HangulRules.NONE ? null : String.valueOf(actual), "syllable " + c);
+        }
+    }
+
+    @Test
+    void chainsFromMatchesStartsWithRuleForEverySyllable() {
+        for (int index = 0; index < HangulRules.SYLLABLE_COUNT; index++) {
+            char last = (char) (HangulRules.SYLLABLE_BASE + index);
+            String previous = "가" + last;
+            String alternative = baselineAlternative(String.valueOf(last));
+            // 같은 글자, 대체 글자, 관계없는 글자(다음 음절)로 시작하는 단어
+            String[] words = {last + "다", (alternative != null ? alternative : "가") + "다",
+                    (char) (last + 1) + "다"};
+            for (String word : words) {
+                boolean expected = word.startsWith(String.valueOf(last))
+                        || (alternative != null && word.startsWith(alternative));
+                assertEquals(expected, HangulRules.chainsFrom(previous, word), previous + " -> " + word);
+            }
+        }
+    }
+
+    @Test
+    void nieunFamilyBecomesIeungOnlyBeforeIVowels() {
+        assertAlternative('녀', '여');
+        assertAlternative('뇨', '요');
+        assertAlternative('뉴', '유');
+        assertAlternative('니', '이');
+        assertAlternative('녜', '예');
+        assertAlternative('년', '연'); // 받침 유지
+        assertAlternative('나', HangulRules.NONE);
+        assertAlternative('누', HangulRules.NONE);
+        assertAlternative('뉘', HangulRules.NONE); // ㅟ 는 ㄹ 에만 해당
+    }
+
+    @Test
+    void rieulFamilyBecomesIeungBeforeIVowelsAndNieunOtherwise() {
+        assertAlternative('랴', '야');
+        assertAlternative('려', '여');
+        assertAlternative('례', '예');
+        assertAlternative('료', '요');
+        assertAlternative('류', '유');
+        assertAlternative('리', '이');
+        assertAlternative('뤼', '위');
+        assertAlternative('력', '역');
+
+        assertAlternative('라', '나');
+        assertAlternative('래', '내');
+        assertAlternative('로', '노');
+        assertAlternative('뢰', '뇌');
+        assertAlternative('루', '누');
+        assertAlternative('르', '느');
+        assertAlternative('락', '낙');
+    }
+
+    @Test
+    void otherInitialsHaveNoAlternative() {
+        assertAlternative('가', HangulRules.NONE);
+        assertAlternative('이', HangulRules.NONE);
+        assertAlternative('힣', HangulRules.NONE);
+    }
+
+    @Test
+    void chainsFromHandlesMissingWords() {
+        // 첫 단어는 아무 글자로나 시작할 수 있다
+        assertTrue(HangulRules.chainsFrom(null, "사과"));
+        assertTrue(HangulRules.chainsFrom("", "사과"));
+        assertFalse(HangulRules.chainsFrom("사과", null));
+        assertFalse(HangulRules.chainsFrom("사과", ""));
+        assertTrue(HangulRules.chainsFrom("역사", "사과"));
+        assertTrue(HangulRules.chainsFrom("노력", "역사"));
+        assertFalse(HangulRules.chainsFrom("역사", "과자"));
+    }
+
+    @Test
+    void nonHangulLastCharacterOnlyChainsToItself() {
+        assertEquals(HangulRules.NONE, HangulRules.alternativeOf('a'));
+        assertEquals(HangulRules.NONE, HangulRules.alternativeOf('ㄹ')); // 호환용 자모는 음절이 아님
+        assertEquals(HangulRules.NONE, HangulRules.alternativeOf((char) (HangulRules.SYLLABLE_BASE - 1)));
+        assertEquals(HangulRules.NONE, HangulRules.alternativeOf((char) (HangulRules.SYLLABLE_BASE + HangulRules.SYLLABLE_COUNT)));
+        assertNull(baselineAlternative("a"));
+
+        assertTrue(HangulRules.chainsFrom("TV", "V라인"));
+        assertFalse(HangulRules.chainsFrom("TV", "비디오"));
+        assertFalse(HangulRules.chainsFrom("사과1", "일"));
+    }
+
+    private static void assertAlternative(char syllable, char expected) {
+        assertEquals(expected, HangulRules.alternativeOf(syllable), "alternative of " + syllable);
+    }
+
+    private static String baselineAlternative(String lastCharStr) {
+        if (lastCharStr == null || lastCharStr.length() != 1) return null;
+        char lastChar = lastCharStr.charAt(0);
+        if (lastChar < 0xAC00 || lastChar > 0xD7A3) return null;
+        int base = lastChar - 0xAC00;
+        int choseongIndex = base / (21 * 28);
+        int jungseongIndex = (base % (21 * 28)) / 28;
+        int jongseongIndex = base % 28;
+        char choseong = CHOSEONG_LIST[choseongIndex];
+        if (choseong != 'ㄹ' && choseong != 'ㄴ') return null;
+        char jungseong = JUNGSEONG_LIST[jungseongIndex];
+        int newChoseongIndex = -1;
+        if (choseong == 'ㄹ') {
+            if ("ㅣㅑㅕㅖㅛㅠㅟ".indexOf(jungseong) >= 0) newChoseongIndex = 11; // 'ㅇ'
+            else newChoseongIndex = 2; // 'ㄴ'
+        } else if (choseong == 'ㄴ') {
+            if ("ㅣㅑㅕㅖㅛㅠ".indexOf(jungseong) >= 0) newChoseongIndex = 11; // 'ㅇ'
+        }
+        if (newChoseongIndex != -1) {
+            int newCharBase = (newChoseongIndex * 21 * 28) + (jungseongIndex * 28) + jongseongIndex;
+            return String.valueOf((char) (0xAC00 + newCharBase));
+        }
+        return null;
+    }
+}
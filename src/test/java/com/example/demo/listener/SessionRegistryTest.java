@@ -0,0 +1,137 @@
+package com.example.demo.listener;
+
+import com.example.demo.service.GameRoomService;
+import com.example.demo.timer.TimingWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class SessionRegistryTest {
+
+    private static final long GRACE_MILLIS = 50;
+
+    private final TimingWheel timingWheel = new TimingWheel("test-wheel", 10, 64);
+    private final GameRoomService gameRoomService = mock(GameRoomService.class);
+    private SessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SessionRegistry(gameRoomService, timingWheel);
+        ReflectionTestUtils.setField(registry, "reconnectGraceMillis", GRACE_MILLIS);
+    }
+
+    @AfterEach
+    void stopWheel() {
+        timingWheel.stop();
+    }
+
+    @Test
+    void resumeBeforeExpiryKeepsSeat() {
+        registry.bind("s1", "u1", "R1");
+        registry.sessionClosed("s1");
+        assertTrue(registry.isAwaitingReconnect("u1"));
+        assertEquals(Set.of("u1"), registry.uidsInRoom("R1"));
+
+        assertTrue(registry.bind("s2", "u1", "R1"));
+        assertFalse(registry.isAwaitingReconnect("u1"));
+
+        // 유예 시간이 지나도 타이머가 취소돼서 퇴장 처리가 없다
+        verify(gameRoomService, after(GRACE_MILLIS * 4).never()).handlePlayerDisconnect(anyString(), anyString(), any());
+        verify(gameRoomService, never()).handlePlayerDisconnect(anyString(), anyString());
+        assertEquals(0, registry.getExpiredCount());
+        assertEquals(1, registry.getResumedCount());
+        assertEquals("R1", registry.roomOf("u1"));
+    }
+
+    @Test
+    void graceExpiringAfterResumeButBeforeBindKeepsSeat() {
+        registry.bind("s1", "u1", "R1");
+        registry.sessionClosed("s1");
+
+        // 유예 만료: 퇴장 작업이 방 mailbox 에 들어간다 (아직 실행 전)
+        ArgumentCaptor<BooleanSupplier> stillAbsent = ArgumentCaptor.forClass(BooleanSupplier.class);
+        verify(gameRoomService, timeout(1000)).handlePlayerDisconnect(eq("R1"), eq("u1"), stillAbsent.capture());
+        assertEquals(1, registry.getExpiredCount());
+        assertNull(registry.roomOf("u1"));
+
+        // 그 앞의 mailbox 작업(재입장 RESUMED)이 세션을 다시 묶는다 → 퇴장 작업은 자리를 지우지 않아야 한다
+        registry.bind("s2", "u1", "R1");
+        assertFalse(stillAbsent.getValue().getAsBoolean());
+        assertEquals(Set.of("u1"), registry.uidsInRoom("R1"));
+    }
+
+    @Test
+    void graceExpiringWithoutResumeRemovesPlayer() {
+        registry.bind("s1", "u1", "R1");
+        registry.sessionClosed("s1");
+
+        ArgumentCaptor<BooleanSupplier> stillAbsent = ArgumentCaptor.forClass(BooleanSupplier.class);
+        verify(gameRoomService, timeout(1000)).handlePlayerDisconnect(eq("R1"), eq("u1"), stillAbsent.capture());
+        assertTrue(stillAbsent.getValue().getAsBoolean());
+        assertFalse(registry.isAwaitingReconnect("u1"));
+        assertEquals(Set.of(), registry.uidsInRoom("R1"));
+    }
+
+    @Test
+    void explicitLeaveSkipsGracePeriod() {
+        registry.bind("s1", "u1", "R1");
+        registry.leave("s1");
+
+        // 타이머를 기다리지 않고 바로 퇴장
+        ArgumentCaptor<BooleanSupplier> stillAbsent = ArgumentCaptor.forClass(BooleanSupplier.class);
+        verify(gameRoomService).handlePlayerDisconnect(eq("R1"), eq("u1"), stillAbsent.capture());
+        assertTrue(stillAbsent.getValue().getAsBoolean());
+        assertFalse(registry.isAwaitingReconnect("u1"));
+        assertEquals(0, registry.getSessionCount());
+        assertEquals(Set.of(), registry.uidsInRoom("R1"));
+
+        // 뒤늦은 세션 종료 이벤트는 아무 것도 하지 않는다
+        registry.sessionClosed("s1");
+        assertFalse(registry.isAwaitingReconnect("u1"));
+    }
+
+    @Test
+    void secondSessionForSameUidReplacesFirst() {
+        registry.bind("s1", "u1", "R1");
+        assertTrue(registry.bind("s2", "u1", "R1"));
+
+        assertNull(registry.bindingOf("s1"));
+        assertEquals("s2", registry.bindingOf("s2").getSessionId());
+        assertEquals(1, registry.getSessionCount());
+
+        // 이전 세션의 종료 이벤트가 늦게 와도 새 세션의 자리는 그대로
+        registry.sessionClosed("s1");
+        assertFalse(registry.isAwaitingReconnect("u1"));
+        verify(gameRoomService, after(GRACE_MILLIS * 4).never()).handlePlayerDisconnect(anyString(), anyString(), any());
+        assertEquals("R1", registry.roomOf("u1"));
+    }
+
+    @Test
+    void secondSessionInAnotherRoomLeavesThePreviousRoom() {
+        registry.bind("s1", "u1", "R1");
+        assertFalse(registry.bind("s2", "u1", "R2"));
+
+        verify(gameRoomService).handlePlayerDisconnect("R1", "u1");
+        assertEquals(Set.of(), registry.uidsInRoom("R1"));
+        assertEquals(Set.of("u1"), registry.uidsInRoom("R2"));
+        assertEquals("R2", registry.roomOf("u1"));
+    }
+}
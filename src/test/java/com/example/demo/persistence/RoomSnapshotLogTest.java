@@ -0,0 +1,174 @@
+package com.example.demo.persistence;
+
+import com.example.demo.DTO.GameRoom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomSnapshotLogTest {
+
+    private static final int CAPACITY = 4096;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysLastStateAndWordsAfterReopen() throws IOException {
+        Path file = dir.resolve("rooms.log");
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            GameRoom room = room("R1");
+            log.appendState(room);
+            log.appendWord("R1", "사과");
+            room.setLastWord("과자");
+            log.appendState(room);
+            log.appendWord("R1", "과자");
+            log.force();
+        }
+
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            List<RoomSnapshot> rooms = log.rooms();
+            assertEquals(1, rooms.size());
+            RoomSnapshot snapshot = rooms.get(0);
+            assertEquals("R1", snapshot.getRoomId());
+            assertEquals("과자", snapshot.getLastWord());
+            assertEquals(List.of("사과", "과자"), snapshot.getUsedWords());
+            assertEquals(2, snapshot.getPlayers().size());
+        }
+    }
+
+    @Test
+    void stopsReplayAtTornRecordAndKeepsAppending() throws IOException {
+        Path file = dir.resolve("rooms.log");
+        int tail;
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            log.appendState(room("R1"));
+            log.appendWord("R1", "사과");
+            tail = log.position();
+            log.force();
+        }
+
+        // 길이까지 쓰였지만 본문이 덜 쓰인 레코드 (CRC 불일치) + 그 뒤의 쓰레기
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer torn = ByteBuffer.allocate(64);
+            torn.putInt(40).putInt(0x12345678);
+            while (torn.hasRemaining()) torn.put((byte) 0x7F);
+            torn.flip();
+            channel.write(torn, tail);
+        }
+
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            assertEquals(tail, log.position());
+            assertEquals(List.of("사과"), log.rooms().get(0).getUsedWords());
+            log.appendWord("R1", "과일");
+            log.force();
+        }
+
+        // 깨진 레코드 자리에 새로 쓴 레코드가 다음 replay 에서 읽혀야 한다
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            assertEquals(List.of("사과", "과일"), log.rooms().get(0).getUsedWords());
+        }
+    }
+
+    @Test
+    void ignoresRecordWhoseLengthRunsPastTheFile() throws IOException {
+        Path file = dir.resolve("rooms.log");
+        int tail;
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            log.appendState(room("R1"));
+            tail = log.position();
+            log.force();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, CAPACITY), tail);
+        }
+
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            assertEquals(tail, log.position());
+            assertEquals(1, log.roomCount());
+        }
+    }
+
+    @Test
+    void compactionKeepsLiveRecordsAndDropsRemovedRooms() throws IOException {
+        Path file = dir.resolve("rooms.log");
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            GameRoom kept = room("R1");
+            for (int turn = 0; turn < 20; turn++) {
+                kept.setCurrentTurnIndex(turn % 2);
+                log.appendState(kept);
+            }
+            log.appendWord("R1", "사과");
+            log.appendWord("R1", "과자");
+            log.appendState(room("R2"));
+            log.appendWord("R2", "바다");
+            log.appendRemoved("R2");
+
+            int before = log.position();
+            long live = log.liveBytes();
+            assertTrue(log.compactIfWasteful(0));
+            assertEquals(1, log.compactionCount());
+            assertEquals(RoomSnapshotLog.FILE_HEADER_BYTES + live, log.position());
+            assertTrue(log.position() < before);
+
+            // 교체된 파일에 이어서 쓴다
+            log.appendWord("R1", "자두");
+            log.force();
+        }
+
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            List<RoomSnapshot> rooms = log.rooms();
+            assertEquals(1, rooms.size());
+            assertEquals("R1", rooms.get(0).getRoomId());
+            assertEquals(1, rooms.get(0).getCurrentTurnIndex());
+            assertEquals(List.of("사과", "과자", "자두"), rooms.get(0).getUsedWords());
+        }
+    }
+
+    @Test
+    void appendGrowsTheMappingInsteadOfCompacting() throws IOException {
+        Path file = dir.resolve("rooms.log");
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, 256)) {
+            GameRoom room = room("R1");
+            for (int i = 0; i < 50; i++) {
+                log.appendState(room);
+            }
+            assertTrue(log.growthCount() > 0);
+            assertEquals(0, log.compactionCount());
+
+            // flush 스레드 쪽: 죽은 레코드가 대부분이므로 키우지 않고 compaction
+            assertTrue(log.ensureHeadroom(1 << 16));
+            assertEquals(1, log.compactionCount());
+            assertEquals(1, log.roomCount());
+        }
+    }
+
+    @Test
+    void refusesSecondOpenOfTheSameLog() throws IOException {
+        Path file = dir.resolve("rooms.log");
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            log.appendState(room("R1"));
+            assertThrows(IOException.class, () -> RoomSnapshotLog.open(file, CAPACITY));
+        }
+        // 닫은 뒤에는 다시 열 수 있다
+        try (RoomSnapshotLog log = RoomSnapshotLog.open(file, CAPACITY)) {
+            assertEquals(1, log.roomCount());
+        }
+    }
+
+    private static GameRoom room(String roomId) {
+        GameRoom room = new GameRoom(roomId, "방 " + roomId, 4, 1);
+        room.addPlayer("u1", "유저1");
+        return room;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void opensWhenFailureRateReachesThresholdAfterMinimumCalls() {
+        CircuitBreaker breaker = breaker(60_000);
+
+        breaker.onSuccess(FAST);
+        breaker.onFailure(FAST);
+        breaker.onFailure(FAST);
+        // 3개로는 판단하지 않음 (minimumCalls = 4)
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        breaker.onSuccess(FAST);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(1, breaker.getOpenedCount());
+    }
+
+    @Test
+    void staysClosedBelowFailureRate() {
+        CircuitBreaker breaker = breaker(60_000);
+
+        for (int i = 0; i < 8; i++) {
+            assertTrue(breaker.tryAcquire());
+            if (i % 4 == 0) breaker.onFailure(FAST);
+            else breaker.onSuccess(FAST);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void opensOnSlowCallRate() {
+        CircuitBreaker breaker = breaker(60_000);
+
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(SLOW);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void rejectsCallsWhileOpen() {
+        CircuitBreaker breaker = breaker(60_000);
+        open(breaker);
+
+        assertFalse(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(2, breaker.getNotPermittedCount());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void halfOpenAllowsOnlyTrialCallsThenClosesWhenAllSucceed() throws InterruptedException {
+        CircuitBreaker breaker = breaker(50);
+        open(breaker);
+        Thread.sleep(80);
+
+        // 시험 호출 2개만 허용
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess(FAST);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.onSuccess(FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        // 닫히면 이전 창은 비워진다: 실패 하나로 다시 열리지 않음
+        breaker.onFailure(FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void failedOrSlowTrialReopens() throws InterruptedException {
+        CircuitBreaker breaker = breaker(50);
+        open(breaker);
+        Thread.sleep(80);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure(FAST);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(2, breaker.getOpenedCount());
+        assertFalse(breaker.tryAcquire());
+
+        Thread.sleep(80);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess(SLOW);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(3, breaker.getOpenedCount());
+    }
+
+    @Test
+    void releaseReturnsTrialSlot() throws InterruptedException {
+        CircuitBreaker breaker = breaker(50);
+        open(breaker);
+        Thread.sleep(80);
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // 취소된 시험 호출은 결과로 치지 않고 자리만 돌려준다
+        breaker.release();
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    }
+
+    // 창 8, 최소 4회, 실패율 50%, 느린 호출 80% (100ms 이상), 시험 호출 2개
+    private static CircuitBreaker breaker(long openMillis) {
+        return new CircuitBreaker("test", 8, 4, 0.5, 0.8, 100, openMillis, 2);
+    }
+
+    private static void open(CircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(FAST);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+}
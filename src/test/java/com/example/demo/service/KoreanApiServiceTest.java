@@ -0,0 +1,112 @@
+package com.example.demo.service;
+
+import com.example.demo.metrics.GameMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KoreanApiServiceTest {
+
+    private static final String FOUND = "{\"channel\":{\"total\":1,\"item\":[{\"word\":\"사과\",\"sense\":{\"definition\":\"사과나무의 열매\"}}]}}";
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private WordValidationCache cache;
+    private volatile String body = FOUND; // 응답은 다른 스레드(Mono.delay)에서 만든다
+
+    @BeforeEach
+    void setUp() {
+        cache = new WordValidationCache(new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "maxSize", 1000);
+        ReflectionTestUtils.setField(cache, "positiveTtlMillis", 60_000L);
+        ReflectionTestUtils.setField(cache, "negativeTtlMillis", 60_000L);
+    }
+
+    @Test
+    void concurrentLookupsOfSameWordShareOneRemoteCall() {
+        KoreanApiService service = service();
+
+        // 첫 호출이 응답을 기다리는 동안 같은 단어 요청이 들어온다
+        Mono<Map<String, Object>> first = service.validateWordAsync("사과");
+        Mono<Map<String, Object>> second = service.validateWordAsync("사과");
+        Tuple2<Map<String, Object>, Map<String, Object>> results = Mono.zip(first, second).block(Duration.ofSeconds(5));
+
+        assertEquals(1, exchanges.get());
+        assertEquals(true, results.getT1().get("isValid"));
+        assertEquals("사과나무의 열매", results.getT2().get("definition"));
+        assertNotSame(results.getT1(), results.getT2());
+        assertEquals(1.0, registry.get("kkutu.stdict.coalesced").counter().count(), 0.0);
+
+        // 끝난 뒤에는 캐시에서 처리
+        assertEquals(true, service.validateWord("사과").get("isValid"));
+        assertEquals(1, exchanges.get());
+    }
+
+    @Test
+    void differentWordsAreNotCoalesced() {
+        KoreanApiService service = service();
+
+        Mono.zip(service.validateWordAsync("사과"), service.validateWordAsync("과자")).block(Duration.ofSeconds(5));
+
+        assertEquals(2, exchanges.get());
+        assertEquals(0.0, registry.get("kkutu.stdict.coalesced").counter().count(), 0.0);
+    }
+
+    @Test
+    void unusableResponseIsDegradedAndNotCached() {
+        KoreanApiService service = service();
+        // quota 초과 등 오류 응답: 200 이지만 channel.total 이 없다
+        body = "{\"error\":{\"error_code\":\"020\",\"message\":\"등록되지 않은 키\"}}";
+
+        Map<String, Object> result = service.validateWord("사과");
+        assertEquals(true, result.get("degraded"));
+        assertEquals(false, result.get("isValid"));
+        assertNull(service.getCachedValidation("사과"));
+
+        body = "<html>점검 중</html>";
+        assertEquals(true, service.validateWord("사과").get("degraded"));
+        assertEquals(2, exchanges.get());
+        assertEquals(2, service.getDegradedCount());
+        assertEquals(2.0, registry.get("kkutu.stdict.requests").tag("outcome", GameMetrics.STDICT_ERROR).timer().count(), 0.0);
+
+        // 판정 가능한 응답은 그대로 캐시
+        body = "{\"channel\":{\"total\":0}}";
+        assertEquals(false, service.validateWord("사과").get("isValid"));
+        assertEquals(false, service.getCachedValidation("사과").get("isValid"));
+    }
+
+    private KoreanApiService service() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    exchanges.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(100))
+                            .map(tick -> ClientResponse.create(HttpStatus.OK)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .body(body)
+                                    .build());
+                })
+                .build();
+        KoreanApiService service = new KoreanApiService(webClient, new ObjectMapper(), cache,
+                new GameMetrics(registry), null);
+        ReflectionTestUtils.setField(service, "apiKey", "test-key");
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StdictDispatcherTest {
+
+    private final List<Long> queueWaits = new CopyOnWriteArrayList<>();
+    private final List<Sinks.One<String>> calls = new ArrayList<>();
+    private final AtomicInteger started = new AtomicInteger();
+
+    @Test
+    void rejectsWithOverflowWhenRunningAndQueueAreFull() {
+        StdictDispatcher dispatcher = new StdictDispatcher(1, 1, queueWaits::add);
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        dispatcher.submit(call(), () -> "overflow").subscribe(results::add);
+        dispatcher.submit(call(), () -> "overflow").subscribe(results::add);
+        assertEquals(1, dispatcher.getActiveCount());
+        assertEquals(1, dispatcher.getQueuedCount());
+
+        // 실행 중 1 + 대기 1 = 가득 참 → 원격 호출 없이 바로 overflow
+        dispatcher.submit(call(), () -> "overflow").subscribe(results::add);
+        assertEquals(List.of("overflow"), results);
+        assertEquals(1, dispatcher.getRejectedCount());
+        assertEquals(1, started.get());
+
+        calls.get(0).tryEmitValue("first");
+        assertEquals(2, started.get());
+        assertEquals(1, dispatcher.getActiveCount());
+        assertEquals(0, dispatcher.getQueuedCount());
+
+        calls.get(1).tryEmitValue("second");
+        assertEquals(List.of("overflow", "first", "second"), results);
+        assertEquals(0, dispatcher.getActiveCount());
+        assertEquals(2, queueWaits.size());
+    }
+
+    @Test
+    void startsQueuedCallsInArrivalOrderAsSlotsFree() {
+        StdictDispatcher dispatcher = new StdictDispatcher(2, 10, queueWaits::add);
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.submit(call(), () -> "overflow").subscribe(results::add);
+        }
+        assertEquals(2, started.get());
+        assertEquals(3, dispatcher.getQueuedCount());
+
+        calls.get(1).tryEmitValue("b");
+        assertEquals(3, started.get());
+        calls.get(0).tryEmitValue("a");
+        calls.get(2).tryEmitValue("c");
+        calls.get(3).tryEmitValue("d");
+        calls.get(4).tryEmitValue("e");
+
+        assertEquals(List.of("b", "a", "c", "d", "e"), results);
+        assertEquals(0, dispatcher.getActiveCount());
+        assertEquals(0, dispatcher.getRejectedCount());
+    }
+
+    @Test
+    void failedOrThrowingCallFreesItsSlot() {
+        StdictDispatcher dispatcher = new StdictDispatcher(1, 10, queueWaits::add);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        dispatcher.submit(call(), () -> "overflow").subscribe(results::add, errors::add);
+        dispatcher.<String>submit(() -> { throw new IllegalStateException("no client"); }, () -> "overflow")
+                .subscribe(results::add, errors::add);
+        dispatcher.submit(call(), () -> "overflow").subscribe(results::add, errors::add);
+
+        calls.get(0).tryEmitError(new IllegalStateException("remote failed"));
+        assertEquals(2, errors.size());
+        assertEquals(2, started.get());
+
+        calls.get(1).tryEmitValue("ok");
+        assertEquals(List.of("ok"), results);
+        assertEquals(0, dispatcher.getActiveCount());
+    }
+
+    @Test
+    void skipsCallCancelledWhileQueued() {
+        StdictDispatcher dispatcher = new StdictDispatcher(1, 10, queueWaits::add);
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        dispatcher.submit(call(), () -> "overflow").subscribe(results::add);
+        Disposable cancelled = dispatcher.submit(call(), () -> "overflow").subscribe(results::add);
+        dispatcher.submit(call(), () -> "overflow").subscribe(results::add);
+
+        cancelled.dispose();
+        calls.get(0).tryEmitValue("first");
+
+        // 취소된 두 번째는 시작하지 않고 세 번째가 바로 시작
+        assertEquals(2, started.get());
+        calls.get(1).tryEmitValue("third");
+        assertEquals(List.of("first", "third"), results);
+        assertEquals(0, dispatcher.getActiveCount());
+        assertEquals(0, dispatcher.getQueuedCount());
+    }
+
+    @Test
+    void cancellingStartedCallCancelsRemoteCallAndFreesSlot() {
+        StdictDispatcher dispatcher = new StdictDispatcher(1, 10, queueWaits::add);
+        List<String> results = new CopyOnWriteArrayList<>();
+        AtomicInteger remoteCancels = new AtomicInteger();
+
+        Disposable running = dispatcher.<String>submit(() -> {
+            started.incrementAndGet();
+            return Mono.<String>never().doOnCancel(remoteCancels::incrementAndGet);
+        }, () -> "overflow").subscribe(results::add);
+        dispatcher.submit(call(), () -> "overflow").subscribe(results::add);
+        assertEquals(1, dispatcher.getActiveCount());
+        assertEquals(1, dispatcher.getQueuedCount());
+
+        // 실행 중인 호출을 취소하면 원격 호출까지 취소되고, 자리가 나서 다음 요청이 시작된다
+        running.dispose();
+        assertEquals(1, remoteCancels.get());
+        assertEquals(2, started.get());
+        assertEquals(0, dispatcher.getQueuedCount());
+
+        calls.get(0).tryEmitValue("second");
+        assertEquals(List.of("second"), results);
+        assertEquals(0, dispatcher.getActiveCount());
+    }
+
+    @Test
+    void doesNothingUntilSubscribed() {
+        StdictDispatcher dispatcher = new StdictDispatcher(1, 1, queueWaits::add);
+
+        Mono<String> lazy = dispatcher.submit(call(), () -> "overflow");
+        assertEquals(0, started.get());
+        assertEquals(0, dispatcher.getQueuedCount());
+
+        lazy.subscribe();
+        assertEquals(1, started.get());
+        assertTrue(queueWaits.get(0) >= 0);
+    }
+
+    // 시작될 때마다 새 sink 를 만들어 calls 에 순서대로 담는다 (테스트가 직접 완료시킴)
+    private Supplier<Mono<String>> call() {
+        return () -> {
+            started.incrementAndGet();
+            Sinks.One<String> sink = Sinks.one();
+            calls.add(sink);
+            return sink.asMono();
+        };
+    }
+}
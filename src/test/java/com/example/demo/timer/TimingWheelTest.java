@@ -0,0 +1,113 @@
+package com.example.demo.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    // 한 바퀴 = 10ms * 8칸 = 80ms
+    private final TimingWheel wheel = new TimingWheel("test-wheel", 10, 8);
+
+    @AfterEach
+    void stopWheel() {
+        wheel.stop();
+    }
+
+    @Test
+    void firesDeadlineSeveralRoundsAwayNotEarly() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicLong elapsedMillis = new AtomicLong();
+        long start = System.nanoTime();
+
+        // 250ms = 3바퀴 + 1칸 남짓: 같은 칸을 지나가는 앞 바퀴들에서 실행되면 안 된다
+        TimingWheel.Timeout timeout = wheel.schedule(() -> {
+            elapsedMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            fired.countDown();
+        }, 250);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(elapsedMillis.get() >= 250, "fired after " + elapsedMillis.get() + "ms");
+        assertTrue(timeout.isExpired());
+        assertEquals(0, wheel.pending());
+        assertEquals(1, wheel.expiredCount());
+    }
+
+    @Test
+    void firesInDeadlineOrderAcrossRounds() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(3);
+        StringBuffer order = new StringBuffer();
+
+        // 세 작업 모두 같은 칸 (10ms 칸 기준 나머지가 같음)
+        wheel.schedule(() -> { order.append('c'); fired.countDown(); }, 175);
+        wheel.schedule(() -> { order.append('a'); fired.countDown(); }, 15);
+        wheel.schedule(() -> { order.append('b'); fired.countDown(); }, 95);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertEquals("abc", order.toString());
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        TimingWheel.Timeout early = wheel.schedule(runs::incrementAndGet, 30);
+        TimingWheel.Timeout late = wheel.schedule(runs::incrementAndGet, 150);
+
+        // 하나는 칸에 들어가기 전에, 하나는 칸에 들어간 뒤에 취소
+        assertTrue(early.cancel());
+        Thread.sleep(50);
+        assertTrue(late.cancel());
+        assertFalse(late.cancel());
+
+        Thread.sleep(250);
+        assertEquals(0, runs.get());
+        assertTrue(early.isCancelled());
+        assertTrue(late.isCancelled());
+        assertFalse(late.isExpired());
+        assertEquals(0, wheel.pending());
+        assertEquals(0, wheel.expiredCount());
+    }
+
+    @Test
+    void cancelAfterExpiryReturnsFalse() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        TimingWheel.Timeout timeout = wheel.schedule(fired::countDown, 10);
+
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.isCancelled());
+    }
+
+    @Test
+    void pastOrZeroDelayFiresOnNextTick() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(2);
+        long start = System.nanoTime();
+
+        wheel.schedule(fired::countDown, 0);
+        wheel.schedule(fired::countDown, -500);
+
+        // 정밀도는 1 tick: 몇 tick 안에 둘 다 실행되어야 한다
+        assertTrue(fired.await(200, TimeUnit.MILLISECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 200);
+        assertEquals(2, wheel.expiredCount());
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheWheel() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        wheel.schedule(() -> { throw new IllegalStateException("boom"); }, 10);
+        wheel.schedule(fired::countDown, 40);
+
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+        assertEquals(2, wheel.expiredCount());
+    }
+}